@@ -0,0 +1,18 @@
+package org.example.deuknetapplication.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청한 파일 범위(Range)를 제공할 수 없을 때 발생하는 예외
+ * 416 응답의 Content-Range 헤더에 쓸 전체 파일 길이를 가집니다 (알 수 없으면 -1).
+ */
+@Getter
+public class FileRangeNotSatisfiableException extends ApplicationException {
+
+    private final long totalLength;
+
+    public FileRangeNotSatisfiableException(String fileName, String range, long totalLength) {
+        super(416, "RANGE_NOT_SATISFIABLE", "요청한 범위를 제공할 수 없습니다: " + fileName + " (" + range + ")");
+        this.totalLength = totalLength;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.deuknetapplication.common.exception;
+
+/**
+ * 잘못되었거나 만료된 페이지 커서 예외
+ */
+public class InvalidCursorException extends ApplicationException {
+    public InvalidCursorException(String message) {
+        super(400, "INVALID_CURSOR", message);
+    }
+}
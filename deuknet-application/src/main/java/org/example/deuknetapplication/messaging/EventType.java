@@ -19,6 +19,7 @@ public enum EventType {
     POST_UPDATED("PostUpdated", "Post.Updated"),
     POST_PUBLISHED("PostPublished", "Post.Published"),
     POST_DELETED("PostDeleted", "Post.Deleted"),
+    POST_COUNTS_CHANGED("PostCountsChanged", "Post.CountsChanged"),  // 카운터만 변경 (PostCountProjection)
 
     // Comment 관련 이벤트
     COMMENT_CREATED("CommentCreated", "Comment.Created"),
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.deuknetapplication.port.out.repository.AuthorInfoEnrichable;
 import org.example.deuknetdomain.domain.comment.Comment;
 import org.example.deuknetdomain.domain.post.AuthorType;
 import org.example.deuknetdomain.domain.user.User;
@@ -18,7 +19,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class CommentResponse {
+public class CommentResponse implements AuthorInfoEnrichable {
 
     private UUID id;
     private UUID postId;
@@ -44,6 +45,27 @@ public class CommentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Domain 객체로부터 Response 생성 (작성자 정보는 UserRepository.enrichWithUserInfo로 채움)
+     */
+    public static CommentResponse from(Comment comment, boolean isAuthor) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getPostId(),
+                comment.getContent().getValue(),
+                comment.getAuthorId(),
+                null,
+                null,
+                null,
+                comment.getParentCommentId().orElse(null),
+                comment.isReply(),
+                comment.getAuthorType(),
+                isAuthor,
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+        );
+    }
+
     /**
      * Domain 객체와 User 정보로부터 Response 생성 (익명 댓글)
      */
@@ -1,6 +1,7 @@
 package org.example.deuknetapplication.port.in.file;
 
 import java.io.InputStream;
+import java.util.Optional;
 
 /**
  * 파일 다운로드 UseCase (in port)
@@ -11,15 +12,44 @@ public interface DownloadFileUseCase {
      * 파일 다운로드
      *
      * @param fileName 파일명
-     * @return 파일 다운로드 응답
+     * @param range HTTP Range 헤더 값 (단일 구간), 전체 파일이면 null
+     * @return 파일 다운로드 응답 (사용 후 스트림을 닫아야 함)
      */
-    FileDownloadResponse downloadFile(String fileName);
+    FileDownloadResponse downloadFile(String fileName, String range);
+
+    /**
+     * 저장소 직접 다운로드 URL 조회 (리다이렉트 제공 방식)
+     *
+     * @param fileName 파일명
+     * @return 리다이렉트 응답, 앱이 본문을 전달하는 방식이면 빈 값
+     */
+    Optional<FileRedirectResponse> findRedirect(String fileName);
 
     /**
      * 파일 다운로드 응답
+     *
+     * @param contentLength 본문 길이 (알 수 없으면 -1)
+     * @param contentRange 범위 응답의 Content-Range 값, 전체 본문이면 null
      */
     record FileDownloadResponse(
         InputStream inputStream,
-        String contentType
+        String contentType,
+        long contentLength,
+        String contentRange
+    ) {
+
+        public boolean isPartial() {
+            return contentRange != null;
+        }
+    }
+
+    /**
+     * 파일 리다이렉트 응답
+     *
+     * @param maxAgeSeconds 리다이렉트 응답 캐시 시간 (초)
+     */
+    record FileRedirectResponse(
+        String url,
+        long maxAgeSeconds
     ) {}
 }
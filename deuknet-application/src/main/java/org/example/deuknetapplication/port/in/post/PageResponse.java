@@ -4,6 +4,8 @@ import java.util.List;
 
 /**
  * 페이지네이션 응답
+ * <br>
+ * nextCursor: 다음 페이지를 조회할 때 전달하는 불투명 토큰 (커서 기반 조회를 지원하는 검색에서만 제공, 마지막 페이지면 null)
  */
 public class PageResponse<T> {
     private final List<T> content;
@@ -11,13 +13,19 @@ public class PageResponse<T> {
     private final int totalPages;
     private final int currentPage;
     private final int pageSize;
+    private final String nextCursor;
 
     public PageResponse(List<T> content, long totalElements, int currentPage, int pageSize) {
+        this(content, totalElements, currentPage, pageSize, null);
+    }
+
+    public PageResponse(List<T> content, long totalElements, int currentPage, int pageSize, String nextCursor) {
         this.content = content;
         this.totalElements = totalElements;
         this.currentPage = currentPage;
         this.pageSize = pageSize;
         this.totalPages = (int) Math.ceil((double) totalElements / pageSize);
+        this.nextCursor = nextCursor;
     }
 
     public List<T> getContent() {
@@ -39,4 +47,8 @@ public class PageResponse<T> {
     public int getPageSize() {
         return pageSize;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
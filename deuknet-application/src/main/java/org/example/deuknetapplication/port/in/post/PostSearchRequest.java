@@ -50,6 +50,12 @@ public class PostSearchRequest {
     @Builder.Default
     private int size = 10;
 
+    /**
+     * 페이지 커서 (이전 응답의 nextCursor)
+     * 지정하면 page 대신 커서 다음 위치부터 조회합니다 (무한 스크롤용, 깊은 페이지도 일정한 비용).
+     */
+    private String cursor;
+
     /**
      * 익명 게시물 포함 여부
      * - true: 익명 게시물 포함 요청 (권한 체크 후 적용)
@@ -90,4 +90,18 @@ public class PostSearchResponse implements AuthorInfoEnrichable {
         response.updatedAt = projection.getUpdatedAt();
         return response;
     }
+
+    /**
+     * 동일한 값을 가진 새 Response 생성
+     * 캐시된 결과에 사용자별 필드(isAuthor, 반응 여부 등)를 덧씌울 때 원본이 바뀌지 않도록 사용합니다.
+     */
+    public PostSearchResponse copy() {
+        return new PostSearchResponse(
+                id, title, content, authorId, authorUsername, authorDisplayName, authorType,
+                status, thumbnailImageUrl, categoryId, categoryName,
+                viewCount, commentCount, likeCount, dislikeCount,
+                hasUserLiked, hasUserDisliked, userLikeReactionId, userDislikeReactionId, isAuthor,
+                createdAt, updatedAt
+        );
+    }
 }
@@ -21,8 +21,9 @@ public interface SearchPostUseCase {
 
     /**
      * 카테고리별 개념글 조회 (좋아요 많은 글 상위 20개)
+     * cursor가 주어지면 page 대신 커서 다음 위치부터 조회
      */
-    PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size);
+    PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, String cursor);
 
     /**
      * 현재 로그인한 사용자의 게시글 조회 (익명 게시글 포함)
@@ -1,12 +1,13 @@
 package org.example.deuknetapplication.port.out.external.search;
 
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
 
 public interface PostProjectionCommandPort {
 
-    void indexPostDetail(String payloadJson);
+    void indexPostDetail(PostDetailProjection projection);
 
-    void updatePostCounts(String payloadJson);
+    void updatePostCounts(PostCountProjection projection);
 
     void deletePost(String postId);
 
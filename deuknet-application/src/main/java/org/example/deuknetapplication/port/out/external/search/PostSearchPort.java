@@ -10,6 +10,9 @@ import java.util.UUID;
 
 /**
  * 게시글 검색 Port (Elasticsearch)
+ * <br>
+ * 목록 조회는 page 기반과 cursor 기반을 모두 지원합니다.
+ * cursor가 주어지면 page는 무시되고, 응답의 nextCursor로 다음 페이지를 조회합니다.
  */
 public interface PostSearchPort {
 
@@ -46,9 +49,10 @@ public interface PostSearchPort {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param includeAnonymous 익명 게시물 포함 여부
+     * @param cursor 이전 페이지의 nextCursor (null이면 page 기준 조회)
      * @return 인기순 정렬된 검색 결과
      */
-    PageResponse<PostSearchResponse> searchByPopular(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous);
+    PageResponse<PostSearchResponse> searchByPopular(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor);
 
     /**
      * 관련성 검색 (검색어 기반 스코어 정렬)
@@ -60,9 +64,10 @@ public interface PostSearchPort {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param includeAnonymous 익명 게시물 포함 여부
+     * @param cursor 이전 페이지의 nextCursor (null이면 page 기준 조회)
      * @return 관련성 높은 순으로 정렬된 검색 결과
      */
-    PageResponse<PostSearchResponse> searchByRelevance(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous);
+    PageResponse<PostSearchResponse> searchByRelevance(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor);
 
     /**
      * 최신순 검색 (createdAt 내림차순)
@@ -73,9 +78,10 @@ public interface PostSearchPort {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param includeAnonymous 익명 게시물 포함 여부
+     * @param cursor 이전 페이지의 nextCursor (null이면 page 기준 조회)
      * @return 최신순 정렬된 검색 결과
      */
-    PageResponse<PostSearchResponse> searchByRecent(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous);
+    PageResponse<PostSearchResponse> searchByRecent(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor);
 
     /**
      * 검색어 자동완성 제안
@@ -93,9 +99,10 @@ public interface PostSearchPort {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param includeAnonymous 익명 게시물 포함 여부
+     * @param cursor 이전 페이지의 nextCursor (null이면 page 기준 조회)
      * @return 개념글 목록
      */
-    PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, boolean includeAnonymous);
+    PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, boolean includeAnonymous, String cursor);
 
     /**
      * 실시간 검색어 (실검) Top 10
@@ -0,0 +1,25 @@
+package org.example.deuknetapplication.port.out.external.storage;
+
+import java.io.InputStream;
+
+/**
+ * 저장소에서 연 파일 본문
+ *
+ * inputStream은 저장소 응답에 연결된 스트림이므로 반드시 닫아야 합니다.
+ *
+ * @param inputStream 파일 본문 스트림 (범위 요청이면 해당 구간만)
+ * @param contentType 파일 Content Type
+ * @param contentLength 본문 길이 (알 수 없으면 -1)
+ * @param contentRange 범위 응답의 Content-Range 값 (예: "bytes 0-1023/4096"), 전체 본문이면 null
+ */
+public record FileContent(
+        InputStream inputStream,
+        String contentType,
+        long contentLength,
+        String contentRange
+) {
+
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.deuknetapplication.port.out.external.storage;
+
+/**
+ * 저장소에서 파일을 직접 받을 수 있는 URL
+ *
+ * @param url 리다이렉트할 URL (서명 URL이면 만료 시각 포함)
+ * @param maxAgeSeconds 리다이렉트 응답을 캐싱해도 되는 시간 (초)
+ */
+public record FileRedirect(
+        String url,
+        long maxAgeSeconds
+) {
+}
@@ -1,6 +1,7 @@
 package org.example.deuknetapplication.port.out.external.storage;
 
 import java.io.InputStream;
+import java.util.Optional;
 
 /**
  * 파일 저장소 Port (out)
@@ -34,18 +35,22 @@ public interface FileStoragePort {
     String getFileUrl(String fileName);
 
     /**
-     * 파일 다운로드
+     * 파일 다운로드 (스트리밍)
+     * 본문을 메모리에 모으지 않고 저장소 응답 스트림을 그대로 반환합니다.
+     * Content Type은 본문과 같은 응답에서 함께 받습니다.
      *
      * @param fileName 파일 이름
-     * @return 파일 입력 스트림
+     * @param range HTTP Range 헤더 값 (단일 구간, 예: "bytes=0-1023"), 전체 파일이면 null
+     * @return 파일 본문 (사용 후 스트림을 닫아야 함)
      */
-    InputStream downloadFile(String fileName);
+    FileContent downloadFile(String fileName, String range);
 
     /**
-     * 파일 Content Type 조회
+     * 저장소에서 직접 받을 수 있는 리다이렉트 URL 조회
+     * 앱을 거치지 않는 제공 방식이 설정되지 않았으면 빈 값을 반환합니다.
      *
      * @param fileName 파일 이름
-     * @return Content Type
+     * @return 리다이렉트 URL과 캐시 시간
      */
-    String getContentType(String fileName);
+    Optional<FileRedirect> findRedirect(String fileName);
 }
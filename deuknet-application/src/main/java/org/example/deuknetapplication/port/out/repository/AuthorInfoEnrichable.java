@@ -16,4 +16,10 @@ public interface AuthorInfoEnrichable {
 
     void setAuthorUsername(String username);
     void setAuthorDisplayName(String displayName);
+
+    /**
+     * 아바타를 노출하는 응답(Comment 등)만 구현
+     */
+    default void setAuthorAvatarUrl(String avatarUrl) {
+    }
 }
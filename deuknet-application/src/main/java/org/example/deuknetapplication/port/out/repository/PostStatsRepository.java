@@ -0,0 +1,59 @@
+package org.example.deuknetapplication.port.out.repository;
+
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 통계(post_stats) 저장소
+ *
+ * 책임:
+ * - 댓글/좋아요/싫어요/조회수 카운터를 증분(UPSERT)으로 갱신
+ * - 게시글 통계를 한 행으로 조회 (reactions, comments 집계 없이)
+ *
+ * 참고:
+ * - 증분 메서드는 호출한 트랜잭션에 참여하므로 댓글/리액션 쓰기와 원자적으로 반영됩니다
+ * - 존재하지 않는 게시글에 대한 증분은 무시됩니다
+ */
+public interface PostStatsRepository {
+
+    /**
+     * 게시글 통계 조회
+     * 통계 행이 없으면 모든 카운터가 0인 통계를 반환합니다.
+     */
+    PostStats findByPostId(UUID postId);
+
+    /**
+     * 여러 게시글 통계 조회 (통계 행이 있는 게시글만 반환)
+     */
+    List<PostStats> findAllByPostIds(Collection<UUID> postIds);
+
+    void incrementCommentCount(UUID postId, long delta);
+
+    /**
+     * 리액션 카운터 증분
+     *
+     * @param reactionType LIKE, DISLIKE, VIEW
+     */
+    void incrementReactionCount(UUID postId, ReactionType reactionType, long delta);
+
+    /**
+     * 조회수 일괄 증분 (게시글 ID → 증가량)
+     */
+    void incrementViewCounts(Map<UUID, Long> deltas);
+
+    record PostStats(
+            UUID postId,
+            long commentCount,
+            long likeCount,
+            long dislikeCount,
+            long viewCount
+    ) {
+        public static PostStats empty(UUID postId) {
+            return new PostStats(postId, 0L, 0L, 0L, 0L);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.deuknetapplication.port.out.repository;
 import org.example.deuknetdomain.domain.reaction.Reaction;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,4 +41,20 @@ public interface ReactionRepository {
      * 최신순으로 정렬
      */
     List<UUID> findLikedPostIdsByUserId(UUID userId);
+
+    /**
+     * 특정 사용자가 여러 게시글에 남긴 LIKE/DISLIKE 조회 (목록 페이지용)
+     * 최근 활동한 사용자는 메모리의 사용자별 반응 집합에서 바로 응답하고, 그 외에는 한 번의 쿼리로 조회합니다.
+     */
+    List<UserReaction> findByUserIdAndTargetIds(UUID userId, Collection<UUID> targetIds);
+
+    /**
+     * 사용자의 게시글 반응 (hasUserLiked/hasUserDisliked, 취소용 reaction ID 표시용)
+     */
+    record UserReaction(
+            UUID id,
+            UUID targetId,
+            ReactionType reactionType
+    ) {
+    }
 }
@@ -5,6 +5,7 @@ import org.example.deuknetdomain.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +15,19 @@ public interface UserRepository {
     Optional<User> findById(UUID id);
     Optional<User> findByUsername(String username);
     Page<User> findAll(Pageable pageable);
+
+    /**
+     * access token 버전 증가 (이전에 발급된 access token 무효화)
+     * 권한 관련 정보가 바뀌었을 때 호출합니다.
+     */
+    void incrementTokenVersion(UUID userId);
+
+    /**
+     * 현재 access token 버전 조회 (캐시 사용, 다른 인스턴스의 변경은 캐시 TTL 안에 반영)
+     *
+     * @return 사용자가 없으면 empty
+     */
+    Optional<Long> findTokenVersion(UUID userId);
     Page<User> searchByKeyword(String keyword, Pageable pageable);
 
     /**
@@ -25,6 +39,14 @@ public interface UserRepository {
      */
     void enrichWithUserInfo(AuthorInfoEnrichable response);
 
+    /**
+     * 목록용 User 정보 일괄 enrichment
+     * 단건 enrichWithUserInfo와 같은 규칙으로 처리하되, 실명 작성자 정보는 캐시를 거쳐 최대 한 번의 쿼리로 조회합니다.
+     *
+     * @param responses 작성자 정보를 설정할 응답 객체 목록
+     */
+    void enrichWithUserInfo(List<? extends AuthorInfoEnrichable> responses);
+
     /**
      * Comment용 User 정보 enrichment
      * ANONYMOUS인 경우: authorId를 null로 설정하고 "익명"으로 표시
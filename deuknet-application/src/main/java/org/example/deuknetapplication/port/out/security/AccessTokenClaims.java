@@ -0,0 +1,22 @@
+package org.example.deuknetapplication.port.out.security;
+
+import org.example.deuknetdomain.domain.user.UserRole;
+
+import java.util.UUID;
+
+/**
+ * 검증된 access token의 claim
+ * 요청마다 User를 조회하지 않고 인가에 필요한 정보를 토큰에서 바로 얻기 위해 사용
+ *
+ * @param userId             사용자 ID (sub)
+ * @param role               발급 시점의 역할
+ * @param canAccessAnonymous 발급 시점의 익명 접근 권한
+ * @param tokenVersion       발급 시점의 토큰 버전 (현재 버전보다 작으면 폐기된 토큰)
+ */
+public record AccessTokenClaims(
+        UUID userId,
+        UserRole role,
+        boolean canAccessAnonymous,
+        long tokenVersion
+) {
+}
@@ -1,7 +1,24 @@
 package org.example.deuknetapplication.port.out.security;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CurrentUserPort {
+    /**
+     * 현재 사용자 ID (인증되지 않은 요청이면 ForbiddenException)
+     * 인증이 필수인 쓰기/내 정보 경로에서 사용
+     */
     UUID getCurrentUserId();
+
+    /**
+     * 현재 사용자 ID (인증되지 않은 요청이면 empty, 예외 없음)
+     * 비인증 사용자도 호출하는 조회 경로에서 사용
+     */
+    Optional<UUID> findCurrentUserId();
+
+    /**
+     * 현재 사용자의 익명 접근 권한 (access token claim 기준, DB 조회 없음)
+     * 인증되지 않은 요청이면 false
+     */
+    boolean canCurrentUserAccessAnonymous();
 }
@@ -1,13 +1,23 @@
 package org.example.deuknetapplication.port.out.security;
 
 import org.example.deuknetdomain.domain.auth.TokenPair;
+import org.example.deuknetdomain.domain.user.User;
 
 import java.util.UUID;
 
 public interface JwtPort {
-    String generateAccessToken(UUID userId);
+    /**
+     * 역할, 익명 접근 권한, 토큰 버전 claim을 포함한 access token 생성
+     */
+    String generateAccessToken(User user);
     String generateRefreshToken(UUID userId);
     UUID validateToken(String token);
+
+    /**
+     * access token 검증 후 claim 반환
+     * refresh token이거나 권한 claim이 없는 이전 형식의 토큰이면 InvalidTokenException
+     */
+    AccessTokenClaims parseAccessToken(String token);
     boolean isRefreshToken(String token);
-    TokenPair createTokenPair(UUID userId);
+    TokenPair createTokenPair(User user);
 }
@@ -0,0 +1,24 @@
+package org.example.deuknetapplication.port.out.view;
+
+import java.util.UUID;
+
+/**
+ * 게시글 조회수 기록 포트
+ *
+ * 책임:
+ * - 조회 이벤트를 받아 사용자별 중복을 제거한 뒤 조회수에 반영
+ *
+ * 참고:
+ * - 구현체는 조회수를 메모리에 모아두었다가 주기적으로 post_stats.view_count에 일괄 반영합니다 (write-behind)
+ * - 호출 시점에 DB 쓰기가 일어나지 않으므로 즉시 반영을 보장하지 않습니다
+ */
+public interface PostViewCountPort {
+
+    /**
+     * 조회 기록
+     *
+     * @param postId 조회한 게시글 ID
+     * @param userId 조회한 사용자 ID (중복 제거 기준)
+     */
+    void recordView(UUID postId, UUID userId);
+}
@@ -0,0 +1,48 @@
+package org.example.deuknetapplication.projection.post;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import org.example.deuknetdomain.common.seedwork.Projection;
+
+import java.util.UUID;
+
+/**
+ * 게시글 카운터 변경용 Projection
+ *
+ * 댓글/리액션 변경 시 전체 PostDetailProjection(본문 포함) 대신 변경된 카운터만 전달합니다.
+ * null인 카운터는 직렬화되지 않으며, 검색 문서에서도 갱신되지 않습니다.
+ *
+ * 참고:
+ * - 카운터 값은 증가량이 아닌 post_stats의 현재 값입니다 (CDC 재처리 시에도 멱등)
+ */
+@Getter
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostCountProjection extends Projection {
+
+    private final Long commentCount;
+    private final Long likeCount;
+    private final Long dislikeCount;
+    private final Long viewCount;
+
+    @Builder
+    @JsonCreator
+    public PostCountProjection(
+            @JsonProperty("id") UUID id,
+            @JsonProperty("commentCount") Long commentCount,
+            @JsonProperty("likeCount") Long likeCount,
+            @JsonProperty("dislikeCount") Long dislikeCount,
+            @JsonProperty("viewCount") Long viewCount) {
+        super(id);
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.viewCount = viewCount;
+    }
+}
@@ -6,6 +6,7 @@ import org.example.deuknetapplication.port.out.external.OAuthStateManagerPort;
 import org.example.deuknetapplication.port.out.repository.AuthCredentialRepository;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.JwtPort;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.vo.Email;
 import org.example.deuknetdomain.domain.auth.AuthCredential;
 import org.example.deuknetdomain.domain.auth.AuthProvider;
@@ -76,11 +77,11 @@ public class OAuthCallbackService implements OAuthCallbackUseCase {
                 provider,
                 user.getDisplayName());
 
-        return jwtPort.createTokenPair(user.getId());
+        return jwtPort.createTokenPair(user);
     }
 
     private AuthCredential createNewUser(OAuthUserInfo oAuthUserInfo, Email email) {
-        UUID tempUserId = UUID.randomUUID();
+        UUID tempUserId = IdGenerator.newId();
         AuthCredential authCredential = AuthCredential.create(
                 tempUserId,
                 oAuthUserInfo.provider(),
@@ -1,9 +1,11 @@
 package org.example.deuknetapplication.service.auth;
 
 import org.example.deuknetapplication.port.in.auth.RefreshTokenUseCase;
+import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.JwtPort;
 import org.example.deuknetdomain.domain.auth.exception.InvalidRefreshTokenException;
 import org.example.deuknetdomain.domain.auth.TokenPair;
+import org.example.deuknetdomain.domain.user.User;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -12,9 +14,11 @@ import java.util.UUID;
 public class RefreshTokenService implements RefreshTokenUseCase {
 
     private final JwtPort jwtPort;
+    private final UserRepository userRepository;
 
-    public RefreshTokenService(JwtPort jwtPort) {
+    public RefreshTokenService(JwtPort jwtPort, UserRepository userRepository) {
         this.jwtPort = jwtPort;
+        this.userRepository = userRepository;
     }
 
     @Override
@@ -25,8 +29,12 @@ public class RefreshTokenService implements RefreshTokenUseCase {
 
         UUID userId = jwtPort.validateToken(refreshToken);
 
+        // 최신 권한(role, 익명 접근, 토큰 버전)을 claim에 담기 위해 User 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
         // 새로운 access token만 생성하고, refresh token은 재발급하지 않음
-        String newAccessToken = jwtPort.generateAccessToken(userId);
+        String newAccessToken = jwtPort.generateAccessToken(user);
         return new TokenPair(newAccessToken, refreshToken);
     }
 }
@@ -51,10 +51,17 @@ public class GrantCategoryOwnershipService implements GrantCategoryOwnershipUseC
         validateGrantPermission(category, currentUser);
 
         // 5. 소유권 부여
+        UUID previousOwnerId = category.getOwnerId();
         category.updateOwnerId(targetUserId);
 
         // 6. 저장
         categoryRepository.save(category);
+
+        // 7. 권한이 바뀐 사용자의 이전 access token 무효화
+        userRepository.incrementTokenVersion(targetUserId);
+        if (previousOwnerId != null && !previousOwnerId.equals(targetUserId)) {
+            userRepository.incrementTokenVersion(previousOwnerId);
+        }
     }
 
     /**
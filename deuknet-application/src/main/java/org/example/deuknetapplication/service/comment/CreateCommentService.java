@@ -7,17 +7,16 @@ import org.example.deuknetapplication.port.in.comment.CreateCommentUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
 import org.example.deuknetapplication.port.out.repository.CommentRepository;
 import org.example.deuknetapplication.port.out.repository.PostRepository;
-import org.example.deuknetapplication.port.out.repository.ReactionRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
-import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.service.post.PostProjectionFactory;
 import org.example.deuknetdomain.common.vo.Content;
 import org.example.deuknetdomain.domain.comment.Comment;
 import org.example.deuknetdomain.domain.permission.exception.AnonymousAccessDeniedException;
 import org.example.deuknetdomain.domain.post.AuthorType;
-import org.example.deuknetdomain.domain.post.Post;
-import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.example.deuknetdomain.domain.user.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +40,7 @@ public class CreateCommentService implements CreateCommentUseCase {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final ReactionRepository reactionRepository;
+    private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
     private final CurrentUserPort currentUserPort;
     private final DataChangeEventPublisher dataChangeEventPublisher;
@@ -50,7 +49,7 @@ public class CreateCommentService implements CreateCommentUseCase {
     public CreateCommentService(
             CommentRepository commentRepository,
             PostRepository postRepository,
-            ReactionRepository reactionRepository,
+            PostStatsRepository postStatsRepository,
             UserRepository userRepository,
             CurrentUserPort currentUserPort,
             DataChangeEventPublisher dataChangeEventPublisher,
@@ -58,7 +57,7 @@ public class CreateCommentService implements CreateCommentUseCase {
     ) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
-        this.reactionRepository = reactionRepository;
+        this.postStatsRepository = postStatsRepository;
         this.userRepository = userRepository;
         this.currentUserPort = currentUserPort;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
@@ -73,8 +72,9 @@ public class CreateCommentService implements CreateCommentUseCase {
         // 2. 익명 댓글 권한 검증
         validateAnonymousAccess(author, request.getAuthorType());
 
-        // 3. Comment Aggregate 생성 및 저장
+        // 3. Comment Aggregate 생성 및 저장 (댓글 수는 같은 트랜잭션에서 증분)
         Comment comment = createCommentAggregate(request, author.getId());
+        postStatsRepository.incrementCommentCount(comment.getPostId(), 1);
 
         // 4. 이벤트 발행 (Outbox Pattern)
         publishCommentCreatedEvent(comment, author);
@@ -114,6 +114,10 @@ public class CreateCommentService implements CreateCommentUseCase {
      * Comment Aggregate 생성 및 저장 (SRP: Comment 생성 책임 분리)
      */
     private Comment createCommentAggregate(CreateCommentApplicationRequest request, UUID authorId) {
+        if (postRepository.findById(request.getPostId()).isEmpty()) {
+            throw new ResourceNotFoundException();
+        }
+
         Comment comment = Comment.create(
                 request.getPostId(),
                 authorId,
@@ -126,26 +130,12 @@ public class CreateCommentService implements CreateCommentUseCase {
 
     /**
      * CommentCreated 이벤트 발행 (SRP: 이벤트 발행 책임 분리)
-     * Comment는 CQRS를 사용하지 않으므로 PostDetailProjection만 발행
+     * Comment는 CQRS를 사용하지 않으므로 게시글 카운터(PostCountProjection)만 발행
      */
     private void publishCommentCreatedEvent(Comment comment, User author) {
-        // PostDetailProjection 발행 (댓글 수 업데이트)
-        Post post = postRepository.findById(comment.getPostId())
-                .orElseThrow(ResourceNotFoundException::new);
-
-        long commentCount = commentRepository.countByPostId(comment.getPostId());
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(comment.getPostId(), ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(comment.getPostId(), ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(comment.getPostId(), ReactionType.VIEW);
-
-        PostDetailProjection detailProjection = projectionFactory.createDetailProjectionForUpdate(
-                post,
-                post.getCategoryId(),
-                commentCount,
-                likeCount,
-                dislikeCount,
-                viewCount
-        );
-        dataChangeEventPublisher.publish(EventType.POST_UPDATED, comment.getPostId(), detailProjection);
+        // 댓글 수만 검색 문서에 반영 (본문 재색인 없음)
+        PostStats stats = postStatsRepository.findByPostId(comment.getPostId());
+        PostCountProjection countProjection = projectionFactory.createCommentCountProjection(stats);
+        dataChangeEventPublisher.publish(EventType.POST_COUNTS_CHANGED, comment.getPostId(), countProjection);
     }
 }
@@ -6,14 +6,12 @@ import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.in.comment.DeleteCommentUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
 import org.example.deuknetapplication.port.out.repository.CommentRepository;
-import org.example.deuknetapplication.port.out.repository.PostRepository;
-import org.example.deuknetapplication.port.out.repository.ReactionRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
-import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.service.post.PostProjectionFactory;
 import org.example.deuknetdomain.domain.comment.Comment;
-import org.example.deuknetdomain.domain.post.Post;
-import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,23 +30,20 @@ import java.util.UUID;
 public class DeleteCommentService implements DeleteCommentUseCase {
 
     private final CommentRepository commentRepository;
-    private final PostRepository postRepository;
-    private final ReactionRepository reactionRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CurrentUserPort currentUserPort;
     private final DataChangeEventPublisher dataChangeEventPublisher;
     private final PostProjectionFactory projectionFactory;
 
     public DeleteCommentService(
             CommentRepository commentRepository,
-            PostRepository postRepository,
-            ReactionRepository reactionRepository,
+            PostStatsRepository postStatsRepository,
             CurrentUserPort currentUserPort,
             DataChangeEventPublisher dataChangeEventPublisher,
             PostProjectionFactory projectionFactory
     ) {
         this.commentRepository = commentRepository;
-        this.postRepository = postRepository;
-        this.reactionRepository = reactionRepository;
+        this.postStatsRepository = postStatsRepository;
         this.currentUserPort = currentUserPort;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
         this.projectionFactory = projectionFactory;
@@ -85,33 +80,21 @@ public class DeleteCommentService implements DeleteCommentUseCase {
 
     /**
      * Comment 삭제 (SRP: Comment 삭제 책임 분리)
+     * 댓글 수는 같은 트랜잭션에서 감소시킵니다.
      */
     private void deleteCommentAggregate(Comment comment) {
         commentRepository.delete(comment);
+        postStatsRepository.incrementCommentCount(comment.getPostId(), -1);
     }
 
     /**
      * CommentDeleted 이벤트 발행 (SRP: 이벤트 발행 책임 분리)
-     * Comment는 CQRS를 사용하지 않으므로 PostDetailProjection만 발행
+     * Comment는 CQRS를 사용하지 않으므로 게시글 카운터(PostCountProjection)만 발행
      */
     private void publishCommentDeletedEvent(UUID commentId, UUID postId) {
-        // PostDetailProjection 발행 (댓글 수 업데이트)
-        Post post = postRepository.findById(postId)
-                .orElseThrow(ResourceNotFoundException::new);
-
-        long commentCount = commentRepository.countByPostId(postId);
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(postId, ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(postId, ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(postId, ReactionType.VIEW);
-
-        PostDetailProjection detailProjection = projectionFactory.createDetailProjectionForUpdate(
-                post,
-                post.getCategoryId(),
-                commentCount,
-                likeCount,
-                dislikeCount,
-                viewCount
-        );
-        dataChangeEventPublisher.publish(EventType.POST_UPDATED, postId, detailProjection);
+        // 댓글 수만 검색 문서에 반영 (본문 재색인 없음)
+        PostStats stats = postStatsRepository.findByPostId(postId);
+        PostCountProjection countProjection = projectionFactory.createCommentCountProjection(stats);
+        dataChangeEventPublisher.publish(EventType.POST_COUNTS_CHANGED, postId, countProjection);
     }
 }
@@ -7,7 +7,6 @@ import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
 import org.example.deuknetdomain.domain.comment.Comment;
 import org.example.deuknetdomain.domain.post.AuthorType;
-import org.example.deuknetdomain.domain.user.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,46 +47,21 @@ public class GetCommentsService implements GetCommentsUseCase {
         // 익명 조회 권한이 없으면 익명 댓글 필터링
         boolean canAccessAnonymous = hasAnonymousAccessPermission();
 
-        return comments.stream()
+        UUID currentUserId = currentUserPort.findCurrentUserId().orElse(null);
+        List<CommentResponse> responses = comments.stream()
                 .filter(comment -> canAccessAnonymous || !AuthorType.ANONYMOUS.equals(comment.getAuthorType()))
-                .map(this::toResponse)
+                .map(comment -> CommentResponse.from(comment, comment.getAuthorId().equals(currentUserId)))
                 .collect(Collectors.toList());
+
+        // 작성자 정보 일괄 설정 (익명이면 authorId를 null로 마스킹)
+        userRepository.enrichWithUserInfo(responses);
+        return responses;
     }
 
     /**
-     * 현재 사용자의 익명 조회 권한 확인
+     * 현재 사용자의 익명 조회 권한 확인 (토큰 claim 기준, 비인증 사용자는 false)
      */
     private boolean hasAnonymousAccessPermission() {
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            User user = userRepository.findById(currentUserId).orElse(null);
-            return user != null && user.isCanAccessAnonymous();
-        } catch (Exception e) {
-            // 비인증 사용자는 익명 조회 불가
-            return false;
-        }
-    }
-
-    private CommentResponse toResponse(Comment comment) {
-        // 1. 현재 사용자가 작성자인지 확인
-        boolean isAuthor = isCurrentUserAuthor(comment);
-
-        // 2. 익명 여부에 따라 정적 팩토리 메서드 사용
-        if (comment.getAuthorType() == AuthorType.ANONYMOUS) {
-            return CommentResponse.fromAnonymous(comment, isAuthor);
-        } else {
-            User author = userRepository.findById(comment.getAuthorId()).orElse(null);
-            return CommentResponse.from(comment, author, isAuthor);
-        }
-    }
-
-    private boolean isCurrentUserAuthor(Comment comment) {
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            return comment.getAuthorId().equals(currentUserId);
-        } catch (Exception e) {
-            // 인증되지 않은 사용자
-            return false;
-        }
+        return currentUserPort.canCurrentUserAccessAnonymous();
     }
 }
@@ -2,13 +2,17 @@ package org.example.deuknetapplication.service.file;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.common.exception.ApplicationException;
 import org.example.deuknetapplication.common.exception.FileNotFoundException;
 import org.example.deuknetapplication.common.exception.InvalidFileException;
 import org.example.deuknetapplication.port.in.file.DownloadFileUseCase;
+import org.example.deuknetapplication.port.out.external.storage.FileContent;
 import org.example.deuknetapplication.port.out.external.storage.FileStoragePort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 파일 다운로드 Service
 
@@ -30,23 +34,40 @@ public class FileDownloadService implements DownloadFileUseCase {
     private final FileStoragePort fileStoragePort;
 
     @Override
-    public FileDownloadResponse downloadFile(String fileName) {
+    public FileDownloadResponse downloadFile(String fileName, String range) {
         // 파일명 검증 (경로 탐색 공격 방지)
         validateFileName(fileName);
 
         try {
-            String contentType = fileStoragePort.getContentType(fileName);
+            FileContent content = fileStoragePort.downloadFile(fileName, range);
 
             return new FileDownloadResponse(
-                    fileStoragePort.downloadFile(fileName),
-                    contentType
+                    content.inputStream(),
+                    content.contentType(),
+                    content.contentLength(),
+                    content.contentRange()
             );
+        } catch (ApplicationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("파일 다운로드 중 오류 발생: {}", fileName, e);
             throw new FileNotFoundException(fileName, e);
         }
     }
 
+    @Override
+    public Optional<FileRedirectResponse> findRedirect(String fileName) {
+        validateFileName(fileName);
+
+        try {
+            return fileStoragePort.findRedirect(fileName)
+                    .map(redirect -> new FileRedirectResponse(redirect.url(), redirect.maxAgeSeconds()));
+        } catch (Exception e) {
+            log.error("파일 리다이렉트 URL 조회 중 오류 발생: {}", fileName, e);
+            throw new FileNotFoundException(fileName, e);
+        }
+    }
+
     /**
      * 파일명 검증
      * - 경로 탐색 공격 방지 (../ 등)
@@ -70,6 +70,9 @@ public class RequestAnonymousAccessService implements RequestAnonymousAccessUseC
         User updatedUser = user.grantAnonymousAccess();
         userRepository.save(updatedUser);
 
+        // 6. 이전 access token 무효화 (재발급 시 새 권한 claim 반영)
+        userRepository.incrementTokenVersion(user.getId());
+
         log.info("[ANONYMOUS_ACCESS_GRANTED] userId={}, username={}",
                 user.getId(), user.getUsername());
     }
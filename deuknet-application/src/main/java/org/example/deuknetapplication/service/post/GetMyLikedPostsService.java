@@ -7,7 +7,6 @@ import org.example.deuknetapplication.port.out.repository.PostRepository;
 import org.example.deuknetapplication.port.out.repository.ReactionRepository;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
-import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -60,58 +59,19 @@ public class GetMyLikedPostsService implements GetMyLikedPostsUseCase {
                 .map(PostSearchResponse::fromProjection)
                 .toList();
 
-        // 3. 각 게시글에 사용자 정보 enrichment
-        posts.forEach(post -> enrichPostResponse(post, currentUserId));
-
-        log.debug("Successfully fetched {} liked posts out of {} total", posts.size(), totalElements);
-        return new PageResponse<>(posts, totalElements, page, size);
-    }
-
-    /**
-     * 게시글 응답 enrichment (isAuthor 체크 → User 정보 설정)
-     */
-    private void enrichPostResponse(PostSearchResponse response, UUID currentUserId) {
-        // 1. 작성자 여부 확인 (익명 게시물도 authorId로 확인 가능)
-        response.setIsAuthor(
-                Optional.ofNullable(response.getAuthorId())
+        // 3. 작성자 여부, 좋아요/싫어요 상태(한 번의 조회), 사용자 정보 일괄 설정
+        posts.forEach(post -> post.setIsAuthor(
+                Optional.ofNullable(post.getAuthorId())
                         .map(authorId -> authorId.equals(currentUserId))
                         .orElse(false)
-        );
+        ));
+        if (!posts.isEmpty()) {
+            List<UUID> postIds = posts.stream().map(PostSearchResponse::getId).toList();
+            UserReactionStates.apply(posts, reactionRepository.findByUserIdAndTargetIds(currentUserId, postIds));
+        }
+        userRepository.enrichWithUserInfo(posts);
 
-        // 2. 좋아요/싫어요 정보 설정 (이미 좋아요 누른 게시글이므로 hasUserLiked=true)
-        var reactions = reactionRepository.findByTargetIdAndUserId(response.getId(), currentUserId);
-
-        // LIKE reaction 처리
-        reactions.stream()
-                .filter(reaction -> reaction.getReactionType() == ReactionType.LIKE)
-                .findFirst()
-                .ifPresentOrElse(
-                        like -> {
-                            response.setHasUserLiked(true);
-                            response.setUserLikeReactionId(like.getId());
-                        },
-                        () -> {
-                            response.setHasUserLiked(false);
-                            response.setUserLikeReactionId(null);
-                        }
-                );
-
-        // DISLIKE reaction 처리
-        reactions.stream()
-                .filter(reaction -> reaction.getReactionType() == ReactionType.DISLIKE)
-                .findFirst()
-                .ifPresentOrElse(
-                        dislike -> {
-                            response.setHasUserDisliked(true);
-                            response.setUserDislikeReactionId(dislike.getId());
-                        },
-                        () -> {
-                            response.setHasUserDisliked(false);
-                            response.setUserDislikeReactionId(null);
-                        }
-                );
-
-        // 3. User 정보 enrichment (익명이면 authorId를 null로 마스킹)
-        userRepository.enrichWithUserInfo(response);
+        log.debug("Successfully fetched {} liked posts out of {} total", posts.size(), totalElements);
+        return new PageResponse<>(posts, totalElements, page, size);
     }
 }
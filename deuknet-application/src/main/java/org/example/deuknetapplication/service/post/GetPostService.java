@@ -11,7 +11,6 @@ import org.example.deuknetdomain.domain.permission.exception.AnonymousAccessDeni
 import org.example.deuknetdomain.domain.post.AuthorType;
 import org.example.deuknetdomain.domain.post.exception.PostNotFoundException;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
-import org.example.deuknetdomain.domain.user.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -74,23 +73,20 @@ public class GetPostService implements GetPostUseCase {
             return; // 실명 게시물은 권한 체크 불필요
         }
 
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            User user = userRepository.findById(currentUserId).orElse(null);
-
-            if (user == null || !user.isCanAccessAnonymous()) {
-                log.warn("[ANONYMOUS_ACCESS_DENIED] userId={}, postId={}, attempted to view anonymous post without permission",
-                        currentUserId, response.getId());
-                throw new AnonymousAccessDeniedException();
-            }
-        } catch (AnonymousAccessDeniedException e) {
-            throw e;
-        } catch (Exception e) {
+        Optional<UUID> currentUserId = currentUserPort.findCurrentUserId();
+        if (currentUserId.isEmpty()) {
             // 비인증 사용자가 익명 게시물 조회 시도
             log.warn("[ANONYMOUS_ACCESS_DENIED] Unauthenticated user attempted to view anonymous post: postId={}",
                     response.getId());
             throw new AnonymousAccessDeniedException();
         }
+
+        // 토큰 claim 기준 권한 확인 (User 조회 없음)
+        if (!currentUserPort.canCurrentUserAccessAnonymous()) {
+            log.warn("[ANONYMOUS_ACCESS_DENIED] userId={}, postId={}, attempted to view anonymous post without permission",
+                    currentUserId.get(), response.getId());
+            throw new AnonymousAccessDeniedException();
+        }
     }
 
     /**
@@ -117,52 +113,53 @@ public class GetPostService implements GetPostUseCase {
     }
 
     private void enrichWithUserReaction(PostSearchResponse response, UUID postId) {
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-
-            // 작성자 여부 확인 (익명 게시물도 authorId로 확인 가능)
-            response.setIsAuthor(
-                    Optional.ofNullable(response.getAuthorId())
-                            .map(authorId -> authorId.equals(currentUserId))
-                            .orElse(false)
-            );
-
-            // 한 번의 쿼리로 모든 reaction 조회 (LIKE, DISLIKE 포함)
-            var reactions = reactionRepository.findByTargetIdAndUserId(postId, currentUserId);
-
-            // LIKE reaction 처리
-            reactions.stream()
-                    .filter(reaction -> reaction.getReactionType() == ReactionType.LIKE)
-                    .findFirst()
-                    .ifPresentOrElse(
-                            like -> {
-                                response.setHasUserLiked(true);
-                                response.setUserLikeReactionId(like.getId());
-                            },
-                            () -> {
-                                response.setHasUserLiked(false);
-                                response.setUserLikeReactionId(null);
-                            }
-                    );
-
-            // DISLIKE reaction 처리
-            reactions.stream()
-                    .filter(reaction -> reaction.getReactionType() == ReactionType.DISLIKE)
-                    .findFirst()
-                    .ifPresentOrElse(
-                            dislike -> {
-                                response.setHasUserDisliked(true);
-                                response.setUserDislikeReactionId(dislike.getId());
-                            },
-                            () -> {
-                                response.setHasUserDisliked(false);
-                                response.setUserDislikeReactionId(null);
-                            }
-                    );
-        } catch (Exception e) {
-            // 인증되지 않은 사용자 (ForbiddenException 등)
+        Optional<UUID> currentUser = currentUserPort.findCurrentUserId();
+        if (currentUser.isEmpty()) {
+            // 인증되지 않은 사용자
             setUnauthenticatedUserDefaults(response);
+            return;
         }
+        UUID currentUserId = currentUser.get();
+
+        // 작성자 여부 확인 (익명 게시물도 authorId로 확인 가능)
+        response.setIsAuthor(
+                Optional.ofNullable(response.getAuthorId())
+                        .map(authorId -> authorId.equals(currentUserId))
+                        .orElse(false)
+        );
+
+        // 한 번의 쿼리로 모든 reaction 조회 (LIKE, DISLIKE 포함)
+        var reactions = reactionRepository.findByTargetIdAndUserId(postId, currentUserId);
+
+        // LIKE reaction 처리
+        reactions.stream()
+                .filter(reaction -> reaction.getReactionType() == ReactionType.LIKE)
+                .findFirst()
+                .ifPresentOrElse(
+                        like -> {
+                            response.setHasUserLiked(true);
+                            response.setUserLikeReactionId(like.getId());
+                        },
+                        () -> {
+                            response.setHasUserLiked(false);
+                            response.setUserLikeReactionId(null);
+                        }
+                );
+
+        // DISLIKE reaction 처리
+        reactions.stream()
+                .filter(reaction -> reaction.getReactionType() == ReactionType.DISLIKE)
+                .findFirst()
+                .ifPresentOrElse(
+                        dislike -> {
+                            response.setHasUserDisliked(true);
+                            response.setUserDislikeReactionId(dislike.getId());
+                        },
+                        () -> {
+                            response.setHasUserDisliked(false);
+                            response.setUserDislikeReactionId(null);
+                        }
+                );
     }
 
     /**
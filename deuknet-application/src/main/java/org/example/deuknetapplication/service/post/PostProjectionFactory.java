@@ -1,5 +1,7 @@
 package org.example.deuknetapplication.service.post;
 
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
 import org.example.deuknetdomain.domain.post.Post;
 import org.springframework.stereotype.Component;
@@ -88,4 +90,31 @@ public class PostProjectionFactory {
                 .dislikeCount(dislikeCount)
                 .build();
     }
+
+    /**
+     * 리액션 변경 시 PostCountProjection 생성 (좋아요/싫어요 수만 포함)
+     *
+     * @param stats 변경이 반영된 게시글 통계
+     * @return PostCountProjection
+     */
+    public PostCountProjection createReactionCountProjection(PostStats stats) {
+        return PostCountProjection.builder()
+                .id(stats.postId())
+                .likeCount(stats.likeCount())
+                .dislikeCount(stats.dislikeCount())
+                .build();
+    }
+
+    /**
+     * 댓글 변경 시 PostCountProjection 생성 (댓글 수만 포함)
+     *
+     * @param stats 변경이 반영된 게시글 통계
+     * @return PostCountProjection
+     */
+    public PostCountProjection createCommentCountProjection(PostStats stats) {
+        return PostCountProjection.builder()
+                .id(stats.postId())
+                .commentCount(stats.commentCount())
+                .build();
+    }
 }
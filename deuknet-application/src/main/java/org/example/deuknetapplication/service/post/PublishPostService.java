@@ -5,14 +5,13 @@ import org.example.deuknetapplication.common.exception.ResourceNotFoundException
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.in.post.PublishPostUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
-import org.example.deuknetapplication.port.out.repository.CommentRepository;
 import org.example.deuknetapplication.port.out.repository.PostRepository;
-import org.example.deuknetapplication.port.out.repository.ReactionRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
 import org.example.deuknetdomain.domain.post.Post;
-import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.example.deuknetdomain.domain.user.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,8 +33,7 @@ public class PublishPostService implements PublishPostUseCase {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final ReactionRepository reactionRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CurrentUserPort currentUserPort;
     private final PostProjectionFactory postProjectionFactory;
     private final DataChangeEventPublisher dataChangeEventPublisher;
@@ -43,16 +41,14 @@ public class PublishPostService implements PublishPostUseCase {
     public PublishPostService(
             PostRepository postRepository,
             UserRepository userRepository,
-            CommentRepository commentRepository,
-            ReactionRepository reactionRepository,
+            PostStatsRepository postStatsRepository,
             CurrentUserPort currentUserPort,
             PostProjectionFactory postProjectionFactory,
             DataChangeEventPublisher dataChangeEventPublisher
     ) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
-        this.commentRepository = commentRepository;
-        this.reactionRepository = reactionRepository;
+        this.postStatsRepository = postStatsRepository;
         this.currentUserPort = currentUserPort;
         this.postProjectionFactory = postProjectionFactory;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
@@ -98,17 +94,12 @@ public class PublishPostService implements PublishPostUseCase {
      */
     private void publishPostPublishedEvent(Post post) {
         // 현재 통계 조회
-        long commentCount = commentRepository.countByPostId(post.getId());
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.VIEW);
+        PostStats stats = postStatsRepository.findByPostId(post.getId());
 
         // PostProjectionFactory를 사용하여 Projection 생성 (일관성 유지)
         PostDetailProjection detailProjection = postProjectionFactory.createDetailProjectionForUpdate(
-                post, post.getCategoryId(), commentCount, likeCount, dislikeCount, viewCount
+                post, post.getCategoryId(),
+                stats.commentCount(), stats.likeCount(), stats.dislikeCount(), stats.viewCount()
         );
 
         dataChangeEventPublisher.publish(EventType.POST_PUBLISHED, post.getId(), detailProjection);
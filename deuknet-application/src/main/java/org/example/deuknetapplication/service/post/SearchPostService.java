@@ -6,16 +6,15 @@ import org.example.deuknetapplication.port.in.post.PostSearchResponse;
 import org.example.deuknetapplication.port.in.post.SearchPostUseCase;
 import org.example.deuknetapplication.port.in.post.SortType;
 import org.example.deuknetapplication.port.out.external.search.PostSearchPort;
+import org.example.deuknetapplication.port.out.repository.ReactionRepository;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
 import org.example.deuknetdomain.domain.post.AuthorType;
-import org.example.deuknetdomain.domain.user.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -29,11 +28,14 @@ public class SearchPostService implements SearchPostUseCase {
 
     private final PostSearchPort postSearchPort;
     private final UserRepository userRepository;
+    private final ReactionRepository reactionRepository;
     private final CurrentUserPort currentUserPort;
 
-    public SearchPostService(PostSearchPort postSearchPort, UserRepository userRepository, CurrentUserPort currentUserPort) {
+    public SearchPostService(PostSearchPort postSearchPort, UserRepository userRepository,
+                             ReactionRepository reactionRepository, CurrentUserPort currentUserPort) {
         this.postSearchPort = postSearchPort;
         this.userRepository = userRepository;
+        this.reactionRepository = reactionRepository;
         this.currentUserPort = currentUserPort;
     }
 
@@ -50,7 +52,8 @@ public class SearchPostService implements SearchPostUseCase {
                     request.getCategoryId(),
                     request.getPage(),
                     request.getSize(),
-                    includeAnonymous
+                    includeAnonymous,
+                    request.getCursor()
             );
             case RELEVANCE -> postSearchPort.searchByRelevance(
                     request.getKeyword(),
@@ -58,7 +61,8 @@ public class SearchPostService implements SearchPostUseCase {
                     request.getCategoryId(),
                     request.getPage(),
                     request.getSize(),
-                    includeAnonymous
+                    includeAnonymous,
+                    request.getCursor()
             );
             case POPULAR -> postSearchPort.searchByPopular(
                     request.getKeyword(),
@@ -66,11 +70,12 @@ public class SearchPostService implements SearchPostUseCase {
                     request.getCategoryId(),
                     request.getPage(),
                     request.getSize(),
-                    includeAnonymous
+                    includeAnonymous,
+                    request.getCursor()
             );
         };
 
-        response.getContent().forEach(this::enrichPostResponse);
+        enrichPostResponses(response.getContent());
         return response;
     }
 
@@ -89,74 +94,56 @@ public class SearchPostService implements SearchPostUseCase {
             return false;
         }
 
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            log.debug("[ANONYMOUS_ACCESS] Authenticated user: currentUserId={}", currentUserId);
-
-            // 다른 사용자의 게시물 조회 시 익명 제외
-            if (authorId != null && !authorId.equals(currentUserId)) {
-                log.debug("[ANONYMOUS_ACCESS] Viewing other user's posts: authorId={}, currentUserId={} -> exclude anonymous", authorId, currentUserId);
-                return false;
-            }
-
-            // 전체 조회 또는 본인 게시물 조회 시 권한 확인
-            User user = userRepository.findById(currentUserId).orElse(null);
-            boolean hasPermission = user != null && user.isCanAccessAnonymous();
-            log.debug("[ANONYMOUS_ACCESS] userId={}, canAccessAnonymous={}", currentUserId, hasPermission);
-            return hasPermission;
-
-        } catch (Exception e) {
+        UUID currentUserId = currentUserPort.findCurrentUserId().orElse(null);
+        if (currentUserId == null) {
             // 비인증 사용자는 익명 조회 불가
             log.debug("[ANONYMOUS_ACCESS] Unauthenticated user -> exclude anonymous");
             return false;
         }
+        log.debug("[ANONYMOUS_ACCESS] Authenticated user: currentUserId={}", currentUserId);
+
+        // 다른 사용자의 게시물 조회 시 익명 제외
+        if (authorId != null && !authorId.equals(currentUserId)) {
+            log.debug("[ANONYMOUS_ACCESS] Viewing other user's posts: authorId={}, currentUserId={} -> exclude anonymous", authorId, currentUserId);
+            return false;
+        }
+
+        // 전체 조회 또는 본인 게시물 조회 시 권한 확인 (토큰 claim 기준)
+        boolean hasPermission = currentUserPort.canCurrentUserAccessAnonymous();
+        log.debug("[ANONYMOUS_ACCESS] userId={}, canAccessAnonymous={}", currentUserId, hasPermission);
+        return hasPermission;
     }
 
     /**
-     * 현재 사용자의 익명 조회 권한 확인
+     * 현재 사용자의 익명 조회 권한 확인 (토큰 claim 기준, 비인증 사용자는 false)
      */
     private boolean hasAnonymousAccessPermission() {
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            log.debug("[ANONYMOUS_ACCESS] Checking permission for userId={}", currentUserId);
-
-            User user = userRepository.findById(currentUserId).orElse(null);
-
-            if (user == null) {
-                log.warn("[ANONYMOUS_ACCESS] User not found: userId={}", currentUserId);
-                return false;
-            }
-
-            boolean canAccess = user.isCanAccessAnonymous();
-            log.debug("[ANONYMOUS_ACCESS] userId={}, canAccessAnonymous={}", currentUserId, canAccess);
-            return canAccess;
-        } catch (Exception e) {
-            // 비인증 사용자는 익명 조회 불가
-            log.debug("[ANONYMOUS_ACCESS] Unauthenticated user or error: {}", e.getMessage());
-            return false;
-        }
+        boolean canAccess = currentUserPort.canCurrentUserAccessAnonymous();
+        log.debug("[ANONYMOUS_ACCESS] canAccessAnonymous={}", canAccess);
+        return canAccess;
     }
 
     /**
-     * 게시물 응답 enrichment (isAuthor 체크 → User 정보 설정)
+     * 게시물 응답 목록 enrichment (isAuthor 체크 → 좋아요/싫어요 상태 → User 정보 일괄 설정)
      * isAuthor는 마스킹 전에 체크해야 함
      */
-    private void enrichPostResponse(PostSearchResponse response) {
+    private void enrichPostResponses(List<PostSearchResponse> responses) {
         // 1. 인증된 사용자인 경우 isAuthor 체크 (마스킹 전)
-        try {
-            UUID currentUserId = currentUserPort.getCurrentUserId();
-            response.setIsAuthor(
-                    Optional.ofNullable(response.getAuthorId())
-                            .map(authorId -> authorId.equals(currentUserId))
-                            .orElse(false)
-            );
-        } catch (Exception e) {
-            // 인증되지 않은 사용자
-            response.setIsAuthor(false);
+        UUID currentUserId = currentUserPort.findCurrentUserId().orElse(null);
+        responses.forEach(response -> response.setIsAuthor(
+                currentUserId != null && currentUserId.equals(response.getAuthorId())
+        ));
+
+        // 2. 좋아요/싫어요 상태 일괄 설정 (사용자별 반응 캐시 또는 한 번의 쿼리)
+        if (currentUserId == null || responses.isEmpty()) {
+            UserReactionStates.applyUnauthenticated(responses);
+        } else {
+            List<UUID> postIds = responses.stream().map(PostSearchResponse::getId).toList();
+            UserReactionStates.apply(responses, reactionRepository.findByUserIdAndTargetIds(currentUserId, postIds));
         }
 
-        // 2. User 정보 enrichment (익명이면 authorId를 null로 마스킹)
-        userRepository.enrichWithUserInfo(response);
+        // 3. User 정보 일괄 enrichment (익명이면 authorId를 null로 마스킹)
+        userRepository.enrichWithUserInfo(responses);
     }
 
     @Override
@@ -165,10 +152,10 @@ public class SearchPostService implements SearchPostUseCase {
     }
 
     @Override
-    public PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size) {
+    public PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, String cursor) {
         // 개념글은 익명 게시물 제외 (실명만 표시)
-        PageResponse<PostSearchResponse> response = postSearchPort.findFeaturedPosts(categoryId, page, size, false);
-        response.getContent().forEach(this::enrichPostResponse);
+        PageResponse<PostSearchResponse> response = postSearchPort.findFeaturedPosts(categoryId, page, size, false, cursor);
+        enrichPostResponses(response.getContent());
         return response;
     }
 
@@ -194,10 +181,11 @@ public class SearchPostService implements SearchPostUseCase {
         // 익명 조회 권한이 없으면 익명 게시물 필터링
         boolean canAccessAnonymous = hasAnonymousAccessPermission();
 
-        return results.stream()
+        List<PostSearchResponse> posts = results.stream()
                 .filter(post -> canAccessAnonymous || !AuthorType.ANONYMOUS.equals(post.getAuthorType()))
                 .limit(size)
-                .peek(this::enrichPostResponse)
                 .toList();
+        enrichPostResponses(posts);
+        return posts;
     }
 }
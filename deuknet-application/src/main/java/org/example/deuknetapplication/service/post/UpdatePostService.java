@@ -6,16 +6,15 @@ import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.in.post.UpdatePostApplcationRequest;
 import org.example.deuknetapplication.port.in.post.UpdatePostUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
-import org.example.deuknetapplication.port.out.repository.CommentRepository;
 import org.example.deuknetapplication.port.out.repository.PostRepository;
-import org.example.deuknetapplication.port.out.repository.ReactionRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
 import org.example.deuknetdomain.common.vo.Content;
 import org.example.deuknetdomain.common.vo.Title;
 import org.example.deuknetdomain.domain.post.Post;
-import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.example.deuknetdomain.domain.user.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,8 +39,7 @@ public class UpdatePostService implements UpdatePostUseCase {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final ReactionRepository reactionRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CurrentUserPort currentUserPort;
     private final PostProjectionFactory postProjectionFactory;
     private final DataChangeEventPublisher dataChangeEventPublisher;
@@ -49,16 +47,14 @@ public class UpdatePostService implements UpdatePostUseCase {
     public UpdatePostService(
             PostRepository postRepository,
             UserRepository userRepository,
-            CommentRepository commentRepository,
-            ReactionRepository reactionRepository,
+            PostStatsRepository postStatsRepository,
             CurrentUserPort currentUserPort,
             PostProjectionFactory postProjectionFactory,
             DataChangeEventPublisher dataChangeEventPublisher
     ) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
-        this.commentRepository = commentRepository;
-        this.reactionRepository = reactionRepository;
+        this.postStatsRepository = postStatsRepository;
         this.currentUserPort = currentUserPort;
         this.postProjectionFactory = postProjectionFactory;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
@@ -73,17 +69,12 @@ public class UpdatePostService implements UpdatePostUseCase {
         updatePostContent(post, request);
 
         // 3. 통계 조회
-        long commentCount = commentRepository.countByPostId(post.getId());
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(
-                post.getId(), ReactionType.VIEW);
+        PostStats stats = postStatsRepository.findByPostId(post.getId());
 
         // 4. Projection 생성 (전문 팩토리에 위임)
         PostDetailProjection detailProjection = postProjectionFactory.createDetailProjectionForUpdate(
-                post, request.getCategoryId(), commentCount, likeCount, dislikeCount, viewCount
+                post, request.getCategoryId(),
+                stats.commentCount(), stats.likeCount(), stats.dislikeCount(), stats.viewCount()
         );
 
         // 5. 이벤트 발행
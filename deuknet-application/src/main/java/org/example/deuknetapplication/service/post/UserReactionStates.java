@@ -0,0 +1,50 @@
+package org.example.deuknetapplication.service.post;
+
+import org.example.deuknetapplication.port.in.post.PostSearchResponse;
+import org.example.deuknetapplication.port.out.repository.ReactionRepository.UserReaction;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 응답에 현재 사용자의 좋아요/싫어요 상태 설정
+ */
+final class UserReactionStates {
+
+    private UserReactionStates() {
+    }
+
+    /**
+     * 조회된 반응으로 hasUserLiked/hasUserDisliked와 취소용 reaction ID 설정 (반응이 없으면 false)
+     */
+    static void apply(List<PostSearchResponse> posts, List<UserReaction> reactions) {
+        Map<UUID, UserReaction> likes = new HashMap<>();
+        Map<UUID, UserReaction> dislikes = new HashMap<>();
+        for (UserReaction reaction : reactions) {
+            if (reaction.reactionType() == ReactionType.LIKE) {
+                likes.putIfAbsent(reaction.targetId(), reaction);
+            } else if (reaction.reactionType() == ReactionType.DISLIKE) {
+                dislikes.putIfAbsent(reaction.targetId(), reaction);
+            }
+        }
+
+        for (PostSearchResponse post : posts) {
+            UserReaction like = likes.get(post.getId());
+            UserReaction dislike = dislikes.get(post.getId());
+            post.setHasUserLiked(like != null);
+            post.setUserLikeReactionId(like != null ? like.id() : null);
+            post.setHasUserDisliked(dislike != null);
+            post.setUserDislikeReactionId(dislike != null ? dislike.id() : null);
+        }
+    }
+
+    /**
+     * 인증되지 않은 사용자의 기본값 설정
+     */
+    static void applyUnauthenticated(List<PostSearchResponse> posts) {
+        apply(posts, List.of());
+    }
+}
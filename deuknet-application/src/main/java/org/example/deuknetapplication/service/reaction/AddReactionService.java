@@ -4,13 +4,14 @@ import org.example.deuknetapplication.common.exception.ResourceNotFoundException
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.in.reaction.AddReactionUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
-import org.example.deuknetapplication.port.out.repository.CommentRepository;
 import org.example.deuknetapplication.port.out.repository.PostRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.repository.ReactionRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
-import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetapplication.port.out.view.PostViewCountPort;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.service.post.PostProjectionFactory;
-import org.example.deuknetdomain.domain.post.Post;
 import org.example.deuknetdomain.domain.reaction.Reaction;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.example.deuknetdomain.domain.reaction.TargetType;
@@ -26,10 +27,12 @@ import java.util.UUID;
  * 책임:
  * - Reaction 생성 (LIKE, DISLIKE, VIEW)
  * - LIKE/DISLIKE 배타적 처리 (둘 중 하나만 가능)
- * - PostDetailProjection 업데이트 이벤트 발행
+ * - post_stats 좋아요/싫어요 수 증분 (같은 트랜잭션)
+ * - 게시글 카운터 변경 이벤트 발행 (PostCountProjection)
 
  * 참고:
- * - VIEW(조회수)는 중복이 허용됩니다 (동시 요청 시 여러 개 생성 가능)
+ * - VIEW(조회수)는 reactions 테이블에 저장하지 않고 PostViewCountPort로 위임합니다
+ *   (사용자별 중복 제거 후 메모리에 모아 post_stats.view_count에 주기적으로 증분 반영, write-behind)
  * - LIKE/DISLIKE는 배타적이므로, 하나를 누르면 반대쪽이 자동으로 삭제됩니다
  */
 @Service
@@ -38,24 +41,27 @@ public class AddReactionService implements AddReactionUseCase {
 
     private final ReactionRepository reactionRepository;
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CurrentUserPort currentUserPort;
     private final DataChangeEventPublisher dataChangeEventPublisher;
     private final PostProjectionFactory projectionFactory;
+    private final PostViewCountPort postViewCountPort;
 
     public AddReactionService(
             ReactionRepository reactionRepository,
             PostRepository postRepository,
-            CommentRepository commentRepository,
+            PostStatsRepository postStatsRepository,
             CurrentUserPort currentUserPort,
             DataChangeEventPublisher dataChangeEventPublisher,
-            PostProjectionFactory projectionFactory) {
+            PostProjectionFactory projectionFactory,
+            PostViewCountPort postViewCountPort) {
         this.reactionRepository = reactionRepository;
         this.postRepository = postRepository;
-        this.commentRepository = commentRepository;
+        this.postStatsRepository = postStatsRepository;
         this.currentUserPort = currentUserPort;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
         this.projectionFactory = projectionFactory;
+        this.postViewCountPort = postViewCountPort;
     }
 
     @Override
@@ -70,40 +76,38 @@ public class AddReactionService implements AddReactionUseCase {
         return reaction.getId();
     }
 
+    /**
+     * 조회수 기록
+     * VIEW는 행을 저장하지 않으므로 반환되는 Reaction은 영속화되지 않습니다.
+     */
     private Reaction handleView(UUID userId, AddReactionCommand command) {
+        postViewCountPort.recordView(command.targetId(), userId);
 
-        Reaction reaction = Reaction.create(
+        return Reaction.create(
                 command.reactionType(),
                 TargetType.POST,
                 command.targetId(),
                 userId
         );
-
-        if (reactionRepository.findByTargetIdAndUserIdAndReactionType(
-                command.targetId(),
-                userId,
-                command.reactionType())
-                .isEmpty()) {
-            reactionRepository.save(reaction);
-            publishReactionEvent(command.targetId(), command.reactionType());
-        }
-
-        return reaction;
     }
 
     private Reaction handleLikeAndDislike(UUID userId, AddReactionCommand command) {
+        if (postRepository.findById(command.targetId()).isEmpty()) {
+            throw new ResourceNotFoundException();
+        }
+
         ReactionType oppositeType = command.reactionType() == ReactionType.LIKE
                 ? ReactionType.DISLIKE
                 : ReactionType.LIKE;
 
-        reactionRepository.findByTargetIdAndUserIdAndReactionType(
+        Optional<Reaction> opposite = reactionRepository.findByTargetIdAndUserIdAndReactionType(
                 command.targetId(),
                 userId,
                 oppositeType
-        ).ifPresent(existingReaction -> {
+        );
+        opposite.ifPresent(existingReaction -> {
             reactionRepository.delete(existingReaction);
-            // 반대 반응 삭제 이벤트 발행
-            publishReactionEvent(command.targetId(), oppositeType);
+            postStatsRepository.incrementReactionCount(command.targetId(), oppositeType, -1);
         });
 
         // 같은 타입의 LIKE/DISLIKE가 이미 있는지 확인
@@ -121,36 +125,26 @@ public class AddReactionService implements AddReactionUseCase {
         ));
 
         reactionRepository.save(reaction);
-        publishReactionEvent(command.targetId(), command.reactionType());
+        if (existing.isEmpty()) {
+            postStatsRepository.incrementReactionCount(command.targetId(), command.reactionType(), 1);
+        }
+
+        // 반대 반응 삭제와 추가를 하나의 카운터 이벤트로 발행 (변경이 없으면 생략)
+        if (opposite.isPresent() || existing.isEmpty()) {
+            publishReactionEvent(command.targetId());
+        }
 
         return reaction;
     }
 
     /**
-     * PostDetailProjection 생성 및 이벤트 발행
-     * Reaction 변경 시 전체 통계를 업데이트
+     * PostCountProjection 생성 및 이벤트 발행
+     * Reaction 변경 시 좋아요/싫어요 수만 검색 문서에 반영 (본문 재색인 없음)
      */
-    private void publishReactionEvent(UUID targetId, ReactionType reactionType) {
-        // Post 조회
-        Post post = postRepository.findById(targetId)
-                .orElseThrow(ResourceNotFoundException::new);
-
-        // 모든 통계 조회
-        long commentCount = commentRepository.countByPostId(targetId);
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.VIEW);
-
-        // PostDetailProjection 생성
-        PostDetailProjection projection = projectionFactory.createDetailProjectionForUpdate(
-                post,
-                post.getCategoryId(),
-                commentCount,
-                likeCount,
-                dislikeCount,
-                viewCount
-        );
+    private void publishReactionEvent(UUID targetId) {
+        PostStats stats = postStatsRepository.findByPostId(targetId);
+        PostCountProjection projection = projectionFactory.createReactionCountProjection(stats);
 
-        dataChangeEventPublisher.publish(EventType.REACTION_ADDED, targetId, projection);
+        dataChangeEventPublisher.publish(EventType.POST_COUNTS_CHANGED, targetId, projection);
     }
 }
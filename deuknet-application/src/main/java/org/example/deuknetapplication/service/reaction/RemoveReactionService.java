@@ -5,13 +5,12 @@ import org.example.deuknetapplication.common.exception.ResourceNotFoundException
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.in.reaction.RemoveReactionUseCase;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
-import org.example.deuknetapplication.port.out.repository.CommentRepository;
-import org.example.deuknetapplication.port.out.repository.PostRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
 import org.example.deuknetapplication.port.out.repository.ReactionRepository;
 import org.example.deuknetapplication.port.out.security.CurrentUserPort;
-import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.service.post.PostProjectionFactory;
-import org.example.deuknetdomain.domain.post.Post;
 import org.example.deuknetdomain.domain.reaction.Reaction;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.springframework.stereotype.Service;
@@ -24,29 +23,27 @@ import java.util.UUID;
  *
  * 책임:
  * - Reaction 삭제 (LIKE, DISLIKE, VIEW)
- * - PostDetailProjection 업데이트 이벤트 발행
+ * - post_stats 리액션 수 감소 (같은 트랜잭션)
+ * - 게시글 카운터 변경 이벤트 발행 (PostCountProjection)
  */
 @Service
 @Transactional
 public class RemoveReactionService implements RemoveReactionUseCase {
 
     private final ReactionRepository reactionRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
+    private final PostStatsRepository postStatsRepository;
     private final CurrentUserPort currentUserPort;
     private final DataChangeEventPublisher dataChangeEventPublisher;
     private final PostProjectionFactory projectionFactory;
 
     public RemoveReactionService(
             ReactionRepository reactionRepository,
-            PostRepository postRepository,
-            CommentRepository commentRepository,
+            PostStatsRepository postStatsRepository,
             CurrentUserPort currentUserPort,
             DataChangeEventPublisher dataChangeEventPublisher,
             PostProjectionFactory projectionFactory) {
         this.reactionRepository = reactionRepository;
-        this.postRepository = postRepository;
-        this.commentRepository = commentRepository;
+        this.postStatsRepository = postStatsRepository;
         this.currentUserPort = currentUserPort;
         this.dataChangeEventPublisher = dataChangeEventPublisher;
         this.projectionFactory = projectionFactory;
@@ -66,36 +63,20 @@ public class RemoveReactionService implements RemoveReactionUseCase {
         ReactionType reactionType = reaction.getReactionType();
 
         reactionRepository.delete(reaction);
+        postStatsRepository.incrementReactionCount(targetId, reactionType, -1);
 
-        // Reaction 타입별로 적절한 Projection 생성 및 이벤트 발행
-        publishReactionEvent(targetId, reactionType);
+        // 변경된 카운터 이벤트 발행
+        publishReactionEvent(targetId);
     }
 
     /**
-     * PostDetailProjection 생성 및 이벤트 발행
-     * Reaction 변경 시 전체 통계를 업데이트
+     * PostCountProjection 생성 및 이벤트 발행
+     * Reaction 변경 시 좋아요/싫어요 수만 검색 문서에 반영 (본문 재색인 없음)
      */
-    private void publishReactionEvent(UUID targetId, ReactionType reactionType) {
-        // Post 조회
-        Post post = postRepository.findById(targetId)
-                .orElseThrow(ResourceNotFoundException::new);
-
-        // 모든 통계 조회
-        long commentCount = commentRepository.countByPostId(targetId);
-        long likeCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.LIKE);
-        long dislikeCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.DISLIKE);
-        long viewCount = reactionRepository.countByTargetIdAndReactionType(targetId, ReactionType.VIEW);
-
-        // PostDetailProjection 생성
-        PostDetailProjection projection = projectionFactory.createDetailProjectionForUpdate(
-                post,
-                post.getCategoryId(),
-                commentCount,
-                likeCount,
-                dislikeCount,
-                viewCount
-        );
+    private void publishReactionEvent(UUID targetId) {
+        PostStats stats = postStatsRepository.findByPostId(targetId);
+        PostCountProjection projection = projectionFactory.createReactionCountProjection(stats);
 
-        dataChangeEventPublisher.publish(EventType.REACTION_REMOVED, targetId, projection);
+        dataChangeEventPublisher.publish(EventType.POST_COUNTS_CHANGED, targetId, projection);
     }
 }
@@ -100,7 +100,7 @@ class GetPostServiceTest {
         // Given
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(testProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
                 .thenReturn(List.of());
 
@@ -119,7 +119,7 @@ class GetPostServiceTest {
         // Given
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.empty());
         when(postRepository.findDetailById(testPostId)).thenReturn(Optional.of(testProjection));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
                 .thenReturn(List.of());
 
@@ -150,7 +150,7 @@ class GetPostServiceTest {
         // Given
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(testProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
 
         Reaction likeReaction = Reaction.create(ReactionType.LIKE, TargetType.POST, testPostId, testUserId);
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
@@ -187,7 +187,7 @@ class GetPostServiceTest {
 
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(authorProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
                 .thenReturn(List.of());
 
@@ -205,7 +205,7 @@ class GetPostServiceTest {
         // Given
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(testProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
 
         Reaction dislikeReaction = Reaction.create(ReactionType.DISLIKE, TargetType.POST, testPostId, testUserId);
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
@@ -225,7 +225,7 @@ class GetPostServiceTest {
         // Given
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(testProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
                 .thenReturn(List.of());
 
@@ -243,7 +243,7 @@ class GetPostServiceTest {
         // Given
         PostSearchResponse elasticsearchResponse = new PostSearchResponse(testProjection);
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.of(elasticsearchResponse));
-        when(currentUserPort.getCurrentUserId()).thenThrow(new RuntimeException("Not authenticated"));
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.empty());
 
         // When
         PostSearchResponse result = getPostService.getPostById(testPostId, false);
@@ -261,7 +261,7 @@ class GetPostServiceTest {
         // Given
         when(postSearchPort.findById(testPostId)).thenReturn(Optional.empty());
         when(postRepository.findDetailById(testPostId)).thenReturn(Optional.of(testProjection));
-        when(currentUserPort.getCurrentUserId()).thenReturn(testUserId);
+        when(currentUserPort.findCurrentUserId()).thenReturn(Optional.of(testUserId));
 
         Reaction likeReaction = Reaction.create(ReactionType.LIKE, TargetType.POST, testPostId, testUserId);
         when(reactionRepository.findByTargetIdAndUserId(testPostId, testUserId))
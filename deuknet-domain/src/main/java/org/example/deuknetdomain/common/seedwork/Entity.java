@@ -1,5 +1,6 @@
 package org.example.deuknetdomain.common.seedwork;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Objects;
@@ -14,10 +15,43 @@ public abstract class Entity implements Persistable {
 
     private final UUID id;
 
+    /**
+     * 팩토리 메서드(create)로 새로 만들어져 아직 저장되지 않았는지 여부
+     * restore로 복원된 Entity는 항상 false입니다.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean newlyCreated;
+
     public Entity(UUID id) {
         this.id = id;
     }
 
+    /**
+     * ID를 애플리케이션에서 미리 할당하므로 ID 유무로는 신규 여부를 알 수 없습니다.
+     * create 팩토리에서 표시한 신규 여부를 반환합니다.
+     */
+    @Override
+    public boolean isNew() {
+        return newlyCreated;
+    }
+
+    /**
+     * 영속화가 끝난 Entity를 기존 Entity로 표시합니다.
+     * 같은 객체를 다시 저장하면 INSERT가 아닌 UPDATE 경로를 타게 됩니다.
+     */
+    public void markPersisted() {
+        this.newlyCreated = false;
+    }
+
+    /**
+     * create 팩토리에서 새 Entity임을 표시할 때 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends Entity> T asNew() {
+        this.newlyCreated = true;
+        return (T) this;
+    }
+
     /**
      * Entity는 ID 기반으로 동등성을 판단합니다.
      * 같은 ID를 가진 Entity는 동일한 객체로 간주됩니다.
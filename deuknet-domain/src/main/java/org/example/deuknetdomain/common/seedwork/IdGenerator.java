@@ -0,0 +1,35 @@
+package org.example.deuknetdomain.common.seedwork;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import java.util.UUID;
+
+/**
+ * 식별자 생성 포트
+ * Aggregate, Entity, 이벤트의 ID는 모두 이 포트를 통해 발급합니다.
+ * <br>
+ * 기본 구현은 UUIDv7(RFC 9562)입니다. 앞 48비트가 밀리초 타임스탬프라
+ * 새 키가 항상 B-tree 인덱스의 오른쪽 끝에 추가됩니다.
+ * 무작위 UUIDv4와 달리 중간 페이지 분할이 일어나지 않고, 최근 페이지만 캐시에 있으면 됩니다.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * 시간 순서 UUIDv7 생성기 (같은 밀리초 안에서도 단조 증가)
+     */
+    IdGenerator TIME_ORDERED = UuidCreator::getTimeOrderedEpoch;
+
+    /**
+     * 새 식별자를 발급합니다.
+     */
+    UUID generate();
+
+    /**
+     * 기본 생성기로 새 식별자를 발급합니다.
+     * 정적 팩토리(create)처럼 생성기를 주입받을 수 없는 곳에서 사용합니다.
+     */
+    static UUID newId() {
+        return TIME_ORDERED.generate();
+    }
+}
@@ -14,9 +14,10 @@ public interface Persistable {
 
     /**
      * 엔티티가 새로 생성된 것인지 확인합니다.
-     * ID가 null이면 아직 영속화되지 않은 새 엔티티로 간주합니다.
+     * 기본적으로 ID가 null이면 아직 영속화되지 않은 새 엔티티로 간주합니다.
+     * ID를 미리 할당하는 구현체는 이 메서드를 재정의해야 합니다.
      *
-     * @return ID가 null이면 true, 아니면 false
+     * @return 새 엔티티이면 true, 아니면 false
      */
     default boolean isNew() {
         return getId() == null;
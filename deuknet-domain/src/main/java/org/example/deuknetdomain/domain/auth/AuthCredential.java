@@ -1,10 +1,10 @@
 package org.example.deuknetdomain.domain.auth;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import java.util.UUID;
 
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.AggregateRoot;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.vo.Email;
 
 @Getter
@@ -22,7 +22,7 @@ public class AuthCredential extends AggregateRoot {
     }
 
     public static AuthCredential create(UUID userId, AuthProvider authProvider, Email email) {
-        return new AuthCredential(UuidCreator.getTimeOrderedEpoch(), userId, authProvider, email);
+        return new AuthCredential(IdGenerator.newId(), userId, authProvider, email).asNew();
     }
 
     public static AuthCredential restore(UUID id, UUID userId, AuthProvider authProvider, Email email) {
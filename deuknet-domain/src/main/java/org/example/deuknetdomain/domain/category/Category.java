@@ -1,8 +1,8 @@
 package org.example.deuknetdomain.domain.category;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.AggregateRoot;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.vo.CategoryName;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,7 +26,7 @@ public class Category extends AggregateRoot {
     }
 
     public static Category create(CategoryName name, UUID parentCategoryId, String description, String thumbnailImageUrl, UUID ownerId) {
-        return new Category(UuidCreator.getTimeOrderedEpoch(), name, parentCategoryId, description, thumbnailImageUrl, ownerId);
+        return new Category(IdGenerator.newId(), name, parentCategoryId, description, thumbnailImageUrl, ownerId).asNew();
     }
 
     public static Category restore(UUID id, CategoryName name, UUID parentCategoryId, String description, String thumbnailImageUrl, UUID ownerId) {
@@ -1,8 +1,8 @@
 package org.example.deuknetdomain.domain.comment;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.AggregateRoot;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.vo.Content;
 import org.example.deuknetdomain.domain.post.AuthorType;
 import java.time.LocalDateTime;
@@ -34,7 +34,7 @@ public class Comment extends AggregateRoot {
 
     public static Comment create(UUID postId, UUID authorId, Content content, UUID parentCommentId, AuthorType authorType) {
         return new Comment(
-                UuidCreator.getTimeOrderedEpoch(),
+                IdGenerator.newId(),
                 postId,
                 authorId,
                 content,
@@ -42,7 +42,7 @@ public class Comment extends AggregateRoot {
                 authorType,
                 LocalDateTime.now(),
                 LocalDateTime.now()
-        );
+        ).asNew();
     }
 
     public static Comment restore(UUID id, UUID postId, UUID authorId, Content content,
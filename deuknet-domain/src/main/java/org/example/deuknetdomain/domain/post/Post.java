@@ -1,8 +1,8 @@
 package org.example.deuknetdomain.domain.post;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.AggregateRoot;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.vo.Content;
 import org.example.deuknetdomain.common.vo.Title;
 import org.example.deuknetdomain.domain.post.exception.CannotPublishNonDraftPostException;
@@ -41,7 +41,7 @@ public class Post extends AggregateRoot {
 
     public static Post create(Title title, Content content, UUID authorId, UUID categoryId, AuthorType authorType, String thumbnailImageUrl) {
         return new Post(
-                UuidCreator.getTimeOrderedEpoch(),
+                IdGenerator.newId(),
                 title,
                 content,
                 authorId,
@@ -51,7 +51,7 @@ public class Post extends AggregateRoot {
                 thumbnailImageUrl,
                 LocalDateTime.now(),
                 LocalDateTime.now()
-        );
+        ).asNew();
     }
 
     public static Post restore(UUID id, Title title, Content content, UUID authorId, UUID categoryId,
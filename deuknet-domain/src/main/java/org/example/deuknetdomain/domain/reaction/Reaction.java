@@ -1,10 +1,10 @@
 package org.example.deuknetdomain.domain.reaction;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.AggregateRoot;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 
 @Getter
 public class Reaction extends AggregateRoot {
@@ -27,13 +27,13 @@ public class Reaction extends AggregateRoot {
 
     public static Reaction create(ReactionType reactionType, TargetType targetType, UUID targetId, UUID userId) {
         return new Reaction(
-                UuidCreator.getTimeOrderedEpoch(),
+                IdGenerator.newId(),
                 reactionType,
                 targetType,
                 targetId,
                 userId,
                 LocalDateTime.now()
-        );
+        ).asNew();
     }
 
     public static Reaction restore(UUID id, ReactionType reactionType, TargetType targetType,
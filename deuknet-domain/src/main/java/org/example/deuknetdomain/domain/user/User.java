@@ -1,8 +1,8 @@
 package org.example.deuknetdomain.domain.user;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.Getter;
 import org.example.deuknetdomain.common.seedwork.Entity;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 
 import java.util.UUID;
 
@@ -17,7 +17,12 @@ public class User extends Entity {
     private final UserRole role;
     private final boolean canAccessAnonymous;
 
-    private User(UUID id, UUID authCredentialId, String username, String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous) {
+    /**
+     * access token 버전 (권한 변경 시 저장소에서 증가)
+     */
+    private final long tokenVersion;
+
+    private User(UUID id, UUID authCredentialId, String username, String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous, long tokenVersion) {
         super(id);
         this.authCredentialId = authCredentialId;
         this.username = username;
@@ -26,18 +31,23 @@ public class User extends Entity {
         this.avatarUrl = avatarUrl;
         this.role = role != null ? role : UserRole.USER;
         this.canAccessAnonymous = canAccessAnonymous;
+        this.tokenVersion = tokenVersion;
     }
 
     public static User create(UUID authCredentialId, String username, String displayName, String bio, String avatarUrl) {
-        return new User(UuidCreator.getTimeOrderedEpoch(), authCredentialId, username, displayName, bio, avatarUrl, UserRole.USER, false);
+        return new User(IdGenerator.newId(), authCredentialId, username, displayName, bio, avatarUrl, UserRole.USER, false, 0L).asNew();
     }
 
     public static User restore(UUID id, UUID authCredentialId, String username, String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous) {
-        return new User(id, authCredentialId, username, displayName, bio, avatarUrl, role, canAccessAnonymous);
+        return restore(id, authCredentialId, username, displayName, bio, avatarUrl, role, canAccessAnonymous, 0L);
+    }
+
+    public static User restore(UUID id, UUID authCredentialId, String username, String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous, long tokenVersion) {
+        return new User(id, authCredentialId, username, displayName, bio, avatarUrl, role, canAccessAnonymous, tokenVersion);
     }
 
     public User updateProfile(String displayName, String bio, String avatarUrl) {
-        return new User(this.getId(), this.authCredentialId, this.username, displayName, bio, avatarUrl, this.role, this.canAccessAnonymous);
+        return new User(this.getId(), this.authCredentialId, this.username, displayName, bio, avatarUrl, this.role, this.canAccessAnonymous, this.tokenVersion);
     }
 
     /**
@@ -46,7 +56,7 @@ public class User extends Entity {
      * @return 익명 접근 권한이 부여된 새 User 객체
      */
     public User grantAnonymousAccess() {
-        return new User(this.getId(), this.authCredentialId, this.username, this.displayName, this.bio, this.avatarUrl, this.role, true);
+        return new User(this.getId(), this.authCredentialId, this.username, this.displayName, this.bio, this.avatarUrl, this.role, true, this.tokenVersion);
     }
 
     public boolean isAdmin() {
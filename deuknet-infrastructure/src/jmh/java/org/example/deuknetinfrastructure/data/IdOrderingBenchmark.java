@@ -0,0 +1,148 @@
+package org.example.deuknetinfrastructure.data;
+
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PK 인덱스 삽입 처리량과 인덱스 크기 비교 (UUIDv4 vs UUIDv7)
+ * <br>
+ * PostgreSQL B-tree 리프 페이지를 단순화한 모델에 ROWS개의 키를 삽입합니다.
+ * - 페이지 용량: 8KB 페이지 기준 uuid 항목 약 200개
+ * - 오른쪽 끝 삽입으로 페이지가 넘치면 fillfactor만큼 채우고 분할, 그 외에는 절반으로 분할
+ * - 키 비교는 PostgreSQL uuid 비교와 같은 부호 없는 바이트 순서
+ * <br>
+ * 처리량(rows/sec)과 함께 리프 페이지 수, 평균 채움률, 중간 분할 횟수를 출력합니다.
+ * <br>
+ * 실행: gradle :deuknet-infrastructure:jmh -Pjmh.include=IdOrderingBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdOrderingBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_CAPACITY = 200;
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    public String strategy;
+
+    @Param({"90", "100"})
+    public int fillfactor;
+
+    private IdGenerator idGenerator;
+    private LeafPages lastIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = "RANDOM_V4".equals(strategy) ? UUID::randomUUID : IdGenerator.TIME_ORDERED;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertRows() {
+        LeafPages index = new LeafPages(PAGE_CAPACITY, fillfactor);
+        for (int i = 0; i < ROWS; i++) {
+            index.insert(idGenerator.generate());
+        }
+        lastIndex = index;
+        return index.pageCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n[%s, fillfactor=%d] leafPages=%d (%.1f MB), avgFill=%.1f%%, middleSplits=%d%n",
+                strategy,
+                fillfactor,
+                lastIndex.pageCount(),
+                lastIndex.pageCount() * 8 / 1024.0,
+                lastIndex.averageFill() * 100,
+                lastIndex.middleSplits);
+    }
+
+    /**
+     * PostgreSQL uuid 비교와 같은 부호 없는 바이트 순서
+     */
+    private static final Comparator<UUID> UNSIGNED = (a, b) -> {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    /**
+     * 첫 키로 찾아가는 리프 페이지 목록
+     */
+    private static final class LeafPages {
+
+        private final TreeMap<UUID, List<UUID>> pages = new TreeMap<>(UNSIGNED);
+        private final int capacity;
+        private final int rightmostKeep;
+        private int rows;
+        private int middleSplits;
+
+        LeafPages(int capacity, int fillfactor) {
+            this.capacity = capacity;
+            this.rightmostKeep = capacity * fillfactor / 100;
+        }
+
+        void insert(UUID key) {
+            Map.Entry<UUID, List<UUID>> entry = pages.floorEntry(key);
+            if (entry == null) {
+                entry = pages.firstEntry();
+            }
+            if (entry == null) {
+                List<UUID> first = new ArrayList<>(capacity);
+                first.add(key);
+                pages.put(key, first);
+                rows++;
+                return;
+            }
+
+            List<UUID> page = entry.getValue();
+            int pos = Collections.binarySearch(page, key, UNSIGNED);
+            int insertAt = pos < 0 ? -pos - 1 : pos;
+            page.add(insertAt, key);
+            if (insertAt == 0 && !entry.getKey().equals(key)) {
+                pages.remove(entry.getKey());
+                pages.put(key, page);
+            }
+            rows++;
+
+            if (page.size() > capacity) {
+                boolean rightmostAppend = pages.lastEntry().getValue() == page && insertAt == page.size() - 1;
+                int keep = rightmostAppend ? rightmostKeep : page.size() / 2;
+                if (!rightmostAppend) {
+                    middleSplits++;
+                }
+                List<UUID> right = new ArrayList<>(page.subList(keep, page.size()));
+                page.subList(keep, page.size()).clear();
+                pages.put(right.get(0), right);
+            }
+        }
+
+        int pageCount() {
+            return pages.size();
+        }
+
+        double averageFill() {
+            return (double) rows / ((long) pages.size() * capacity);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.deuknetinfrastructure.external.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetinfrastructure.external.messaging.debezium.DebeziumEventHandler;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCPayloadReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDC 레코드 1건 → PostDetailProjection 변환 비용 비교 (us/op, gc 프로파일러로 B/op)
+ * <br>
+ * - reparsePerStage: 이전 방식 (readTree → payload 재직렬화 → 핸들러에서 readValue + 캐시 무효화용 readTree)
+ * - singlePass: 스트리밍 파서로 한 번 읽고 (schema는 건너뜀), 공유 ObjectReader로 트리에서 바로 변환
+ * <br>
+ * 실행: gradle :deuknet-infrastructure:jmh -Pjmh.include=CDCParseBenchmark -Pjmh.prof=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CDCParseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private DebeziumEventHandler eventHandler;
+    private CDCPayloadReader payloadReader;
+    private String record;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        eventHandler = new DebeziumEventHandler(List.of(), objectMapper);
+        payloadReader = new CDCPayloadReader(objectMapper);
+        record = record(UUID.randomUUID(), "가나다라마바사 본문 ".repeat(200));
+    }
+
+    @Benchmark
+    public PostDetailProjection reparsePerStage() throws Exception {
+        JsonNode envelope = objectMapper.readTree(record).get("payload");
+        String payloadJson = objectMapper.writeValueAsString(envelope.get("payload"));
+
+        PostDetailProjection projection = objectMapper.readValue(payloadJson, PostDetailProjection.class);
+        objectMapper.readTree(payloadJson).path("categoryId");
+        return projection;
+    }
+
+    @Benchmark
+    public PostDetailProjection singlePass() throws Exception {
+        JsonNode payload = eventHandler.parse("key", record).orElseThrow().payload();
+        return payloadReader.readPostDetail(payload);
+    }
+
+    /**
+     * JsonConverter(schemas.enable 기본값) + Outbox Event Router가 만드는 레코드 형태
+     */
+    private String record(UUID postId, String content) throws Exception {
+        StringBuilder fields = new StringBuilder();
+        for (String field : List.of("id", "aggregatetype", "aggregateid", "type", "payload", "timestamp")) {
+            if (!fields.isEmpty()) {
+                fields.append(',');
+            }
+            fields.append("{\"type\":\"string\",\"optional\":false,\"field\":\"").append(field).append("\"}");
+        }
+
+        PostDetailProjection projection = PostDetailProjection.builder()
+                .id(postId)
+                .title("벤치마크 게시글")
+                .content(content)
+                .authorId(UUID.randomUUID())
+                .authorType("REAL")
+                .status("PUBLISHED")
+                .viewCount(10L)
+                .categoryId(UUID.randomUUID())
+                .commentCount(3L)
+                .likeCount(5L)
+                .dislikeCount(1L)
+                .build();
+
+        return "{\"schema\":{\"type\":\"struct\",\"fields\":[" + fields + "],\"optional\":false,\"name\":\"outbox\"},"
+                + "\"payload\":{\"eventType\":\"PostUpdated\",\"aggregateId\":\"" + postId + "\","
+                + "\"payload\":" + objectMapper.writeValueAsString(projection) + "}}";
+    }
+}
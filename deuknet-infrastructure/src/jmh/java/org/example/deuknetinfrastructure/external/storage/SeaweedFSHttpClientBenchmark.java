@@ -0,0 +1,104 @@
+package org.example.deuknetinfrastructure.external.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetinfrastructure.config.HttpClientProperties;
+import org.example.deuknetinfrastructure.config.RestTemplateConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SeaweedFS 다운로드 처리량 비교 (downloads/sec)
+ * <br>
+ * 로컬 HttpServer를 master/volume 서버 대역으로 띄우고, 다운로드 1건 = /dir/lookup + 64KB GET 으로 측정합니다.
+ * - bareRestTemplate: 이전 방식 (new RestTemplate(), HttpURLConnection, 타임아웃 없음)
+ * - pooledRestTemplate: RestTemplateConfig의 seaweedFSRestTemplate (대상별 keep-alive 풀)
+ * <br>
+ * 실행: gradle :deuknet-infrastructure:jmh -Pjmh.include=SeaweedFSHttpClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class SeaweedFSHttpClientBenchmark {
+
+    private static final String FID = "3,01637037d6";
+    private static final byte[] BODY = new byte[64 * 1024];
+    private static final byte[] LOOKUP = "{\"volumeId\":\"3\",\"locations\":[{\"url\":\"127.0.0.1\",\"publicUrl\":\"127.0.0.1\"}]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private RestTemplateConfig config;
+    private RestTemplate bareRestTemplate;
+    private RestTemplate pooledRestTemplate;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 대역 서버의 Nagle 지연(delayed ACK)이 측정을 지배하지 않도록 끔
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/dir/lookup", exchange -> respond(exchange, "application/json", LOOKUP));
+        server.createContext("/" + FID, exchange -> respond(exchange, "image/png", BODY));
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        config = new RestTemplateConfig(new HttpClientProperties(), new SimpleMeterRegistry());
+        bareRestTemplate = new RestTemplate();
+        pooledRestTemplate = config.seaweedFSRestTemplate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        config.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int bareRestTemplate() {
+        return download(bareRestTemplate);
+    }
+
+    @Benchmark
+    public int pooledRestTemplate() {
+        return download(pooledRestTemplate);
+    }
+
+    private int download(RestTemplate restTemplate) {
+        restTemplate.getForObject(baseUrl + "/dir/lookup?volumeId=3", Map.class);
+        byte[] body = restTemplate.getForObject(baseUrl + "/" + FID, byte[].class);
+        return body.length;
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
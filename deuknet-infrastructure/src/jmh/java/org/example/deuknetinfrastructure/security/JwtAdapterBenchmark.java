@@ -0,0 +1,75 @@
+package org.example.deuknetinfrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.deuknetapplication.port.out.security.AccessTokenClaims;
+import org.example.deuknetdomain.domain.user.User;
+import org.example.deuknetdomain.domain.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token 검증 처리량 비교 (tokens/sec)
+ * <br>
+ * - rebuildParserPerCall: 이전 방식 (호출마다 parserBuilder().build() 후 서명 검증)
+ * - sharedParser: 공유 JwtParser, 캐시 없음 (매번 서명 검증 + claim 파싱)
+ * - verifiedTokenCache: 공유 JwtParser + 검증 결과 캐시 (같은 세션의 반복 요청)
+ * <br>
+ * 실행: gradle :deuknet-infrastructure:jmh -Pjmh.include=JwtAdapterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAdapterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-adapter-0123456789abcdef";
+
+    private SecretKey secretKey;
+    private JwtAdapter uncachedAdapter;
+    private JwtAdapter cachedAdapter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedAdapter = new JwtAdapter(SECRET, 3_600_000, 604_800_000, 0);
+        cachedAdapter = new JwtAdapter(SECRET, 3_600_000, 604_800_000, 20_000);
+
+        User user = User.restore(UUID.randomUUID(), UUID.randomUUID(), "bench", "Bench", null, null,
+                UserRole.USER, false, 0L);
+        token = cachedAdapter.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public UUID rebuildParserPerCall() {
+        String subject = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        return UUID.fromString(subject);
+    }
+
+    @Benchmark
+    public AccessTokenClaims sharedParser() {
+        return uncachedAdapter.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public AccessTokenClaims verifiedTokenCache() {
+        return cachedAdapter.parseAccessToken(token);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.deuknetinfrastructure.common.seedwork;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 애플리케이션에서 UUID를 미리 할당하는 JPA Entity의 기반 클래스
+ * <br>
+ * ID가 항상 채워져 있으므로 Spring Data는 기본적으로 save()를 merge로 처리하고,
+ * merge는 INSERT 전에 같은 ID의 행을 찾는 SELECT를 실행합니다.
+ * 도메인에서 새로 생성된 Entity를 신규로 표시하면 persist 경로로 바로 INSERT되어
+ * SELECT가 생략되고 JDBC 배치에 묶일 수 있습니다.
+ * <br>
+ * 조회되었거나 저장이 끝난 Entity는 자동으로 기존 Entity로 전환됩니다.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * 신규 여부를 표시합니다.
+     * 매퍼에서 도메인 객체의 isNew() 값을 그대로 전달합니다.
+     */
+    public void markNew(boolean isNew) {
+        this.isNew = isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -74,6 +74,8 @@ public class ElasticsearchIndexInitializer {
                     "commentCount": { "type": "long" },
                     "likeCount": { "type": "long" },
                     "dislikeCount": { "type": "long" },
+                    "popularityScore": { "type": "double" },
+                    "trendingScore": { "type": "double" },
                     "createdAt": {
                       "type": "date",
                       "format": "date_hour_minute_second_millis"
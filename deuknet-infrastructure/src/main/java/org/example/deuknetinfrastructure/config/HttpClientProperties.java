@@ -0,0 +1,56 @@
+package org.example.deuknetinfrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 호출 설정 프로퍼티
+ *
+ * 호출 대상(downstream)마다 별도의 커넥션 풀과 타임아웃을 사용합니다.
+ * 한 대상이 느려져도 다른 대상의 커넥션이나 Tomcat 스레드가 묶이지 않습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    /**
+     * SeaweedFS master/volume 서버 (내부망, 대용량 본문)
+     */
+    private Client seaweedfs = new Client(200, 50, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+    /**
+     * Google OAuth (외부망, 작은 JSON 응답)
+     */
+    private Client oauth = new Client(20, 10, Duration.ofSeconds(3), Duration.ofSeconds(5));
+
+    /**
+     * 대상 하나의 커넥션 풀/타임아웃 설정
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        private int maxTotal;
+        private int maxPerRoute;                // 서버(호스트:포트)당 최대 커넥션 수
+        private Duration connectTimeout;
+        private Duration responseTimeout;       // 응답 데이터 사이의 최대 대기 시간 (전체 전송 시간 아님)
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);  // 풀이 가득 찼을 때 커넥션 대기 시간
+        private Duration idleTimeout = Duration.ofSeconds(30);              // 유휴 커넥션 정리 기준
+        private Duration timeToLive = Duration.ofMinutes(5);                // DNS/서버 교체 반영을 위한 최대 수명
+
+        public Client() {
+        }
+
+        public Client(int maxTotal, int maxPerRoute, Duration connectTimeout, Duration responseTimeout) {
+            this.maxTotal = maxTotal;
+            this.maxPerRoute = maxPerRoute;
+            this.connectTimeout = connectTimeout;
+            this.responseTimeout = responseTimeout;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.deuknetdomain.domain.auth.AuthProvider;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.util.UUID;
 
@@ -11,7 +12,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "auth_credentials")
-public class AuthCredentialEntity {
+public class AuthCredentialEntity extends AssignedIdEntity {
     
     @Id
     @Column(columnDefinition = "UUID")
@@ -21,11 +21,13 @@ public class AuthCredentialMapper {
     public AuthCredentialEntity toEntity(AuthCredential domain) {
         if (domain == null) return null;
         
-        return new AuthCredentialEntity(
+        AuthCredentialEntity entity = new AuthCredentialEntity(
                 domain.getId(),
                 domain.getUserId(),
                 domain.getAuthProvider(),
                 domain.getEmail().getValue()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
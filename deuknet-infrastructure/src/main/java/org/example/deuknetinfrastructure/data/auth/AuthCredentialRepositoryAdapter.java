@@ -27,6 +27,7 @@ public class AuthCredentialRepositoryAdapter implements AuthCredentialRepository
     public AuthCredential save(AuthCredential authCredential) {
         AuthCredentialEntity entity = mapper.toEntity(authCredential);
         AuthCredentialEntity savedEntity = jpaAuthCredentialRepository.save(entity);
+        authCredential.markPersisted();
         return mapper.toDomain(savedEntity);
     }
 
@@ -3,6 +3,7 @@ package org.example.deuknetinfrastructure.data.category;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.util.UUID;
 
@@ -10,7 +11,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "categories")
-public class CategoryEntity {
+public class CategoryEntity extends AssignedIdEntity {
     
     @Id
     @Column(columnDefinition = "UUID")
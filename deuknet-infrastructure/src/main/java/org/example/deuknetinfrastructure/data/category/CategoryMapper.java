@@ -23,7 +23,7 @@ public class CategoryMapper {
     public CategoryEntity toEntity(Category domain) {
         if (domain == null) return null;
 
-        return new CategoryEntity(
+        CategoryEntity entity = new CategoryEntity(
                 domain.getId(),
                 domain.getName().getValue(),
                 domain.getParentCategoryId().orElse(null),
@@ -31,5 +31,7 @@ public class CategoryMapper {
                 domain.getThumbnailImageUrl(),
                 domain.getOwnerId()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
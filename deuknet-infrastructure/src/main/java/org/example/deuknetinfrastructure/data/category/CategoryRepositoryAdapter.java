@@ -26,6 +26,7 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
     public Category save(Category category) {
         CategoryEntity entity = mapper.toEntity(category);
         CategoryEntity savedEntity = jpaCategoryRepository.save(entity);
+        category.markPersisted();
         return mapper.toDomain(savedEntity);
     }
 
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.deuknetdomain.domain.post.AuthorType;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -12,7 +13,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "comments")
-public class CommentEntity {
+public class CommentEntity extends AssignedIdEntity {
 
     @Id
     @Column(columnDefinition = "UUID")
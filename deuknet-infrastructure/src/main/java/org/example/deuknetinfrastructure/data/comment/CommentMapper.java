@@ -25,7 +25,7 @@ public class CommentMapper {
     public CommentEntity toEntity(Comment domain) {
         if (domain == null) return null;
 
-        return new CommentEntity(
+        CommentEntity entity = new CommentEntity(
                 domain.getId(),
                 domain.getPostId(),
                 domain.getAuthorId(),
@@ -35,5 +35,7 @@ public class CommentMapper {
                 domain.getCreatedAt(),
                 domain.getUpdatedAt()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
@@ -33,6 +33,7 @@ public class CommentRepositoryAdapter implements CommentRepository {
     public Comment save(Comment comment) {
         CommentEntity entity = mapper.toEntity(comment);
         CommentEntity savedEntity = jpaCommentRepository.save(entity);
+        comment.markPersisted();
         return mapper.toDomain(savedEntity);
     }
 
@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Debezium Offset JPA Repository
+ * 저장은 DebeziumOffsetUpsertRepository.upsertAll로 일괄 처리합니다.
  */
-public interface DebeziumOffsetJpaRepository extends JpaRepository<DebeziumOffsetEntity, String> {
+public interface DebeziumOffsetJpaRepository extends JpaRepository<DebeziumOffsetEntity, String>,
+        DebeziumOffsetUpsertRepository {
 }
@@ -0,0 +1,16 @@
+package org.example.deuknetinfrastructure.data.debezium;
+
+import java.util.List;
+
+/**
+ * Debezium Offset 일괄 UPSERT
+ * <br>
+ * DebeziumOffsetJpaRepository의 커스텀 프래그먼트입니다.
+ */
+public interface DebeziumOffsetUpsertRepository {
+
+    /**
+     * 여러 offset을 한 번의 INSERT ... ON CONFLICT DO UPDATE 문장으로 저장합니다.
+     */
+    void upsertAll(List<DebeziumOffsetEntity> offsets);
+}
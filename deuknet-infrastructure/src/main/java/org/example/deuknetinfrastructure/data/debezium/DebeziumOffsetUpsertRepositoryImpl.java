@@ -0,0 +1,49 @@
+package org.example.deuknetinfrastructure.data.debezium;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Debezium Offset 일괄 UPSERT 구현
+ * <br>
+ * findById + save(SELECT 후 INSERT/UPDATE)를 키마다 반복하던 방식 대신,
+ * 다중 VALUES 한 문장으로 한 번의 왕복에 저장합니다.
+ */
+@RequiredArgsConstructor
+public class DebeziumOffsetUpsertRepositoryImpl implements DebeziumOffsetUpsertRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO debezium_offset_storage (id, offset_key, offset_value, created_at, updated_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, now(), now())";
+    private static final String ON_CONFLICT =
+            " ON CONFLICT (id) DO UPDATE SET offset_value = EXCLUDED.offset_value, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<DebeziumOffsetEntity> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(offsets.size() * 3);
+        for (int i = 0; i < offsets.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+
+            DebeziumOffsetEntity offset = offsets.get(i);
+            args.add(offset.getId());
+            args.add(offset.getOffsetKey());
+            args.add(offset.getOffsetValue());
+        }
+        sql.append(ON_CONFLICT);
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
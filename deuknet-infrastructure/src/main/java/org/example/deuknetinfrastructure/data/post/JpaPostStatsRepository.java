@@ -0,0 +1,38 @@
+package org.example.deuknetinfrastructure.data.post;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface JpaPostStatsRepository extends JpaRepository<PostStatsEntity, UUID> {
+
+    /**
+     * 게시글 통계 증분 (UPSERT)
+     * 통계 행이 없으면 생성하고, 있으면 각 카운터에 증가량을 더합니다 (0 미만으로 내려가지 않음).
+     * posts에 없는 게시글은 무시됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_stats (post_id, comment_count, like_count, dislike_count, view_count, updated_at)
+            SELECT p.id, GREATEST(:commentDelta, 0), GREATEST(:likeDelta, 0),
+                   GREATEST(:dislikeDelta, 0), GREATEST(:viewDelta, 0), now()
+            FROM posts p
+            WHERE p.id = :postId
+            ON CONFLICT (post_id) DO UPDATE SET
+                comment_count = GREATEST(post_stats.comment_count + :commentDelta, 0),
+                like_count = GREATEST(post_stats.like_count + :likeDelta, 0),
+                dislike_count = GREATEST(post_stats.dislike_count + :dislikeDelta, 0),
+                view_count = GREATEST(post_stats.view_count + :viewDelta, 0),
+                updated_at = now()
+            """, nativeQuery = true)
+    void increment(
+            @Param("postId") UUID postId,
+            @Param("commentDelta") long commentDelta,
+            @Param("likeDelta") long likeDelta,
+            @Param("dislikeDelta") long dislikeDelta,
+            @Param("viewDelta") long viewDelta
+    );
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.example.deuknetdomain.domain.post.AuthorType;
 import org.example.deuknetdomain.domain.post.PostStatus;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "posts")
-public class PostEntity {
+public class PostEntity extends AssignedIdEntity {
     
     @Id
     @Column(columnDefinition = "UUID")
@@ -48,9 +49,6 @@ public class PostEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(name = "view_count", nullable = false)
-    private Long viewCount = 0L;  // 기본값 0 (Reaction 테이블에서 집계)
-
     public PostEntity() {
     }
 
@@ -67,7 +65,6 @@ public class PostEntity {
         this.thumbnailImageUrl = thumbnailImageUrl;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
-        this.viewCount = 0L;  // 기본값
     }
 
 }
@@ -28,7 +28,7 @@ public class PostMapper {
     public PostEntity toEntity(Post domain) {
         if (domain == null) return null;
 
-        return new PostEntity(
+        PostEntity entity = new PostEntity(
                 domain.getId(),
                 domain.getTitle().getValue(),
                 domain.getContent().getValue(),
@@ -40,5 +40,7 @@ public class PostMapper {
                 domain.getCreatedAt(),
                 domain.getUpdatedAt()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
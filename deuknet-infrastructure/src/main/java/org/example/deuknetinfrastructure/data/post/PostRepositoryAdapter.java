@@ -1,7 +1,6 @@
 package org.example.deuknetinfrastructure.data.post;
 
 import com.querydsl.core.Tuple;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.example.deuknetapplication.port.out.repository.PostRepository;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
@@ -18,8 +17,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.example.deuknetinfrastructure.data.category.QCategoryEntity.categoryEntity;
-import static org.example.deuknetinfrastructure.data.comment.QCommentEntity.commentEntity;
 import static org.example.deuknetinfrastructure.data.post.QPostEntity.postEntity;
+import static org.example.deuknetinfrastructure.data.post.QPostStatsEntity.postStatsEntity;
 import static org.example.deuknetinfrastructure.data.reaction.QReactionEntity.reactionEntity;
 import static org.example.deuknetinfrastructure.data.user.QUserEntity.userEntity;
 
@@ -44,6 +43,7 @@ public class PostRepositoryAdapter implements PostRepository {
     public Post save(Post post) {
         PostEntity entity = mapper.toEntity(post);
         PostEntity savedEntity = jpaPostRepository.save(entity);
+        post.markPersisted();
         return mapper.toDomain(savedEntity);
     }
 
@@ -61,7 +61,7 @@ public class PostRepositoryAdapter implements PostRepository {
 
     @Override
     public Optional<PostDetailProjection> findDetailById(UUID id) {
-        // 최적화된 단일 쿼리: Post + Category JOIN + 모든 count를 CASE WHEN으로 한 번에 조회
+        // 단일 쿼리: Post + Category + post_stats JOIN (통계는 집계 없이 한 행에서 조회)
         Tuple result = queryFactory
                 .select(
                         postEntity.id,
@@ -75,30 +75,14 @@ public class PostRepositoryAdapter implements PostRepository {
                         postEntity.updatedAt,
                         postEntity.categoryId,
                         categoryEntity.name,
-                        JPAExpressions.select(commentEntity.count())
-                                .from(commentEntity)
-                                .where(commentEntity.postId.eq(id)),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(id),
-                                        reactionEntity.reactionType.eq(ReactionType.LIKE)
-                                ),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(id),
-                                        reactionEntity.reactionType.eq(ReactionType.DISLIKE)
-                                ),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(id),
-                                        reactionEntity.reactionType.eq(ReactionType.VIEW)
-                                )
+                        postStatsEntity.commentCount.coalesce(0L),
+                        postStatsEntity.likeCount.coalesce(0L),
+                        postStatsEntity.dislikeCount.coalesce(0L),
+                        postStatsEntity.viewCount.coalesce(0L)
                 )
                 .from(postEntity)
                 .leftJoin(categoryEntity).on(postEntity.categoryId.eq(categoryEntity.id))
+                .leftJoin(postStatsEntity).on(postStatsEntity.postId.eq(postEntity.id))
                 .where(postEntity.id.eq(id))
                 .fetchOne();
 
@@ -136,7 +120,7 @@ public class PostRepositoryAdapter implements PostRepository {
 
     @Override
     public List<PostDetailProjection> findLikedPostsByUserId(UUID userId, int offset, int limit) {
-        // reactions와 posts를 JOIN하여 좋아요 누른 게시글 조회 (서브쿼리로 N+1 방지)
+        // reactions와 posts를 JOIN하여 좋아요 누른 게시글 조회 (통계는 post_stats JOIN)
         List<Tuple> results = queryFactory
                 .select(
                         postEntity.id,
@@ -150,30 +134,14 @@ public class PostRepositoryAdapter implements PostRepository {
                         postEntity.updatedAt,
                         postEntity.categoryId,
                         reactionEntity.createdAt,  // reaction 생성 시간 (정렬용)
-                        JPAExpressions.select(commentEntity.count())
-                                .from(commentEntity)
-                                .where(commentEntity.postId.eq(postEntity.id)),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(postEntity.id),
-                                        reactionEntity.reactionType.eq(ReactionType.LIKE)
-                                ),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(postEntity.id),
-                                        reactionEntity.reactionType.eq(ReactionType.DISLIKE)
-                                ),
-                        JPAExpressions.select(reactionEntity.count())
-                                .from(reactionEntity)
-                                .where(
-                                        reactionEntity.targetId.eq(postEntity.id),
-                                        reactionEntity.reactionType.eq(ReactionType.VIEW)
-                                )
+                        postStatsEntity.commentCount.coalesce(0L),
+                        postStatsEntity.likeCount.coalesce(0L),
+                        postStatsEntity.dislikeCount.coalesce(0L),
+                        postStatsEntity.viewCount.coalesce(0L)
                 )
                 .from(reactionEntity)
                 .join(postEntity).on(reactionEntity.targetId.eq(postEntity.id))
+                .leftJoin(postStatsEntity).on(postStatsEntity.postId.eq(postEntity.id))
                 .where(
                         reactionEntity.userId.eq(userId),
                         reactionEntity.reactionType.eq(ReactionType.LIKE),
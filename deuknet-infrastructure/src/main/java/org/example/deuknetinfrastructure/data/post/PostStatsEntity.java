@@ -0,0 +1,42 @@
+package org.example.deuknetinfrastructure.data.post;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 통계 엔티티 (읽기 전용)
+ * <br>
+ * 쓰기는 JpaPostStatsRepository의 UPSERT 증분 쿼리로만 수행합니다.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "post_stats")
+public class PostStatsEntity {
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "UUID")
+    private UUID postId;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "dislike_count", nullable = false)
+    private Long dislikeCount;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PostStatsEntity() {
+    }
+}
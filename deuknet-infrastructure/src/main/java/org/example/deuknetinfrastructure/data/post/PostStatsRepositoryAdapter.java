@@ -0,0 +1,123 @@
+package org.example.deuknetinfrastructure.data.post;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.example.deuknetinfrastructure.data.post.QPostStatsEntity.postStatsEntity;
+
+/**
+ * post_stats 어댑터
+ * <br>
+ * 조회는 엔티티 캐시(영속성 컨텍스트)를 거치지 않도록 컬럼 단위로 조회합니다.
+ * 같은 트랜잭션에서 증분 직후 조회해도 최신 값을 읽습니다.
+ */
+@Component
+public class PostStatsRepositoryAdapter implements PostStatsRepository {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL = """
+            INSERT INTO post_stats (post_id, comment_count, like_count, dislike_count, view_count, updated_at)
+            SELECT p.id, 0, 0, 0, ?, now()
+            FROM posts p
+            WHERE p.id = ?
+            ON CONFLICT (post_id) DO UPDATE SET
+                view_count = post_stats.view_count + EXCLUDED.view_count,
+                updated_at = now()
+            """;
+    private static final int BATCH_SIZE = 100;
+
+    private final JpaPostStatsRepository jpaPostStatsRepository;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostStatsRepositoryAdapter(
+            JpaPostStatsRepository jpaPostStatsRepository,
+            JPAQueryFactory queryFactory,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.jpaPostStatsRepository = jpaPostStatsRepository;
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PostStats findByPostId(UUID postId) {
+        Tuple result = selectStats()
+                .where(postStatsEntity.postId.eq(postId))
+                .fetchOne();
+
+        return result != null ? toPostStats(result) : PostStats.empty(postId);
+    }
+
+    @Override
+    public List<PostStats> findAllByPostIds(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<PostStats> stats = new ArrayList<>();
+        for (Tuple result : selectStats().where(postStatsEntity.postId.in(postIds)).fetch()) {
+            stats.add(toPostStats(result));
+        }
+        return stats;
+    }
+
+    @Override
+    public void incrementCommentCount(UUID postId, long delta) {
+        jpaPostStatsRepository.increment(postId, delta, 0L, 0L, 0L);
+    }
+
+    @Override
+    public void incrementReactionCount(UUID postId, ReactionType reactionType, long delta) {
+        switch (reactionType) {
+            case LIKE -> jpaPostStatsRepository.increment(postId, 0L, delta, 0L, 0L);
+            case DISLIKE -> jpaPostStatsRepository.increment(postId, 0L, 0L, delta, 0L);
+            case VIEW -> jpaPostStatsRepository.increment(postId, 0L, 0L, 0L, delta);
+        }
+    }
+
+    @Override
+    public void incrementViewCounts(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, new ArrayList<>(deltas.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setObject(2, entry.getKey());
+                });
+    }
+
+    private JPAQuery<Tuple> selectStats() {
+        return queryFactory
+                .select(
+                        postStatsEntity.postId,
+                        postStatsEntity.commentCount,
+                        postStatsEntity.likeCount,
+                        postStatsEntity.dislikeCount,
+                        postStatsEntity.viewCount
+                )
+                .from(postStatsEntity);
+    }
+
+    private PostStats toPostStats(Tuple result) {
+        return new PostStats(
+                result.get(postStatsEntity.postId),
+                result.get(postStatsEntity.commentCount),
+                result.get(postStatsEntity.likeCount),
+                result.get(postStatsEntity.dislikeCount),
+                result.get(postStatsEntity.viewCount)
+        );
+    }
+}
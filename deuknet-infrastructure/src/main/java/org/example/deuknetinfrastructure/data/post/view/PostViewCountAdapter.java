@@ -0,0 +1,161 @@
+package org.example.deuknetinfrastructure.data.post.view;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository.PostStats;
+import org.example.deuknetapplication.port.out.view.PostViewCountPort;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 write-behind 어댑터
+ * <br>
+ * 조회 요청마다 reactions 행을 INSERT하던 방식 대신,
+ * (게시글, 사용자) 단위로 중복을 제거한 뒤 게시글별 카운터에 누적하고
+ * 주기적으로 post_stats.view_count에 증분 UPSERT를 배치로 반영합니다.
+ * <br>
+ * 반영된 게시글은 Elasticsearch의 viewCount도 부분 업데이트합니다.
+ */
+@Slf4j
+@Component
+public class PostViewCountAdapter implements PostViewCountPort {
+
+    private final PostStatsRepository postStatsRepository;
+    private final PostProjectionCommandPort postProjectionCommandPort;
+    private final ViewCountProperties properties;
+
+    private final ConcurrentHashMap<ViewKey, Long> recentViews = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, StripedCounter> pendingCounts = new ConcurrentHashMap<>();
+
+    public PostViewCountAdapter(
+            PostStatsRepository postStatsRepository,
+            PostProjectionCommandPort postProjectionCommandPort,
+            ViewCountProperties properties
+    ) {
+        this.postStatsRepository = postStatsRepository;
+        this.postProjectionCommandPort = postProjectionCommandPort;
+        this.properties = properties;
+    }
+
+    @Override
+    public void recordView(UUID postId, UUID userId) {
+        if (!markViewed(new ViewKey(postId, userId))) {
+            return;
+        }
+        addPending(postId, 1);
+    }
+
+    /**
+     * dedup 윈도우 안에서 처음 본 조회인지 확인하고 만료 시각을 기록
+     */
+    private boolean markViewed(ViewKey key) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + properties.getDedupWindow().toMillis();
+
+        Long previous = recentViews.putIfAbsent(key, expiresAt);
+        if (previous == null) {
+            return true;
+        }
+        // 만료된 엔트리는 교체에 성공한 한 스레드만 조회로 인정
+        return previous <= now && recentViews.replace(key, previous, expiresAt);
+    }
+
+    private void addPending(UUID postId, long delta) {
+        StripedCounter counter = pendingCounts.computeIfAbsent(
+                postId, id -> new StripedCounter(properties.getStripes()));
+        counter.add(delta);
+
+        // flush가 이 카운터를 떼어낸 뒤에 더해졌다면 남은 값을 새 카운터로 옮긴다
+        if (pendingCounts.get(postId) != counter) {
+            long orphaned = counter.drain();
+            if (orphaned > 0) {
+                addPending(postId, orphaned);
+            }
+        }
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 실패 시 다음 주기에 재시도하도록 누적값을 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        evictExpiredViews();
+
+        Map<UUID, Long> deltas = drainPending();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postStatsRepository.incrementViewCounts(deltas);
+        } catch (DataAccessException e) {
+            log.error("Failed to flush view counts for {} posts, will retry", deltas.size(), e);
+            deltas.forEach(this::addPending);
+            return;
+        }
+
+        log.debug("Flushed view counts for {} posts", deltas.size());
+        syncSearchIndex(deltas.keySet());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<UUID, Long> drainPending() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (Map.Entry<UUID, StripedCounter> entry : pendingCounts.entrySet()) {
+            // 먼저 떼어낸 뒤 drain해야 동시 증가분이 addPending에서 새 카운터로 옮겨진다
+            if (pendingCounts.remove(entry.getKey(), entry.getValue())) {
+                long delta = entry.getValue().drain();
+                if (delta > 0) {
+                    deltas.merge(entry.getKey(), delta, Long::sum);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private void evictExpiredViews() {
+        long now = System.currentTimeMillis();
+        recentViews.values().removeIf(expiresAt -> expiresAt <= now);
+
+        if (recentViews.size() > properties.getMaxDedupEntries()) {
+            log.warn("View dedup entries exceeded {}, clearing", properties.getMaxDedupEntries());
+            recentViews.clear();
+        }
+    }
+
+    /**
+     * 반영된 게시글의 viewCount를 Elasticsearch에 부분 업데이트
+     * 실패해도 다음 전체 재색인 시 DB 값으로 맞춰지므로 로그만 남깁니다.
+     */
+    private void syncSearchIndex(Collection<UUID> postIds) {
+        try {
+            for (PostStats stats : postStatsRepository.findAllByPostIds(postIds)) {
+                PostCountProjection projection = PostCountProjection.builder()
+                        .id(stats.postId())
+                        .viewCount(stats.viewCount())
+                        .build();
+                postProjectionCommandPort.updatePostCounts(projection);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sync view counts to search index for {} posts", postIds.size(), e);
+        }
+    }
+
+    private record ViewKey(UUID postId, UUID userId) {
+    }
+}
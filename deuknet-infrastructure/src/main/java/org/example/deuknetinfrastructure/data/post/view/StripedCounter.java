@@ -0,0 +1,36 @@
+package org.example.deuknetinfrastructure.data.post.view;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드별로 슬롯을 나눈 카운터
+ * 인기 게시글에 조회가 몰려도 하나의 CAS 지점에서 경합하지 않도록 합니다.<br>
+ * {@link #drain()}은 슬롯마다 getAndSet(0)을 사용하므로 동시 증가분을 잃지 않습니다.
+ */
+class StripedCounter {
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    StripedCounter(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.cells = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    void add(long delta) {
+        int index = (int) (Thread.currentThread().getId() * 0x9E3779B9L >>> 16) & mask;
+        cells.addAndGet(index, delta);
+    }
+
+    /**
+     * 누적값을 읽고 0으로 초기화
+     */
+    long drain() {
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            sum += cells.getAndSet(i, 0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.deuknetinfrastructure.data.post.view;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 조회수 write-behind 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "view-count")
+public class ViewCountProperties {
+
+    /**
+     * 누적된 조회수를 DB에 반영하는 주기 (ms)
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * 같은 사용자의 같은 게시글 조회를 한 번으로 취급하는 시간
+     */
+    private Duration dedupWindow = Duration.ofHours(1);
+
+    /**
+     * 중복 제거용 (게시글, 사용자) 엔트리 최대 개수
+     * 초과 시 만료되지 않은 엔트리도 비웁니다 (메모리 상한 보장)
+     */
+    private int maxDedupEntries = 200_000;
+
+    /**
+     * 게시글별 카운터의 stripe 개수 (2의 거듭제곱으로 올림)
+     */
+    private int stripes = 8;
+}
@@ -0,0 +1,34 @@
+package org.example.deuknetinfrastructure.data.reaction;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 반응 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reaction-cache")
+public class ReactionCacheProperties {
+
+    /**
+     * 반응 집합을 메모리에 유지할 최대 사용자 수
+     */
+    private int maxUsers = 10_000;
+
+    /**
+     * 사용자당 캐싱할 최대 반응 수
+     * 초과하는 사용자는 캐싱하지 않고 목록마다 한 번의 쿼리로 조회합니다.
+     */
+    private int maxReactionsPerUser = 5_000;
+
+    /**
+     * 적재 후 유지 시간 (다른 인스턴스에서 커밋된 반응 변경이 반영되기까지 최대 지연)
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
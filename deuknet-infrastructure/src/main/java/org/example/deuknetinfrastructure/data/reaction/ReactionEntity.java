@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
 import org.example.deuknetdomain.domain.reaction.TargetType;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "reactions")
-public class ReactionEntity {
+public class ReactionEntity extends AssignedIdEntity {
     
     @Id
     @Column(columnDefinition = "UUID")
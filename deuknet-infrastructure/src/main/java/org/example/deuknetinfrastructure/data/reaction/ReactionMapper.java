@@ -22,7 +22,7 @@ public class ReactionMapper {
     public ReactionEntity toEntity(Reaction domain) {
         if (domain == null) return null;
         
-        return new ReactionEntity(
+        ReactionEntity entity = new ReactionEntity(
                 domain.getId(),
                 domain.getReactionType(),
                 domain.getTargetType(),
@@ -30,5 +30,7 @@ public class ReactionMapper {
                 domain.getUserId(),
                 domain.getCreatedAt()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
@@ -1,10 +1,16 @@
 package org.example.deuknetinfrastructure.data.reaction;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.example.deuknetapplication.port.out.repository.ReactionRepository;
 import org.example.deuknetdomain.domain.reaction.Reaction;
 import org.example.deuknetdomain.domain.reaction.ReactionType;
+import org.example.deuknetdomain.domain.reaction.TargetType;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,18 +19,30 @@ import java.util.stream.Collectors;
 @Component
 public class ReactionRepositoryAdapter implements ReactionRepository {
 
+    private static final List<ReactionType> USER_STATE_TYPES = List.of(ReactionType.LIKE, ReactionType.DISLIKE);
+
     private final JpaReactionRepository jpaReactionRepository;
     private final ReactionMapper mapper;
+    private final JPAQueryFactory queryFactory;
+    private final UserReactionCache userReactionCache;
 
-    public ReactionRepositoryAdapter(JpaReactionRepository jpaReactionRepository, ReactionMapper mapper) {
+    public ReactionRepositoryAdapter(JpaReactionRepository jpaReactionRepository, ReactionMapper mapper,
+                                     JPAQueryFactory queryFactory, UserReactionCache userReactionCache) {
         this.jpaReactionRepository = jpaReactionRepository;
         this.mapper = mapper;
+        this.queryFactory = queryFactory;
+        this.userReactionCache = userReactionCache;
     }
 
     @Override
     public Reaction save(Reaction reaction) {
         ReactionEntity entity = mapper.toEntity(reaction);
         ReactionEntity savedEntity = jpaReactionRepository.save(entity);
+        reaction.markPersisted();
+        if (isUserState(reaction)) {
+            UserReaction added = new UserReaction(reaction.getId(), reaction.getTargetId(), reaction.getReactionType());
+            afterCommit(() -> userReactionCache.applyAdded(reaction.getUserId(), added));
+        }
         return mapper.toDomain(savedEntity);
     }
 
@@ -38,6 +56,9 @@ public class ReactionRepositoryAdapter implements ReactionRepository {
     public void delete(Reaction reaction) {
         ReactionEntity entity = mapper.toEntity(reaction);
         jpaReactionRepository.delete(entity);
+        if (isUserState(reaction)) {
+            afterCommit(() -> userReactionCache.applyRemoved(reaction.getUserId(), reaction.getId()));
+        }
     }
 
     @Override
@@ -67,4 +88,73 @@ public class ReactionRepositoryAdapter implements ReactionRepository {
     public List<UUID> findLikedPostIdsByUserId(UUID userId) {
         return jpaReactionRepository.findLikedPostIdsByUserId(userId);
     }
+
+    @Override
+    public List<UserReaction> findByUserIdAndTargetIds(UUID userId, Collection<UUID> targetIds) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+
+        UserReactionSet reactions = userReactionCache.get(userId, this::loadUserReactions);
+        if (!reactions.isOverflow()) {
+            return reactions.find(targetIds);
+        }
+
+        // 반응이 많은 사용자는 캐싱하지 않고 해당 게시글만 한 번에 조회
+        QReactionEntity reaction = QReactionEntity.reactionEntity;
+        return fetchUserReactions(reaction.userId.eq(userId)
+                .and(reaction.targetType.eq(TargetType.POST))
+                .and(reaction.targetId.in(targetIds))
+                .and(reaction.reactionType.in(USER_STATE_TYPES)), Long.MAX_VALUE);
+    }
+
+    /**
+     * 사용자의 게시글 LIKE/DISLIKE 전체를 한 번에 조회 (상한 초과 시 OVERFLOW)
+     */
+    private UserReactionSet loadUserReactions(UUID userId) {
+        QReactionEntity reaction = QReactionEntity.reactionEntity;
+        int maxReactions = userReactionCache.maxReactionsPerUser();
+
+        List<UserReaction> reactions = fetchUserReactions(reaction.userId.eq(userId)
+                .and(reaction.targetType.eq(TargetType.POST))
+                .and(reaction.reactionType.in(USER_STATE_TYPES)), maxReactions + 1L);
+        return reactions.size() > maxReactions ? UserReactionSet.OVERFLOW : UserReactionSet.of(reactions);
+    }
+
+    private List<UserReaction> fetchUserReactions(Predicate condition, long limit) {
+        QReactionEntity reaction = QReactionEntity.reactionEntity;
+
+        return queryFactory
+                .select(reaction.id, reaction.targetId, reaction.reactionType)
+                .from(reaction)
+                .where(condition)
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> new UserReaction(
+                        row.get(reaction.id),
+                        row.get(reaction.targetId),
+                        row.get(reaction.reactionType)))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isUserState(Reaction reaction) {
+        return reaction.getTargetType() == TargetType.POST && USER_STATE_TYPES.contains(reaction.getReactionType());
+    }
+
+    /**
+     * 커밋된 변경만 캐시에 반영 (롤백 시 반영하지 않음)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,94 @@
+package org.example.deuknetinfrastructure.data.reaction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.deuknetapplication.port.out.repository.ReactionRepository.UserReaction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 최근 활동한 사용자의 게시글 반응 집합 캐시
+ * <br>
+ * 목록 페이지의 hasUserLiked/hasUserDisliked를 DB 조회 없이 채우기 위해 사용자별 UserReactionSet을 유지합니다.
+ * 이 인스턴스에서 Reaction 저장/삭제가 커밋되면 캐시된 집합에 바로 반영합니다(무효화가 아닌 갱신).
+ * 다른 인스턴스의 변경은 알 수 없으므로 적재 후 ttl이 지나면 조회/갱신 여부와 관계없이 다시 적재합니다.
+ * 만료 시각은 적재 시점에만 정해지며, 조회나 이 인스턴스의 반영(갱신)으로는 연장되지 않습니다.
+ * <br>
+ * 로딩 중인 사용자에 대한 갱신은 Caffeine이 같은 키의 계산을 직렬화하므로 로딩이 끝난 뒤 적용되며,
+ * 추가/삭제가 멱등이라 로딩 결과에 이미 포함된 변경을 다시 적용해도 안전합니다.
+ * <br>
+ * 메트릭: cache.gets{cache=user.reactions, result=hit|miss} 등 Caffeine 통계
+ */
+@Component
+public class UserReactionCache {
+
+    private final ReactionCacheProperties properties;
+    private final Cache<UUID, UserReactionSet> cache;
+
+    @Autowired
+    public UserReactionCache(ReactionCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    UserReactionCache(ReactionCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxUsers())
+                .expireAfter(new LoadedAtExpiry(properties.getTtl().toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.reactions");
+    }
+
+    /**
+     * 사용자 반응 집합 조회 (없으면 loader로 조회 후 저장)
+     * 반응 수가 상한을 넘는 사용자는 UserReactionSet.OVERFLOW
+     */
+    UserReactionSet get(UUID userId, Function<UUID, UserReactionSet> loader) {
+        return cache.get(userId, loader);
+    }
+
+    int maxReactionsPerUser() {
+        return properties.getMaxReactionsPerUser();
+    }
+
+    void applyAdded(UUID userId, UserReaction reaction) {
+        cache.asMap().computeIfPresent(userId, (id, reactions) -> {
+            UserReactionSet updated = reactions.with(reaction);
+            return updated.size() > properties.getMaxReactionsPerUser() ? UserReactionSet.OVERFLOW : updated;
+        });
+    }
+
+    void applyRemoved(UUID userId, UUID reactionId) {
+        cache.asMap().computeIfPresent(userId, (id, reactions) -> reactions.without(reactionId));
+    }
+
+    /**
+     * 적재 시점 기준 만료 (갱신/조회는 남은 시간을 그대로 유지)
+     */
+    private record LoadedAtExpiry(long ttlNanos) implements Expiry<UUID, UserReactionSet> {
+
+        @Override
+        public long expireAfterCreate(UUID userId, UserReactionSet reactions, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID userId, UserReactionSet reactions, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(UUID userId, UserReactionSet reactions, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.deuknetinfrastructure.data.reaction;
+
+import org.example.deuknetapplication.port.out.repository.ReactionRepository.UserReaction;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 사용자의 게시글 LIKE/DISLIKE 집합 (불변)
+ * <br>
+ * 반응마다 객체를 두지 않고 (게시글 ID, 타입) 순으로 정렬된 원시 배열에 담아
+ * 반응 하나당 약 33바이트만 사용하고, 게시글 ID 조회는 이진 탐색으로 처리합니다.
+ * 변경은 새 인스턴스를 만들어 반환합니다 (copy-on-write).
+ */
+final class UserReactionSet {
+
+    /**
+     * 사용자당 최대 반응 수를 넘어 캐싱하지 않는 사용자 표시
+     */
+    static final UserReactionSet OVERFLOW = new UserReactionSet(new long[0], new long[0], new byte[0]);
+
+    private static final ReactionType[] TYPES = ReactionType.values();
+    private static final Comparator<UserReaction> ORDER = Comparator
+            .comparing(UserReaction::targetId)
+            .thenComparing(UserReaction::reactionType);
+
+    private final long[] targets;   // 게시글 ID (msb, lsb) 쌍
+    private final long[] ids;       // reaction ID (msb, lsb) 쌍
+    private final byte[] types;     // ReactionType ordinal
+
+    private UserReactionSet(long[] targets, long[] ids, byte[] types) {
+        this.targets = targets;
+        this.ids = ids;
+        this.types = types;
+    }
+
+    static UserReactionSet of(List<UserReaction> reactions) {
+        List<UserReaction> sorted = new ArrayList<>(reactions);
+        sorted.sort(ORDER);
+
+        int size = sorted.size();
+        long[] targets = new long[size * 2];
+        long[] ids = new long[size * 2];
+        byte[] types = new byte[size];
+        for (int i = 0; i < size; i++) {
+            UserReaction reaction = sorted.get(i);
+            targets[i * 2] = reaction.targetId().getMostSignificantBits();
+            targets[i * 2 + 1] = reaction.targetId().getLeastSignificantBits();
+            ids[i * 2] = reaction.id().getMostSignificantBits();
+            ids[i * 2 + 1] = reaction.id().getLeastSignificantBits();
+            types[i] = (byte) reaction.reactionType().ordinal();
+        }
+        return new UserReactionSet(targets, ids, types);
+    }
+
+    boolean isOverflow() {
+        return this == OVERFLOW;
+    }
+
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * 주어진 게시글들에 대한 반응 조회
+     */
+    List<UserReaction> find(Collection<UUID> targetIds) {
+        List<UserReaction> result = new ArrayList<>();
+        for (UUID targetId : targetIds) {
+            for (int i = lowerBound(targetId); i < size() && matches(i, targetId); i++) {
+                result.add(get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 반응 추가 (같은 reaction ID가 이미 있으면 그대로 반환)
+     */
+    UserReactionSet with(UserReaction reaction) {
+        if (isOverflow() || indexOf(reaction.id()) >= 0) {
+            return this;
+        }
+        List<UserReaction> reactions = toList();
+        reactions.add(reaction);
+        return of(reactions);
+    }
+
+    /**
+     * 반응 제거 (없으면 그대로 반환)
+     */
+    UserReactionSet without(UUID reactionId) {
+        int index = indexOf(reactionId);
+        if (isOverflow() || index < 0) {
+            return this;
+        }
+        List<UserReaction> reactions = toList();
+        reactions.remove(index);
+        return of(reactions);
+    }
+
+    private List<UserReaction> toList() {
+        List<UserReaction> reactions = new ArrayList<>(size() + 1);
+        for (int i = 0; i < size(); i++) {
+            reactions.add(get(i));
+        }
+        return reactions;
+    }
+
+    private UserReaction get(int index) {
+        return new UserReaction(
+                new UUID(ids[index * 2], ids[index * 2 + 1]),
+                new UUID(targets[index * 2], targets[index * 2 + 1]),
+                TYPES[types[index]]
+        );
+    }
+
+    private boolean matches(int index, UUID targetId) {
+        return targets[index * 2] == targetId.getMostSignificantBits()
+                && targets[index * 2 + 1] == targetId.getLeastSignificantBits();
+    }
+
+    private int indexOf(UUID reactionId) {
+        long msb = reactionId.getMostSignificantBits();
+        long lsb = reactionId.getLeastSignificantBits();
+        for (int i = 0; i < size(); i++) {
+            if (ids[i * 2] == msb && ids[i * 2 + 1] == lsb) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * targetId 이상인 첫 위치 (UUID.compareTo와 같은 순서)
+     */
+    private int lowerBound(UUID targetId) {
+        long msb = targetId.getMostSignificantBits();
+        long lsb = targetId.getLeastSignificantBits();
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compare = Long.compare(targets[mid * 2], msb);
+            if (compare == 0) {
+                compare = Long.compare(targets[mid * 2 + 1], lsb);
+            }
+            if (compare < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.deuknetdomain.domain.user.UserRole;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
 import java.util.UUID;
 
@@ -11,7 +12,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "users")
-public class UserEntity {
+public class UserEntity extends AssignedIdEntity {
 
     @Id
     @Column(columnDefinition = "UUID")
@@ -39,11 +40,19 @@ public class UserEntity {
     @Column(name = "can_access_anonymous", nullable = false)
     private boolean canAccessAnonymous;
 
+    /**
+     * 원자적 증가(UserRepositoryAdapter.incrementTokenVersion)로만 변경
+     * 엔티티 병합 시 오래된 값으로 덮어쓰지 않도록 update 대상에서 제외
+     */
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private long tokenVersion;
+
     public UserEntity() {
     }
 
     public UserEntity(UUID id, UUID authCredentialId, String username,
-                      String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous) {
+                      String displayName, String bio, String avatarUrl, UserRole role, boolean canAccessAnonymous,
+                      long tokenVersion) {
         this.id = id;
         this.authCredentialId = authCredentialId;
         this.username = username;
@@ -52,5 +61,6 @@ public class UserEntity {
         this.avatarUrl = avatarUrl;
         this.role = role != null ? role : UserRole.USER;
         this.canAccessAnonymous = canAccessAnonymous;
+        this.tokenVersion = tokenVersion;
     }
 }
@@ -0,0 +1,57 @@
+package org.example.deuknetinfrastructure.data.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 작성자 표시 정보 near-cache
+ * <br>
+ * 목록 응답의 작성자 정보(username, displayName, avatarUrl)만 id 기준으로 캐싱합니다.
+ * 권한 등 나머지 User 필드는 캐싱하지 않으므로 인가 판단에는 사용하지 않습니다.
+ * <br>
+ * 무효화: UserRepositoryAdapter.save (프로필 변경 트랜잭션 커밋 직후)
+ * <br>
+ * 메트릭: cache.gets{cache=user.info, result=hit|miss} 등 Caffeine 통계
+ */
+@Component
+public class UserInfoCache {
+
+    private final Cache<UUID, AuthorInfo> cache;
+
+    public UserInfoCache(UserInfoCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.info");
+    }
+
+    /**
+     * 여러 사용자의 표시 정보 조회
+     * 캐시에 없는 id만 모아 loader를 한 번 호출합니다. 존재하지 않는 사용자는 결과에서 빠집니다.
+     */
+    public Map<UUID, AuthorInfo> getAll(Collection<UUID> userIds,
+                                        Function<Set<? extends UUID>, Map<UUID, AuthorInfo>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 작성자 표시 정보
+     */
+    public record AuthorInfo(String username, String displayName, String avatarUrl) {
+    }
+}
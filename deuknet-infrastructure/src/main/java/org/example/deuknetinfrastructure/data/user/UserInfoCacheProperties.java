@@ -0,0 +1,29 @@
+package org.example.deuknetinfrastructure.data.user;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 작성자 표시 정보 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user-info-cache")
+public class UserInfoCacheProperties {
+
+    /**
+     * 캐시할 사용자 최대 수
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 엔트리 유지 시간
+     * 다른 인스턴스에서 변경된 프로필이 반영되기까지의 최대 지연입니다.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
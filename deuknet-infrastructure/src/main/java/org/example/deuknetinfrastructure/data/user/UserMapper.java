@@ -17,14 +17,15 @@ public class UserMapper {
                 entity.getBio(),
                 entity.getAvatarUrl(),
                 entity.getRole(),
-                entity.isCanAccessAnonymous()
+                entity.isCanAccessAnonymous(),
+                entity.getTokenVersion()
         );
     }
 
     public UserEntity toEntity(User domain) {
         if (domain == null) return null;
 
-        return new UserEntity(
+        UserEntity entity = new UserEntity(
                 domain.getId(),
                 domain.getAuthCredentialId(),
                 domain.getUsername(),
@@ -32,7 +33,10 @@ public class UserMapper {
                 domain.getBio(),
                 domain.getAvatarUrl(),
                 domain.getRole(),
-                domain.isCanAccessAnonymous()
+                domain.isCanAccessAnonymous(),
+                domain.getTokenVersion()
         );
+        entity.markNew(domain.isNew());
+        return entity;
     }
 }
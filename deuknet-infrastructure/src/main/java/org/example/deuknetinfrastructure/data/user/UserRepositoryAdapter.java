@@ -1,5 +1,6 @@
 package org.example.deuknetinfrastructure.data.user;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.example.deuknetapplication.port.out.repository.AuthorInfoEnrichable;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
@@ -9,9 +10,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,20 +28,67 @@ public class UserRepositoryAdapter implements UserRepository {
     private final JpaUserRepository jpaUserRepository;
     private final UserMapper mapper;
     private final JPAQueryFactory queryFactory;
+    private final UserInfoCache userInfoCache;
+    private final UserTokenVersionCache tokenVersionCache;
 
-    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository, UserMapper mapper, JPAQueryFactory queryFactory) {
+    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository, UserMapper mapper,
+                                 JPAQueryFactory queryFactory, UserInfoCache userInfoCache,
+                                 UserTokenVersionCache tokenVersionCache) {
         this.jpaUserRepository = jpaUserRepository;
         this.mapper = mapper;
         this.queryFactory = queryFactory;
+        this.userInfoCache = userInfoCache;
+        this.tokenVersionCache = tokenVersionCache;
     }
 
     @Override
     public User save(User user) {
         UserEntity entity = mapper.toEntity(user);
         UserEntity savedEntity = jpaUserRepository.save(entity);
+        user.markPersisted();
+        evictAfterCommit(() -> userInfoCache.evict(savedEntity.getId()));
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public void incrementTokenVersion(UUID userId) {
+        QUserEntity user = QUserEntity.userEntity;
+
+        // 동시 변경에도 버전이 줄어들지 않도록 DB에서 원자적으로 증가
+        queryFactory.update(user)
+                .set(user.tokenVersion, user.tokenVersion.add(1L))
+                .where(user.id.eq(userId))
+                .execute();
+        evictAfterCommit(() -> tokenVersionCache.evict(userId));
+    }
+
+    @Override
+    public Optional<Long> findTokenVersion(UUID userId) {
+        QUserEntity user = QUserEntity.userEntity;
+
+        return tokenVersionCache.get(userId, id -> queryFactory
+                .select(user.tokenVersion)
+                .from(user)
+                .where(user.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 캐시 무효화
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 커밋 직후에 한 번 더 무효화
+     */
+    private void evictAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
     @Override
     public Optional<User> findByAuthCredentialId(UUID authCredentialId) {
         return jpaUserRepository.findByAuthCredentialId(authCredentialId)
@@ -55,34 +109,66 @@ public class UserRepositoryAdapter implements UserRepository {
 
     @Override
     public void enrichWithUserInfo(AuthorInfoEnrichable response) {
-        if (AuthorType.ANONYMOUS.equals(response.getAuthorType())) {
-            // 익명 작성물: authorId를 null로 마스킹
-            response.setAuthorId(null);
-            response.setAuthorUsername("익명");
-            response.setAuthorDisplayName("익명");
-        } else if (AuthorType.REAL.equals(response.getAuthorType())) {
-            // 실명 작성물은 User 조회
-            findById(response.getAuthorId()).ifPresent(user -> {
-                response.setAuthorUsername(user.getUsername());
-                response.setAuthorDisplayName(user.getDisplayName());
-            });
+        enrichWithUserInfo(List.of(response));
+    }
+
+    @Override
+    public void enrichWithUserInfo(List<? extends AuthorInfoEnrichable> responses) {
+        // 실명 작성자 id만 모아 캐시 → 캐시에 없는 id만 한 번에 조회
+        Set<UUID> realAuthorIds = responses.stream()
+                .filter(response -> AuthorType.REAL.equals(response.getAuthorType()))
+                .map(AuthorInfoEnrichable::getAuthorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, UserInfoCache.AuthorInfo> authors = realAuthorIds.isEmpty()
+                ? Map.of()
+                : userInfoCache.getAll(realAuthorIds, this::loadAuthorInfos);
+
+        for (AuthorInfoEnrichable response : responses) {
+            if (AuthorType.ANONYMOUS.equals(response.getAuthorType())) {
+                // 익명 작성물: authorId를 null로 마스킹
+                response.setAuthorId(null);
+                response.setAuthorUsername("익명");
+                response.setAuthorDisplayName("익명");
+                response.setAuthorAvatarUrl(null);
+            } else if (AuthorType.REAL.equals(response.getAuthorType())) {
+                UserInfoCache.AuthorInfo author = authors.get(response.getAuthorId());
+                if (author != null) {
+                    response.setAuthorUsername(author.username());
+                    response.setAuthorDisplayName(author.displayName());
+                    response.setAuthorAvatarUrl(author.avatarUrl());
+                }
+            }
         }
     }
 
     @Override
     public void enrichWithUserInfoForComment(AuthorInfoEnrichable response) {
-        if (AuthorType.ANONYMOUS.equals(response.getAuthorType())) {
-            // Comment용: authorId를 null로 설정
-            response.setAuthorId(null);
-            response.setAuthorUsername("익명");
-            response.setAuthorDisplayName("익명");
-        } else if (AuthorType.REAL.equals(response.getAuthorType())) {
-            // 실명 작성물은 User 조회
-            findById(response.getAuthorId()).ifPresent(user -> {
-                response.setAuthorUsername(user.getUsername());
-                response.setAuthorDisplayName(user.getDisplayName());
-            });
+        // Comment도 익명이면 authorId를 null로 설정하므로 Post와 동일하게 처리
+        enrichWithUserInfo(List.of(response));
+    }
+
+    /**
+     * 캐시에 없는 작성자의 표시 정보를 한 번의 쿼리로 조회
+     */
+    private Map<UUID, UserInfoCache.AuthorInfo> loadAuthorInfos(Set<? extends UUID> userIds) {
+        QUserEntity user = QUserEntity.userEntity;
+
+        List<Tuple> rows = queryFactory
+                .select(user.id, user.username, user.displayName, user.avatarUrl)
+                .from(user)
+                .where(user.id.in(userIds))
+                .fetch();
+
+        Map<UUID, UserInfoCache.AuthorInfo> authors = new HashMap<>();
+        for (Tuple row : rows) {
+            authors.put(row.get(user.id), new UserInfoCache.AuthorInfo(
+                    row.get(user.username),
+                    row.get(user.displayName),
+                    row.get(user.avatarUrl)
+            ));
         }
+        return authors;
     }
 
     @Override
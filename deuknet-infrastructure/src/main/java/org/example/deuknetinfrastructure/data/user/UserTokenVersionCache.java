@@ -0,0 +1,51 @@
+package org.example.deuknetinfrastructure.data.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 사용자별 access token 버전 캐시
+ * <br>
+ * JWT 필터가 요청마다 DB를 조회하지 않고 토큰 폐기 여부를 확인할 수 있도록 최신 버전만 캐싱합니다.
+ * 같은 인스턴스의 변경은 커밋 직후 무효화되고, 다른 인스턴스의 변경은 TTL 안에 반영됩니다.
+ * <br>
+ * 메트릭: cache.gets{cache=user.token-version, result=hit|miss} 등 Caffeine 통계
+ */
+@Component
+public class UserTokenVersionCache {
+
+    private final Cache<UUID, Long> cache;
+
+    public UserTokenVersionCache(
+            @Value("${jwt.token-version-cache.max-entries:50000}") int maxEntries,
+            @Value("${jwt.token-version-cache.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.token-version");
+    }
+
+    /**
+     * 토큰 버전 조회 (없으면 loader로 조회 후 저장, 존재하지 않는 사용자는 캐싱하지 않음)
+     */
+    public Optional<Long> get(UUID userId, Function<UUID, Long> loader) {
+        return Optional.ofNullable(cache.get(userId, loader));
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.messaging.EventType;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CDC 이벤트 병합기 (last-write-wins)
+ * <br>
+ * 하나의 배치 안에서 같은 게시물(aggregateId)의 Post 이벤트를 최신 상태만 남기도록 합칩니다.
+ * 인기 게시물에 좋아요가 몰려도 Elasticsearch에는 게시물당 한두 번만 반영됩니다.
+ * <br>
+ * 병합 규칙 (게시물별, 배치 내 순서 기준):
+ * - 전체 상태 이벤트(POST_CREATED/UPDATED/PUBLISHED/DELETED): 앞선 이벤트를 모두 대체
+ * - POST_COUNTS_CHANGED: 이전 카운터 이벤트와 필드 단위로 합침 (뒤의 값 우선), 전체 상태 이벤트 뒤에 적용
+ * - POST_DELETED 이후의 카운터 이벤트는 버림
+ * - 그 외 이벤트는 그대로 전달
+ * <br>
+ * 병합 범위는 Debezium 배치 하나입니다 (debezium.batch.linger-ms / max-size).
+ * 배치 단위로 반영한 뒤 오프셋을 커밋하므로 종료 시 버려지는 이벤트는 없습니다.
+ * <br>
+ * 카운터 병합은 파싱된 페이로드 트리를 직접 합치므로 JSON을 다시 파싱하거나 직렬화하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CDCEventCoalescer {
+
+    private final DebeziumProperties properties;
+    private final Counter coalescedCounter;
+
+    public CDCEventCoalescer(DebeziumProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.coalescedCounter = Counter.builder("cdc.coalesce.dropped")
+                .description("병합되어 생략된 CDC 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 내 이벤트 병합
+     *
+     * @param messages 배치 순서대로 정렬된 이벤트
+     * @return 병합된 이벤트 (게시물별 순서 유지)
+     */
+    public List<CDCEventMessage> coalesce(List<CDCEventMessage> messages) {
+        if (!properties.getCoalesce().isEnabled() || messages.size() < 2) {
+            return messages;
+        }
+
+        List<Object> entries = new ArrayList<>(messages.size());
+        Map<String, PostSlot> slots = new HashMap<>();
+
+        for (CDCEventMessage message : messages) {
+            if (!isCoalescable(message.eventType())) {
+                // 같은 aggregateId의 이후 이벤트가 이 이벤트를 넘어 합쳐지지 않도록 슬롯을 닫음
+                slots.remove(message.aggregateId());
+                entries.add(message);
+                continue;
+            }
+
+            PostSlot slot = slots.get(message.aggregateId());
+            if (slot == null) {
+                slot = new PostSlot();
+                slots.put(message.aggregateId(), slot);
+                entries.add(slot);
+            }
+            slot.apply(message);
+        }
+
+        List<CDCEventMessage> result = new ArrayList<>(messages.size());
+        for (Object entry : entries) {
+            if (entry instanceof PostSlot slot) {
+                slot.emit(result);
+            } else {
+                result.add((CDCEventMessage) entry);
+            }
+        }
+
+        int dropped = messages.size() - result.size();
+        if (dropped > 0) {
+            coalescedCounter.increment(dropped);
+            log.debug("Coalesced CDC batch: {} -> {} events", messages.size(), result.size());
+        }
+        return result;
+    }
+
+    private boolean isCoalescable(EventType eventType) {
+        return eventType == EventType.POST_CREATED
+                || eventType == EventType.POST_UPDATED
+                || eventType == EventType.POST_PUBLISHED
+                || eventType == EventType.POST_DELETED
+                || eventType == EventType.POST_COUNTS_CHANGED;
+    }
+
+    /**
+     * 게시물 하나의 병합 상태
+     */
+    private final class PostSlot {
+
+        private CDCEventMessage state;
+        private CDCEventMessage counts;
+        private ObjectNode mergedCounts;
+
+        private void apply(CDCEventMessage message) {
+            if (message.eventType() != EventType.POST_COUNTS_CHANGED) {
+                state = message;
+                counts = null;
+                mergedCounts = null;
+                return;
+            }
+
+            if (state != null && state.eventType() == EventType.POST_DELETED) {
+                return;
+            }
+
+            if (counts == null) {
+                counts = message;
+                return;
+            }
+
+            if (!(counts.payload() instanceof ObjectNode first) || !(message.payload() instanceof ObjectNode next)) {
+                // 병합할 수 없는 페이로드는 마지막 이벤트만 유지
+                log.warn("Failed to merge count payloads, keeping latest only: aggregateId={}", message.aggregateId());
+                counts = message;
+                mergedCounts = null;
+                return;
+            }
+            if (mergedCounts == null) {
+                mergedCounts = first.deepCopy();
+            }
+            mergedCounts.setAll(next);
+            counts = message;
+        }
+
+        private void emit(List<CDCEventMessage> result) {
+            if (state != null) {
+                result.add(state);
+            }
+            if (counts == null) {
+                return;
+            }
+            if (mergedCounts == null) {
+                result.add(counts);
+                return;
+            }
+            result.add(new CDCEventMessage(counts.eventType(), counts.aggregateId(), mergedCounts));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.example.deuknetinfrastructure.external.search.adapter.ElasticsearchBulkIndexer;
+import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * CDC 이벤트 병렬 디스패처
+ * <br>
+ * aggregateId의 해시로 N개의 워커 중 하나를 선택해 이벤트를 넘깁니다.
+ * 같은 게시물의 이벤트는 항상 같은 워커에서 순서대로 처리되고, 다른 게시물은 병렬로 처리됩니다.
+ * <br>
+ * 워커 큐는 크기가 제한되어 있어 가득 차면 {@link #dispatch}를 호출한 엔진 스레드가 대기합니다 (backpressure).
+ * 각 워커는 자기 스레드의 _bulk 버퍼에 작업을 모으고, {@link #flush} 시 모든 워커가 전송을 마칠 때까지 기다립니다.
+ * <br>
+ * 메트릭: cdc.dispatch.queue.depth (worker 태그별 대기 중인 이벤트 수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "debezium.enabled", havingValue = "true")
+public class CDCEventDispatcher {
+
+    private final DebeziumEventHandler eventHandler;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final List<Worker> workers;
+
+    public CDCEventDispatcher(
+            DebeziumEventHandler eventHandler,
+            ElasticsearchBulkIndexer bulkIndexer,
+            DebeziumProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventHandler = eventHandler;
+        this.bulkIndexer = bulkIndexer;
+
+        DebeziumProperties.Dispatch dispatch = properties.getDispatch();
+        int workerCount = Math.max(1, dispatch.getWorkers());
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            Worker worker = new Worker(i, dispatch.getQueueCapacity());
+            Gauge.builder("cdc.dispatch.queue.depth", worker.queue, BlockingQueue::size)
+                    .description("CDC 워커 큐에 대기 중인 이벤트 수")
+                    .tag("worker", String.valueOf(i))
+                    .register(meterRegistry);
+            workers.add(worker);
+            worker.thread.start();
+        }
+    }
+
+    /**
+     * 이벤트를 aggregateId에 해당하는 워커 큐에 넣습니다.
+     * 큐가 가득 차 있으면 자리가 날 때까지 대기합니다.
+     */
+    public void dispatch(CDCEventMessage message) throws InterruptedException {
+        workerFor(message.aggregateId()).queue.put(() -> eventHandler.handle(message));
+    }
+
+    /**
+     * 지금까지 넘긴 이벤트가 모든 워커에서 처리되고 _bulk로 반영될 때까지 대기
+     *
+     * @throws SearchOperationException 하나 이상의 워커에서 반영에 실패한 경우
+     */
+    public void flush() throws InterruptedException {
+        List<CompletableFuture<Void>> barriers = new ArrayList<>(workers.size());
+        for (Worker worker : workers) {
+            CompletableFuture<Void> barrier = new CompletableFuture<>();
+            worker.queue.put(() -> {
+                try {
+                    bulkIndexer.flush();
+                    barrier.complete(null);
+                } catch (Exception e) {
+                    barrier.completeExceptionally(e);
+                }
+            });
+            barriers.add(barrier);
+        }
+
+        try {
+            CompletableFuture.allOf(barriers.toArray(CompletableFuture[]::new)).get();
+        } catch (ExecutionException e) {
+            throw new SearchOperationException("Failed to flush CDC events", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(worker -> worker.thread.interrupt());
+    }
+
+    private Worker workerFor(String aggregateId) {
+        return workers.get(Math.floorMod(aggregateId.hashCode(), workers.size()));
+    }
+
+    private final class Worker implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+
+        private Worker(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "cdc-dispatch-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            bulkIndexer.begin();
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    queue.take().run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                bulkIndexer.end();
+                log.debug("CDC dispatch worker stopped: {}", thread.getName());
+            }
+        }
+    }
+}
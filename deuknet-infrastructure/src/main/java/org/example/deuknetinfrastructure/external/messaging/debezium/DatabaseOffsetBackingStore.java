@@ -11,12 +11,14 @@ import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetJpaReposito
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 /**
@@ -26,6 +28,9 @@ import java.util.concurrent.Future;
  * <br>
  * Multi-instance 환경에서 안전하게 동작합니다.
  * <br>
+ * flush마다 바뀐 offset만 골라 한 번의 UPSERT로 저장하고, 바뀐 것이 없으면 DB에 접근하지 않습니다.
+ * 키별 ID(SHA-256)는 한 번만 계산해 캐시합니다.
+ * <br>
  * Debezium은 리플렉션으로 이 클래스를 인스턴스화하므로 기본 생성자가 필요합니다.
  * Spring Bean은 static 필드로 주입받습니다.
  */
@@ -35,6 +40,16 @@ public class DatabaseOffsetBackingStore extends MemoryOffsetBackingStore {
     private static DebeziumOffsetJpaRepository staticOffsetRepository;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 키별 offset ID 캐시 (SHA-256 hex)
+     */
+    private final Map<ByteBuffer, String> idsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * DB에 마지막으로 저장된 값 (변경 없는 offset은 저장 생략)
+     */
+    private final Map<ByteBuffer, ByteBuffer> persisted = new ConcurrentHashMap<>();
+
     /**
      * Debezium이 리플렉션으로 호출하는 기본 생성자
      */
@@ -133,6 +148,8 @@ public class DatabaseOffsetBackingStore extends MemoryOffsetBackingStore {
                 ByteBuffer value = ByteBuffer.wrap(valueJson.getBytes(StandardCharsets.UTF_8));
 
                 data.put(key, value);
+                persisted.put(key, value);
+                idsByKey.put(key, entity.getId());
                 log.debug("Loaded offset from database: key={}", keyJson);
             }
 
@@ -144,6 +161,7 @@ public class DatabaseOffsetBackingStore extends MemoryOffsetBackingStore {
 
     /**
      * Database에 offset 저장
+     * 마지막으로 저장한 값과 다른 offset만 한 문장의 UPSERT로 저장합니다.
      */
     private void saveToDatabase(Map<ByteBuffer, ByteBuffer> values) {
         try {
@@ -152,24 +170,29 @@ public class DatabaseOffsetBackingStore extends MemoryOffsetBackingStore {
                 throw new IllegalStateException("OffsetRepository not initialized");
             }
 
+            List<DebeziumOffsetEntity> changed = new ArrayList<>(values.size());
             for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().equals(persisted.get(entry.getKey()))) {
+                    continue;
+                }
                 String keyJson = new String(entry.getKey().array(), StandardCharsets.UTF_8);
                 String valueJson = new String(entry.getValue().array(), StandardCharsets.UTF_8);
+                String id = idsByKey.computeIfAbsent(entry.getKey(), key -> generateId(keyJson));
+                changed.add(new DebeziumOffsetEntity(id, keyJson, valueJson));
+            }
 
-                // 키의 해시값을 ID로 사용
-                String id = generateId(keyJson);
-
-                // JPA를 사용한 Upsert (findById + save)
-                DebeziumOffsetEntity entity = staticOffsetRepository.findById(id)
-                        .orElse(new DebeziumOffsetEntity(id, keyJson, valueJson));
-
-                entity.setOffsetValue(valueJson);
-                staticOffsetRepository.save(entity);
+            if (changed.isEmpty()) {
+                return;
+            }
 
-                log.debug("Saved offset to database: id={}, key={}", id, keyJson);
+            staticOffsetRepository.upsertAll(changed);
+            for (Map.Entry<ByteBuffer, ByteBuffer> entry : values.entrySet()) {
+                if (entry.getValue() != null) {
+                    persisted.put(entry.getKey(), entry.getValue());
+                }
             }
 
-            log.info("Successfully saved {} offset entries to database", values.size());
+            log.debug("Saved {} offset entries to database", changed.size());
         } catch (Exception e) {
             log.error("Error saving offsets to database", e);
             throw new RuntimeException("Failed to save offsets to database", e);
@@ -0,0 +1,58 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Debezium 배치 소비자
+ * <br>
+ * 한 번의 poll로 받은 레코드를 파싱하고 CDCEventCoalescer로 게시물별 최신 상태만 남긴 뒤 CDCEventDispatcher의 워커로 넘기고,
+ * 모든 워커가 Elasticsearch _bulk 반영을 마친 뒤에 오프셋을 커밋합니다.
+ * 반영에 실패하면 예외를 던져 엔진을 중단시키고, 재시작 시 마지막 커밋 지점부터 다시 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "debezium.enabled", havingValue = "true")
+public class DebeziumBatchChangeConsumer implements DebeziumEngine.ChangeConsumer<ChangeEvent<String, String>> {
+
+    private final DebeziumEventHandler eventHandler;
+    private final CDCEventCoalescer coalescer;
+    private final CDCEventDispatcher dispatcher;
+
+    @Override
+    public void handleBatch(
+            List<ChangeEvent<String, String>> records,
+            DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> committer
+    ) throws InterruptedException {
+        log.debug("Debezium batch received: {} records", records.size());
+
+        List<CDCEventMessage> messages = new ArrayList<>(records.size());
+        for (ChangeEvent<String, String> record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+            Optional<CDCEventMessage> message = eventHandler.parse(record.key(), record.value());
+            message.ifPresent(messages::add);
+        }
+
+        for (CDCEventMessage message : coalescer.coalesce(messages)) {
+            dispatcher.dispatch(message);
+        }
+        dispatcher.flush();
+
+        for (ChangeEvent<String, String> record : records) {
+            committer.markProcessed(record);
+        }
+        committer.markBatchFinished();
+    }
+}
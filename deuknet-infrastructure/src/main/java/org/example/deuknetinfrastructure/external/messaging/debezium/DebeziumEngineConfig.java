@@ -51,6 +51,11 @@ public class DebeziumEngineConfig {
                 .with("offset.storage", "org.example.deuknetinfrastructure.external.messaging.debezium.DatabaseOffsetBackingStore")
                 .with("offset.flush.interval.ms", "1000")
 
+                // 배치 설정 (DebeziumBatchChangeConsumer가 poll 단위로 _bulk 색인)
+                .with("max.batch.size", properties.getBatch().getMaxSize())
+                .with("max.queue.size", properties.getBatch().getMaxSize() * 4)
+                .with("poll.interval.ms", properties.getBatch().getLingerMs())
+
                 // Database 연결 설정
                 .with("database.hostname", properties.getDatabase().getHostname())
                 .with("database.port", properties.getDatabase().getPort())
@@ -88,26 +93,12 @@ public class DebeziumEngineConfig {
 
     @Bean(destroyMethod = "close")
     public DebeziumEngine<ChangeEvent<String, String>> debeziumEngine(
-            io.debezium.config.Configuration debeziumConfiguration
+            io.debezium.config.Configuration debeziumConfiguration,
+            DebeziumBatchChangeConsumer batchChangeConsumer
     ) {
         DebeziumEngine<ChangeEvent<String, String>> engine = DebeziumEngine.create(Json.class)
                 .using(debeziumConfiguration.asProperties())
-                .notifying(record -> {
-                    try {
-                        String key = record.key();
-                        String value = record.value();
-
-                        log.info("===== Debezium Record Received =====");
-                        log.info("Key: {}", key);
-                        log.info("Value: {}", value);
-
-                        if (value != null) {
-                            eventHandler.handleEvent(key, value);
-                        }
-                    } catch (Exception e) {
-                        log.error("Error processing Debezium record", e);
-                    }
-                })
+                .notifying(batchChangeConsumer)
                 .using((success, message, error) -> {
                     if (!success) {
                         log.error("Debezium engine error: {}", message, error);
@@ -1,8 +1,13 @@
 package org.example.deuknetinfrastructure.external.messaging.debezium;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.NullNode;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetinfrastructure.external.messaging.exception.InvalidCDCEventException;
@@ -11,7 +16,12 @@ import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventHand
 import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Debezium 이벤트 오케스트레이터
@@ -20,37 +30,74 @@ import java.util.List;
  * - Outbox 테이블의 CDC 이벤트를 수신
  * - EventType별로 적절한 EventHandler에 위임
  * - Strategy 패턴을 사용하여 이벤트 처리 로직 분리
+ *
+ * EventType별 핸들러는 생성 시 한 번 결정해 변경 불가 EnumMap으로 보관하므로, 워커 스레드가 잠금 없이 조회합니다.
+ * 파싱({@link #parse})과 처리({@link #handle})는 분리되어 있어 CDCEventDispatcher의 워커 스레드에서 처리할 수 있습니다.
+ *
+ * 레코드는 스트리밍 파서로 한 번만 읽습니다.
+ * schema 등 사용하지 않는 필드는 트리를 만들지 않고 건너뛰며, 내부 payload만 트리로 읽어 CDCEventMessage에 그대로 담습니다.
  */
 @Slf4j
 @Component
 public class DebeziumEventHandler {
 
-    private final List<CDCEventHandler> CDCEventHandlers;
-    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final ObjectReader treeReader;
+    private final Map<EventType, CDCEventHandler> handlersByType;
 
     public DebeziumEventHandler(
             List<CDCEventHandler> CDCEventHandlers,
             ObjectMapper objectMapper
     ) {
-        this.CDCEventHandlers = CDCEventHandlers;
-        this.objectMapper = objectMapper;
+        this.handlersByType = resolveHandlers(CDCEventHandlers);
+        this.jsonFactory = objectMapper.getFactory();
+        this.treeReader = objectMapper.reader();
     }
 
-    private CDCEventMessage parseEvent(String key, String value) throws JsonProcessingException {
-        JsonNode root = objectMapper.readTree(value);
-
-        JsonNode envelope = root.get("payload");
-        if (envelope == null || envelope.isNull()) {
-            log.debug("Empty envelope, skipping. key={}", key);
-            throw new InvalidCDCEventException("Empty envelope, skipping. key=" + key);
+    private CDCEventMessage parseEvent(String key, String value) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(value)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidCDCEventException("CDC value is not a JSON object. key=" + key);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("payload".equals(field) && token == JsonToken.START_OBJECT) {
+                    return parseEnvelope(key, parser);
+                }
+                // schema 등은 트리를 만들지 않고 건너뜀
+                parser.skipChildren();
+            }
         }
 
-        String eventTypeName = envelope.get("eventType").asText();
-        String aggregateId = envelope.get("aggregateId").asText();
+        log.debug("Empty envelope, skipping. key={}", key);
+        throw new InvalidCDCEventException("Empty envelope, skipping. key=" + key);
+    }
 
-        // Payload는 이미 JSON 객체로 확장되어 있으므로 다시 문자열로 변환
-        JsonNode payloadNode = envelope.get("payload");
-        String payloadJson = objectMapper.writeValueAsString(payloadNode);
+    /**
+     * Outbox Event Router envelope 파싱
+     * 파서는 envelope의 START_OBJECT에 위치해 있어야 합니다.
+     */
+    private CDCEventMessage parseEnvelope(String key, JsonParser parser) throws IOException {
+        String eventTypeName = null;
+        String aggregateId = null;
+        JsonNode payload = NullNode.instance;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "eventType" -> eventTypeName = parser.getValueAsString();
+                case "aggregateId" -> aggregateId = parser.getValueAsString();
+                // Payload는 이미 JSON 객체로 확장되어 있으므로 트리로 한 번만 읽음
+                case "payload" -> payload = treeReader.readTree(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (eventTypeName == null || aggregateId == null) {
+            throw new InvalidCDCEventException("Missing eventType or aggregateId. key=" + key);
+        }
 
         if (!EventType.isValid(eventTypeName)) {
             log.warn("Unknown event type: {}", eventTypeName);
@@ -58,8 +105,8 @@ public class DebeziumEventHandler {
         }
 
         EventType eventType = EventType.fromTypeName(eventTypeName);
-        log.info("Processing CDC event: type={}, aggregateId={}", eventType, aggregateId);
-        return new CDCEventMessage(eventType, aggregateId, payloadJson);
+        log.debug("Processing CDC event: type={}, aggregateId={}", eventType, aggregateId);
+        return new CDCEventMessage(eventType, aggregateId, payload);
     }
 
     /**
@@ -69,27 +116,53 @@ public class DebeziumEventHandler {
      * @param value CDC 값 (변경된 데이터)
      */
     public void handleEvent(String key, String value) {
+        parse(key, value).ifPresent(this::handle);
+    }
+
+    /**
+     * Debezium 레코드를 CDCEventMessage로 변환
+     * 처리할 수 없는 레코드는 로그를 남기고 빈 값을 반환합니다.
+     */
+    public Optional<CDCEventMessage> parse(String key, String value) {
         try {
-            CDCEventMessage message = parseEvent(key, value);
-
-            // 적절한 EventHandler에 위임 (Strategy 패턴)
-            boolean handled = false;
-            EventType eventType = message.eventType();
-            for (CDCEventHandler handler : CDCEventHandlers) {
-                if (handler.canHandle(eventType)) {
-                    handler.handle(message);
-                    handled = true;
-                    break;
-                }
-            }
+            return Optional.of(parseEvent(key, value));
+        } catch (JsonProcessingException e) {
+            log.error("Invalid CDC event key: {} value: {}", key, value, e);
+        } catch (Exception e) {
+            log.error("Failed to parse Debezium event. key={}, value={}", key, value, e);
+        }
+        return Optional.empty();
+    }
 
-            if (!handled) {
+    /**
+     * 적절한 EventHandler에 위임 (Strategy 패턴)
+     */
+    public void handle(CDCEventMessage message) {
+        EventType eventType = message.eventType();
+        try {
+            CDCEventHandler handler = handlersByType.get(eventType);
+            if (handler == null) {
                 log.warn("No handler found for event type: {}", eventType);
+                return;
             }
-        } catch (JsonProcessingException e) {
-            log.error("Invalid CDC event key: {} value: {}", key, value, e);
+            handler.handle(message);
         } catch (Exception e) {
-            log.error("Failed to process Debezium event. key={}, value={}", key, value, e);
+            log.error("Failed to process Debezium event. type={}, aggregateId={}",
+                    eventType, message.aggregateId(), e);
+        }
+    }
+
+    /**
+     * EventType별 핸들러 결정 (먼저 등록된 핸들러 우선)
+     */
+    private static Map<EventType, CDCEventHandler> resolveHandlers(List<CDCEventHandler> handlers) {
+        Map<EventType, CDCEventHandler> handlersByType = new EnumMap<>(EventType.class);
+        for (EventType eventType : EventType.values()) {
+            handlers.stream()
+                    .filter(handler -> handler.canHandle(eventType))
+                    .findFirst()
+                    .ifPresent(handler -> handlersByType.put(eventType, handler));
         }
+        return Collections.unmodifiableMap(handlersByType);
     }
 }
@@ -20,6 +20,12 @@ public class DebeziumProperties {
 
     private Database database = new Database();
 
+    private Batch batch = new Batch();
+
+    private Dispatch dispatch = new Dispatch();
+
+    private Coalesce coalesce = new Coalesce();
+
     @Getter
     @Setter
     public static class Database {
@@ -30,6 +36,38 @@ public class DebeziumProperties {
         private String password;
         private String serverName = "deuknet";  // topic.prefix
         private String schemaIncludeList = "public";
-        private String tableIncludeList = "public.outbox_events";
+        private String tableIncludeList = "public.outbox_event_log,public.outbox_events";  // outbox_events는 롤링 배포 전환 기간용
+    }
+
+    /**
+     * 배치 소비 설정
+     * Debezium이 한 번의 poll로 넘겨주는 레코드를 하나의 배치로 처리합니다.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxSize = 2048;          // max.batch.size
+        private long lingerMs = 500;         // poll.interval.ms (배치가 찰 때까지 기다리는 최대 시간)
+    }
+
+    /**
+     * 병렬 처리 설정
+     * 같은 aggregateId의 이벤트는 항상 같은 워커에서 순서대로 처리됩니다.
+     */
+    @Getter
+    @Setter
+    public static class Dispatch {
+        private int workers = 4;
+        private int queueCapacity = 1000;    // 워커별 큐 크기 (가득 차면 엔진 스레드가 대기)
+    }
+
+    /**
+     * 이벤트 병합 설정
+     * 배치 안에서 같은 게시물의 이벤트는 최신 상태만 반영합니다 (병합 범위는 batch 설정을 따름).
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+        private boolean enabled = true;
     }
 }
@@ -1,7 +1,20 @@
 package org.example.deuknetinfrastructure.external.messaging.handler;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.example.deuknetapplication.messaging.EventType;
 
-public record CDCEventMessage(EventType eventType, String aggregateId, String payloadJson) {
+/**
+ * 파싱된 CDC 이벤트
+ *
+ * payload는 Debezium 레코드를 한 번 파싱한 트리입니다.
+ * 핸들러는 {@link CDCPayloadReader}로 트리를 Projection으로 바로 변환하며, 문자열로 다시 직렬화하지 않습니다.
+ */
+public record CDCEventMessage(EventType eventType, String aggregateId, JsonNode payload) {
 
+    /**
+     * 로그/디버깅용 JSON 문자열
+     */
+    public String payloadJson() {
+        return payload.toString();
+    }
 }
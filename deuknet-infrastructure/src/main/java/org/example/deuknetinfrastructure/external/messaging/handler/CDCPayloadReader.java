@@ -0,0 +1,37 @@
+package org.example.deuknetinfrastructure.external.messaging.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
+import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * CDC 페이로드 → Projection 변환기
+ *
+ * 타입별 ObjectReader를 시작 시 한 번 만들어 모든 핸들러가 공유합니다.
+ * (ObjectReader는 불변이며 스레드 안전하고, 루트 역직렬화기를 캐싱합니다)
+ * 파싱된 트리에서 바로 변환하므로 이벤트당 JSON 파싱은 Debezium 레코드 한 번뿐입니다.
+ */
+@Component
+public class CDCPayloadReader {
+
+    private final ObjectReader postDetailReader;
+    private final ObjectReader postCountReader;
+
+    public CDCPayloadReader(ObjectMapper objectMapper) {
+        this.postDetailReader = objectMapper.readerFor(PostDetailProjection.class);
+        this.postCountReader = objectMapper.readerFor(PostCountProjection.class);
+    }
+
+    public PostDetailProjection readPostDetail(JsonNode payload) throws IOException {
+        return postDetailReader.readValue(payload);
+    }
+
+    public PostCountProjection readPostCounts(JsonNode payload) throws IOException {
+        return postCountReader.readValue(payload);
+    }
+}
@@ -1,16 +1,17 @@
 package org.example.deuknetinfrastructure.external.messaging.handler;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetinfrastructure.external.search.adapter.PostSearchCache;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * Post 이벤트 전용 핸들러
@@ -18,6 +19,7 @@ import java.io.IOException;
  * 책임:
  * - POST_CREATED, POST_UPDATED, POST_PUBLISHED, POST_DELETED 이벤트 처리
  * - PostDetailProjection Elasticsearch 동기화
+ * - 검색 결과 캐시 무효화
  */
 @Slf4j
 @Component
@@ -25,7 +27,8 @@ import java.io.IOException;
 public class PostCDCEventHandler implements CDCEventHandler {
 
     private final PostProjectionCommandPort postProjectionCommandPort;
-    private final ObjectMapper objectMapper;
+    private final CDCPayloadReader payloadReader;
+    private final PostSearchCache postSearchCache;
 
     @Override
     public boolean canHandle(EventType eventType) {
@@ -45,28 +48,30 @@ public class PostCDCEventHandler implements CDCEventHandler {
 
         EventType eventType = message.eventType();
         String aggregateId = message.aggregateId();
-        String payloadJson = message.payloadJson();
 
         log.info("Handling event: type={}, aggregateId={}", eventType, aggregateId);
-        log.debug("Payload JSON: {}", payloadJson);
+        log.debug("Payload JSON: {}", message.payload());
 
         if (eventType == EventType.POST_DELETED) {
             postProjectionCommandPort.deletePost(aggregateId);
+            postSearchCache.invalidatePostDeleted(UUID.fromString(aggregateId));
             log.info("Post deleted from Elasticsearch: id={}", aggregateId);
             return;
         }
 
         // POST_CREATED, POST_UPDATED, POST_PUBLISHED
-        handlePostEvent(payloadJson, eventType);
+        handlePostEvent(aggregateId, message, eventType);
     }
 
     /**
      * Post 이벤트 처리
      * PostDetailProjection을 Elasticsearch에 인덱싱
      */
-    private void handlePostEvent(String payloadJson, EventType eventType) throws Exception {
+    private void handlePostEvent(String aggregateId, CDCEventMessage message, EventType eventType) throws Exception {
         // 모든 Post 이벤트는 PostDetailProjection을 포함
-        postProjectionCommandPort.indexPostDetail(payloadJson);
+        PostDetailProjection projection = payloadReader.readPostDetail(message.payload());
+        postProjectionCommandPort.indexPostDetail(projection);
+        postSearchCache.invalidatePostChanged(UUID.fromString(aggregateId), projection.getCategoryId());
         log.info("{} - PostDetailProjection indexed", eventType);
     }
 }
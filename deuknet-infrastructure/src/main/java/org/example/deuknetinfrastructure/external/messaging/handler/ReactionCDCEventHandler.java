@@ -3,32 +3,44 @@ package org.example.deuknetinfrastructure.external.messaging.handler;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetinfrastructure.external.search.adapter.PostSearchCache;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.UUID;
 
 /**
- * Reaction 이벤트 전용 핸들러
+ * Reaction 및 카운터 이벤트 전용 핸들러
  *
  * 책임:
- * - REACTION_ADDED, REACTION_REMOVED 이벤트 처리
- * - PostDetailProjection 업데이트 (좋아요, 싫어요, 조회수 포함)
+ * - POST_COUNTS_CHANGED 이벤트 처리: 변경된 카운터만 부분 업데이트 (PostCountProjection)
+ * - REACTION_ADDED, REACTION_REMOVED 이벤트 처리: 전체 PostDetailProjection 재색인 (이전 형식 호환)
+ * - 카운터 기준 정렬 검색 결과 캐시 무효화
  */
 @Slf4j
 @Component
 public class ReactionCDCEventHandler implements CDCEventHandler {
 
     private final PostProjectionCommandPort postProjectionCommandPort;
+    private final CDCPayloadReader payloadReader;
+    private final PostSearchCache postSearchCache;
 
-    public ReactionCDCEventHandler(PostProjectionCommandPort postProjectionCommandPort) {
+    public ReactionCDCEventHandler(
+            PostProjectionCommandPort postProjectionCommandPort,
+            CDCPayloadReader payloadReader,
+            PostSearchCache postSearchCache
+    ) {
         this.postProjectionCommandPort = postProjectionCommandPort;
+        this.payloadReader = payloadReader;
+        this.postSearchCache = postSearchCache;
     }
 
     @Override
     public boolean canHandle(EventType eventType) {
-        return eventType == EventType.REACTION_ADDED
+        return eventType == EventType.POST_COUNTS_CHANGED
+                || eventType == EventType.REACTION_ADDED
                 || eventType == EventType.REACTION_REMOVED;
     }
 
@@ -38,12 +50,20 @@ public class ReactionCDCEventHandler implements CDCEventHandler {
             maxAttempts = 3,
             backoff = @Backoff(delay = 100, multiplier = 2)
     )
-    public void handle(CDCEventMessage message) {
-        String payloadJson = message.payloadJson();
+    public void handle(CDCEventMessage message) throws IOException {
         EventType eventType = message.eventType();
 
-        // Reaction 변경 시 전체 PostDetailProjection 업데이트
-        postProjectionCommandPort.indexPostDetail(payloadJson);
+        if (eventType == EventType.POST_COUNTS_CHANGED) {
+            // 카운터만 부분 업데이트 (본문 재색인 없음)
+            postProjectionCommandPort.updatePostCounts(payloadReader.readPostCounts(message.payload()));
+            postSearchCache.invalidateCountsChanged(UUID.fromString(message.aggregateId()));
+            log.debug("{} - post counts updated: aggregateId={}", eventType, message.aggregateId());
+            return;
+        }
+
+        // 이전 형식의 Reaction 이벤트는 전체 PostDetailProjection 업데이트
+        postProjectionCommandPort.indexPostDetail(payloadReader.readPostDetail(message.payload()));
+        postSearchCache.invalidateCountsChanged(UUID.fromString(message.aggregateId()));
         log.info("{} - PostDetailProjection updated with reaction counts", eventType);
     }
 }
@@ -6,8 +6,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.out.event.DataChangeEventPublisher;
+import org.example.deuknetdomain.common.seedwork.IdGenerator;
 import org.example.deuknetdomain.common.seedwork.Projection;
 import org.example.deuknetinfrastructure.external.messaging.exception.EventPublishException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,8 +36,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OutboxDataChangeEventPublisher implements DataChangeEventPublisher {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event_log (id, aggregatetype, aggregateid, type, payload, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM outbox_event_log WHERE id = ? AND timestamp = ?";
+
     private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxProperties outboxProperties;
 
     /**
      * 이벤트 발행 (실제로는 Outbox에 저장)
@@ -51,12 +59,6 @@ public class OutboxDataChangeEventPublisher implements DataChangeEventPublisher
             // 1. Projection을 JSON으로 직렬화
             String jsonPayload = projection != null ? objectMapper.writeValueAsString(projection) : "{}";
 
-            System.out.println("===== Publishing Event to Outbox =====");
-            System.out.println("EventType: " + eventType.getTypeName());
-            System.out.println("AggregateId: " + aggregateId);
-            System.out.println("Projection Class: " + (projection != null ? projection.getClass().getSimpleName() : "null"));
-            System.out.println("JSON Payload: " + jsonPayload);
-
             // 2. aggregateType 추출 (projection의 클래스명에서)
             String aggregateType = projection != null
                 ? projection.getClass().getSimpleName().replace("Projection", "")
@@ -64,7 +66,7 @@ public class OutboxDataChangeEventPublisher implements DataChangeEventPublisher
 
             // 3. OutboxEvent 엔티티 생성 (Debezium 표준 형식)
             OutboxEvent outboxEvent = new OutboxEvent(
-                UUID.randomUUID(),                  // id
+                IdGenerator.newId(),                // id (UUIDv7, 시간 순서)
                 aggregateType,                       // aggregatetype
                 aggregateId.toString(),              // aggregateid (문자열로 변환)
                 eventType.getTypeName(),             // type (EventType enum에서 문자열 추출)
@@ -74,7 +76,11 @@ public class OutboxDataChangeEventPublisher implements DataChangeEventPublisher
 
             // 4. Outbox 테이블에 저장 (트랜잭션과 함께 커밋됨)
             // Debezium이 CDC를 통해 자동으로 감지하여 메시지로 발행
-            outboxEventRepository.save(outboxEvent);
+            if (outboxProperties.getRetentionMode() == OutboxProperties.RetentionMode.DELETE_AFTER_INSERT) {
+                insertAndDelete(outboxEvent);
+            } else {
+                outboxEventRepository.save(outboxEvent);
+            }
 
             log.debug("Event saved to outbox: aggregateType={}, eventType={}, aggregateId={}",
                 aggregateType, eventType.getTypeName(), aggregateId);
@@ -84,4 +90,20 @@ public class OutboxDataChangeEventPublisher implements DataChangeEventPublisher
             throw new EventPublishException("Failed to serialize projection to JSON", e);
         }
     }
+
+    /**
+     * 같은 트랜잭션에서 INSERT 직후 DELETE
+     * INSERT는 WAL에 기록되어 CDC로 발행되고, 커밋 후 테이블에는 행이 남지 않습니다.
+     * JPA의 지연 INSERT보다 DELETE가 먼저 실행되지 않도록 두 문장 모두 JDBC로 바로 실행합니다.
+     */
+    private void insertAndDelete(OutboxEvent outboxEvent) {
+        jdbcTemplate.update(INSERT_SQL,
+                outboxEvent.getId(),
+                outboxEvent.getAggregatetype(),
+                outboxEvent.getAggregateid(),
+                outboxEvent.getType(),
+                outboxEvent.getPayload(),
+                outboxEvent.getTimestamp());
+        jdbcTemplate.update(DELETE_SQL, outboxEvent.getId(), outboxEvent.getTimestamp());
+    }
 }
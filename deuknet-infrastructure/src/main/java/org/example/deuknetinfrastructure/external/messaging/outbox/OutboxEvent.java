@@ -3,8 +3,8 @@ package org.example.deuknetinfrastructure.external.messaging.outbox;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deuknetinfrastructure.common.seedwork.AssignedIdEntity;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -29,12 +29,14 @@ import java.util.UUID;
  * transforms.outbox.table.field.event.timestamp=timestamp
  * transforms.outbox.table.field.event.payload=payload
  * transforms.outbox.route.topic.replacement=${routedByValue}.events
+ *
+ * 테이블은 timestamp 기준 일 단위 파티션이며, 보존 방식은 OutboxProperties.RetentionMode로 선택합니다.
  */
 @Getter
 @Setter
 @Entity
-@Table(name = "outbox_events")
-public class OutboxEvent {
+@Table(name = "outbox_event_log")
+public class OutboxEvent extends AssignedIdEntity {
 
     /**
      * 이벤트 고유 식별자
@@ -75,45 +77,11 @@ public class OutboxEvent {
 
     /**
      * 이벤트 발생 시각 (epoch milliseconds)
-     * Debezium 필수 필드
+     * Debezium 필수 필드, 파티션 키
      */
     @Column(name = "timestamp", nullable = false)
     private Long timestamp;
 
-    // 기존 Outbox 패턴 필드들 (하위 호환성 유지)
-    @Column(name = "created_at", nullable = false)
-    private LocalDateTime createdAt;
-
-    @Column(name = "updated_at", nullable = false)
-    private LocalDateTime updatedAt;
-
-    @Column(name = "aggregate_id", nullable = false, columnDefinition = "UUID")
-    private UUID aggregateId;
-
-    @Column(name = "aggregate_type", nullable = false, length = 255)
-    private String aggregateType;
-
-    @Column(name = "event_type", nullable = false, length = 255)
-    private String eventType;
-
-    @Column(name = "occurred_on", nullable = false)
-    private LocalDateTime occurredOn;
-
-    @Column(name = "payload_type", nullable = false, length = 255)
-    private String payloadType;
-
-    @Column(name = "processed_at")
-    private LocalDateTime processedAt;
-
-    @Column(name = "retry_count", nullable = false)
-    private Integer retryCount = 0;
-
-    @Column(name = "status", nullable = false, length = 20)
-    private String status = "PENDING";
-
-    @Column(name = "error_message", columnDefinition = "TEXT")
-    private String errorMessage;
-
     protected OutboxEvent() {
     }
 
@@ -125,16 +93,7 @@ public class OutboxEvent {
         this.payload = payload;
         this.timestamp = timestamp;
 
-        // 기존 필드들 기본값 설정
-        LocalDateTime now = LocalDateTime.now();
-        this.createdAt = now;
-        this.updatedAt = now;
-        this.occurredOn = now;
-        this.aggregateId = UUID.fromString(aggregateid);
-        this.aggregateType = aggregatetype;
-        this.eventType = type;
-        this.payloadType = aggregatetype;  // aggregatetype을 payloadType으로 사용
-        this.retryCount = 0;
-        this.status = "PENDING";
+        // Outbox 이벤트는 항상 새로 추가만 되므로 merge 없이 바로 INSERT
+        markNew(true);
     }
 }
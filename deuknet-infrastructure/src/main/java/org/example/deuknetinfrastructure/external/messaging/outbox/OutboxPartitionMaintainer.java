@@ -0,0 +1,236 @@
+package org.example.deuknetinfrastructure.external.messaging.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetEntity;
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetJpaRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_event_log 파티션 관리 스케줄러 (RetentionMode.PARTITION)
+ * <br>
+ * - 오늘부터 precreateDays일치 일 단위 파티션을 미리 생성
+ * - Debezium이 확정한 offset(ts_usec)보다 retainDays일 이상 오래된 파티션을 DROP
+ * <br>
+ * 파티션 DROP은 행 단위 DELETE와 달리 WAL/VACUUM 부담이 없고 인덱스도 함께 사라집니다.
+ * 확정 offset을 알 수 없으면(Debezium 미기동 등) 아무것도 지우지 않습니다.
+ * <br>
+ * 스케줄러가 멈춘 사이 들어온 행은 DEFAULT 파티션에 쌓이고, 같은 범위의 파티션 생성을 막습니다.
+ * DEFAULT 파티션의 행 중 확정 offset 이전 행은 지운 뒤 파티션 생성을 다시 시도하고,
+ * 그래도 남은 행은 error 로그와 outbox.partition.default.rows 게이지로 알립니다.
+ */
+@Slf4j
+@Component
+public class OutboxPartitionMaintainer {
+
+    private static final String TABLE = "outbox_event_log";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String COUNT_DEFAULT_SQL = "SELECT count(*) FROM " + DEFAULT_PARTITION;
+    private static final String PURGE_DEFAULT_SQL = "DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp < ?";
+
+    private static final String IS_PARTITIONED_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_partitioned_table pt
+                JOIN pg_class c ON c.oid = pt.partrelid
+                WHERE c.relname = ?
+            )
+            """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DebeziumOffsetJpaRepository offsetRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong defaultPartitionRows = new AtomicLong();
+
+    public OutboxPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            DebeziumOffsetJpaRepository offsetRepository,
+            OutboxProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.offsetRepository = offsetRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        Gauge.builder("outbox.partition.default.rows", defaultPartitionRows, AtomicLong::get)
+                .description("outbox DEFAULT 파티션에 남은 행 수 (0보다 크면 파티션 생성이 막힐 수 있음)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${outbox.partition.maintenance-interval-ms:3600000}",
+            initialDelayString = "${outbox.partition.initial-delay-ms:60000}"
+    )
+    public void maintain() {
+        if (properties.getRetentionMode() != OutboxProperties.RetentionMode.PARTITION) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, TABLE))) {
+            log.debug("{} is not partitioned, skipping partition maintenance", TABLE);
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Optional<Long> confirmedMillis = findConfirmedMillis();
+
+        List<LocalDate> blocked = createPartitions(upcomingDays(today));
+        long defaultRows = countDefaultRows();
+        if (defaultRows > 0 && confirmedMillis.isPresent()) {
+            int purged = purgeDefaultPartition(confirmedMillis.get());
+            defaultRows -= purged;
+            if (purged > 0 && !blocked.isEmpty()) {
+                blocked = createPartitions(blocked);
+            }
+        }
+        reportDefaultPartition(defaultRows, blocked);
+
+        confirmedMillis.map(OutboxPartitionMaintainer::toDate).ifPresent(this::dropConfirmedPartitions);
+    }
+
+    private List<LocalDate> upcomingDays(LocalDate today) {
+        List<LocalDate> days = new ArrayList<>();
+        for (int i = 0; i < properties.getPartition().getPrecreateDays(); i++) {
+            days.add(today.plusDays(i));
+        }
+        return days;
+    }
+
+    /**
+     * 일 단위 파티션 생성
+     *
+     * @return 생성하지 못한 날짜 (DEFAULT 파티션에 이미 해당 범위 행이 있는 경우 등)
+     */
+    private List<LocalDate> createPartitions(List<LocalDate> days) {
+        List<LocalDate> failed = new ArrayList<>();
+        for (LocalDate day : days) {
+            String sql = "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM (%d) TO (%d)"
+                    .formatted(partitionName(day), TABLE, startMillis(day), startMillis(day.plusDays(1)));
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (DataAccessException e) {
+                log.warn("Failed to create outbox partition: {}", partitionName(day), e);
+                failed.add(day);
+            }
+        }
+        return failed;
+    }
+
+    private long countDefaultRows() {
+        Long count = jdbcTemplate.queryForObject(COUNT_DEFAULT_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * DEFAULT 파티션에서 확정 offset 이전 행 삭제
+     * 이미 WAL에서 발행된 행이므로 지워도 되고, Outbox Event Router는 DELETE 이벤트를 무시합니다.
+     */
+    private int purgeDefaultPartition(long confirmedMillis) {
+        int purged = jdbcTemplate.update(PURGE_DEFAULT_SQL, confirmedMillis);
+        if (purged > 0) {
+            log.info("Purged confirmed rows from {}: count={}", DEFAULT_PARTITION, purged);
+        }
+        return purged;
+    }
+
+    private void reportDefaultPartition(long defaultRows, List<LocalDate> blocked) {
+        defaultPartitionRows.set(defaultRows);
+        if (defaultRows > 0 || !blocked.isEmpty()) {
+            log.error("Outbox rows remain in {}: count={}, blocked partitions={}",
+                    DEFAULT_PARTITION, defaultRows, blocked.stream().map(OutboxPartitionMaintainer::partitionName).toList());
+        }
+    }
+
+    private void dropConfirmedPartitions(LocalDate confirmedDate) {
+        LocalDate dropBefore = confirmedDate.minusDays(properties.getPartition().getRetainDays());
+
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, TABLE);
+        for (String partition : partitions) {
+            Optional<LocalDate> day = partitionDay(partition);
+            // 파티션의 상한(day + 1)이 확정 지점 이전이어야 모든 행이 발행 완료된 것
+            if (day.isPresent() && !day.get().plusDays(1).isAfter(dropBefore)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped outbox partition: {} (confirmed offset date={})", partition, confirmedDate);
+            }
+        }
+    }
+
+    /**
+     * Debezium이 확정한 offset의 이벤트 시각 (epoch millis)
+     * offset이 여러 개면 가장 뒤처진 것을 기준으로 합니다.
+     */
+    private Optional<Long> findConfirmedMillis() {
+        OptionalLong minTsUsec = offsetRepository.findAll().stream()
+                .map(DebeziumOffsetEntity::getOffsetValue)
+                .map(this::readTsUsec)
+                .flatMap(Optional::stream)
+                .mapToLong(Long::longValue)
+                .min();
+        if (minTsUsec.isEmpty()) {
+            log.debug("No confirmed Debezium offset, skipping outbox partition drop");
+            return Optional.empty();
+        }
+        return Optional.of(minTsUsec.getAsLong() / 1000);
+    }
+
+    private Optional<Long> readTsUsec(String offsetValue) {
+        try {
+            JsonNode tsUsec = objectMapper.readTree(offsetValue).get("ts_usec");
+            return tsUsec != null && tsUsec.canConvertToLong() ? Optional.of(tsUsec.asLong()) : Optional.empty();
+        } catch (IOException e) {
+            log.warn("Invalid Debezium offset value: {}", offsetValue, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<LocalDate> partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static LocalDate toDate(long epochMillis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    private static long startMillis(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
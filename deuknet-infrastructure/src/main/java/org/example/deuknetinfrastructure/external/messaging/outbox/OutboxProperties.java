@@ -0,0 +1,41 @@
+package org.example.deuknetinfrastructure.external.messaging.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 보존 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private RetentionMode retentionMode = RetentionMode.PARTITION;
+
+    private Partition partition = new Partition();
+
+    public enum RetentionMode {
+        /**
+         * 일 단위 파티션에 보관하고, Debezium이 확정한 offset보다 오래된 파티션을 DROP
+         */
+        PARTITION,
+
+        /**
+         * INSERT 직후 같은 트랜잭션에서 DELETE
+         * INSERT는 WAL에 남으므로 CDC로 발행되고, 테이블에는 행이 쌓이지 않습니다.
+         * (Debezium Outbox Event Router는 DELETE 이벤트를 무시)
+         */
+        DELETE_AFTER_INSERT
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        private int precreateDays = 3;       // 오늘 포함 미리 만들어 둘 파티션 수
+        private int retainDays = 1;          // 확정 offset 이후에도 추가로 보관할 일 수 (파티션 경계는 UTC 기준)
+    }
+}
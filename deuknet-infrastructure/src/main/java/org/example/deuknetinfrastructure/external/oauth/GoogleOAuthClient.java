@@ -2,6 +2,7 @@ package org.example.deuknetinfrastructure.external.oauth;
 
 import org.example.deuknetdomain.domain.auth.AuthProvider;
 import org.example.deuknetdomain.domain.auth.OAuthUserInfo;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -20,7 +21,7 @@ public class GoogleOAuthClient implements OAuthClient {
     private final String redirectUri;
 
     public GoogleOAuthClient(
-            RestTemplate restTemplate,
+            @Qualifier("oauthRestTemplate") RestTemplate restTemplate,
             @Value("${oauth.google.client-id}") String clientId,
             @Value("${oauth.google.client-secret}") String clientSecret,
             @Value("${oauth.google.redirect-uri}") String redirectUri
@@ -0,0 +1,36 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elasticsearch _bulk 색인 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "elasticsearch.bulk")
+public class BulkIndexProperties {
+
+    /**
+     * _bulk 요청 하나에 담을 최대 작업 수
+     */
+    private int maxActions = 1000;
+
+    /**
+     * _bulk 요청 하나의 최대 크기 (bytes, 추정치 기준)
+     */
+    private long maxBytes = 5 * 1024 * 1024;
+
+    /**
+     * 재시도 가능한 실패(429, 5xx)에 대한 최대 재시도 횟수
+     */
+    private int maxRetries = 5;
+
+    /**
+     * 첫 재시도 대기 시간 (ms), 재시도마다 2배씩 증가
+     */
+    private long retryBackoffMs = 100;
+}
@@ -0,0 +1,88 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import org.example.deuknetapplication.port.in.post.PageResponse;
+import org.example.deuknetapplication.port.in.post.PostSearchRequest;
+import org.example.deuknetapplication.port.in.post.PostSearchResponse;
+import org.example.deuknetapplication.port.out.external.search.PostSearchPort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 검색 결과 캐시를 적용한 PostSearchPort
+ * <br>
+ * 목록 검색(최신/인기/관련성/개념글/실시간)은 PostSearchCache를 거치고,
+ * 단건/ID 목록 조회와 자동완성은 PostSearchAdapter로 바로 위임합니다.
+ * 사용자별 필드는 Service에서 캐시 조회 이후에 덧씌웁니다.
+ */
+@Primary
+@Component
+public class CachingPostSearchAdapter implements PostSearchPort {
+
+    private final PostSearchAdapter delegate;
+    private final PostSearchCache cache;
+
+    public CachingPostSearchAdapter(PostSearchAdapter delegate, PostSearchCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<PostSearchResponse> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<PostSearchResponse> findByIds(List<UUID> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    @Deprecated
+    public PageResponse<PostSearchResponse> search(PostSearchRequest request) {
+        return delegate.search(request);
+    }
+
+    @Override
+    public PageResponse<PostSearchResponse> searchByPopular(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
+        PostSearchCache.SearchKey key = new PostSearchCache.SearchKey(
+                PostSearchCache.POPULAR, keyword, authorId, categoryId, page, size, includeAnonymous, cursor);
+        return cache.getPage(key, () -> delegate.searchByPopular(keyword, authorId, categoryId, page, size, includeAnonymous, cursor));
+    }
+
+    @Override
+    public PageResponse<PostSearchResponse> searchByRelevance(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
+        PostSearchCache.SearchKey key = new PostSearchCache.SearchKey(
+                PostSearchCache.RELEVANCE, keyword, authorId, categoryId, page, size, includeAnonymous, cursor);
+        return cache.getPage(key, () -> delegate.searchByRelevance(keyword, authorId, categoryId, page, size, includeAnonymous, cursor));
+    }
+
+    @Override
+    public PageResponse<PostSearchResponse> searchByRecent(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
+        PostSearchCache.SearchKey key = new PostSearchCache.SearchKey(
+                PostSearchCache.RECENT, keyword, authorId, categoryId, page, size, includeAnonymous, cursor);
+        return cache.getPage(key, () -> delegate.searchByRecent(keyword, authorId, categoryId, page, size, includeAnonymous, cursor));
+    }
+
+    @Override
+    public List<String> suggestKeywords(String prefix, int size) {
+        return delegate.suggestKeywords(prefix, size);
+    }
+
+    @Override
+    public PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
+        PostSearchCache.SearchKey key = new PostSearchCache.SearchKey(
+                PostSearchCache.FEATURED, null, null, categoryId, page, size, includeAnonymous, cursor);
+        return cache.getPage(key, () -> delegate.findFeaturedPosts(categoryId, page, size, includeAnonymous, cursor));
+    }
+
+    @Override
+    public List<PostSearchResponse> findTrendingPosts(int size) {
+        PostSearchCache.SearchKey key = new PostSearchCache.SearchKey(
+                PostSearchCache.TRENDING, null, null, null, 0, size, true, null);
+        return cache.getList(key, () -> delegate.findTrendingPosts(size));
+    }
+}
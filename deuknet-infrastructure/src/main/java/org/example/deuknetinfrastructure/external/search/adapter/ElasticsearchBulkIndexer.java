@@ -0,0 +1,206 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Elasticsearch _bulk 색인기
+ * <br>
+ * {@link #begin()} ~ {@link #end()} 사이에 현재 스레드에서 제출된 작업은 버퍼에 모아두었다가
+ * {@link #flush()} 시 _bulk 요청으로 한 번에 전송합니다. 범위 밖에서 제출된 작업은 즉시 전송됩니다.
+ * <br>
+ * 실패 처리:
+ * - 429, 5xx 등 재시도 가능한 실패는 해당 항목만 다시 전송 (같은 문서의 뒤 작업도 함께 재전송하여 순서 보장)
+ * - 문서 없음(document_missing)은 아직 색인되지 않은 문서의 부분 갱신이므로 로그만 남기고 건너뜀
+ * - 그 외 재시도할 수 없는 실패(mapper_parsing_exception 등)나 재시도 횟수 초과 시 SearchOperationException을 던집니다
+ *   (호출자는 오프셋을 커밋하지 않아야 함, 문서가 ES에서 조용히 빠지지 않도록)
+ * <br>
+ * 작업 단위 refresh는 하지 않습니다 (인덱스 refresh_interval에 맡김).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchBulkIndexer {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final BulkIndexProperties properties;
+
+    private final ThreadLocal<List<PendingOperation>> buffer = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 버퍼링 시작
+     */
+    public void begin() {
+        buffer.set(new ArrayList<>());
+    }
+
+    /**
+     * 현재 스레드의 버퍼링 종료 (전송하지 않은 작업은 버림)
+     */
+    public void end() {
+        buffer.remove();
+    }
+
+    /**
+     * 색인 작업 제출
+     *
+     * @param docId 대상 문서 ID (재시도 시 순서 보장 기준)
+     * @param operation _bulk 작업
+     * @param estimatedBytes 요청 크기 추정치 (배치 분할 기준)
+     */
+    public void submit(String docId, BulkOperation operation, int estimatedBytes) {
+        PendingOperation pending = new PendingOperation(docId, operation, estimatedBytes);
+        List<PendingOperation> operations = buffer.get();
+        if (operations != null) {
+            operations.add(pending);
+            return;
+        }
+        executeWithRetry(List.of(pending));
+    }
+
+    /**
+     * 버퍼에 모인 작업을 _bulk로 전송
+     * 모든 항목이 반영(또는 document_missing으로 건너뜀)된 경우에만 정상 반환합니다.
+     */
+    public void flush() {
+        List<PendingOperation> operations = buffer.get();
+        if (operations == null || operations.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (List<PendingOperation> chunk : split(operations)) {
+                executeWithRetry(chunk);
+            }
+        } finally {
+            operations.clear();
+        }
+    }
+
+    private List<List<PendingOperation>> split(List<PendingOperation> operations) {
+        List<List<PendingOperation>> chunks = new ArrayList<>();
+        List<PendingOperation> current = new ArrayList<>();
+        long currentBytes = 0;
+
+        for (PendingOperation operation : operations) {
+            boolean full = current.size() >= properties.getMaxActions()
+                    || currentBytes + operation.estimatedBytes() > properties.getMaxBytes();
+            if (full && !current.isEmpty()) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(operation);
+            currentBytes += operation.estimatedBytes();
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private void executeWithRetry(List<PendingOperation> operations) {
+        List<PendingOperation> remaining = operations;
+        long backoffMs = properties.getRetryBackoffMs();
+
+        for (int attempt = 0; ; attempt++) {
+            remaining = execute(remaining);
+            if (remaining.isEmpty()) {
+                return;
+            }
+            if (attempt >= properties.getMaxRetries()) {
+                throw new SearchOperationException(
+                        "Bulk indexing failed for " + remaining.size() + " items after " + attempt + " retries");
+            }
+
+            log.warn("Retrying {} bulk items (attempt {})", remaining.size(), attempt + 1);
+            sleep(backoffMs);
+            backoffMs *= 2;
+        }
+    }
+
+    /**
+     * _bulk 요청 전송
+     *
+     * @return 재시도가 필요한 작업 (원래 순서 유지)
+     */
+    private List<PendingOperation> execute(List<PendingOperation> operations) {
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(b -> b.operations(
+                    operations.stream().map(PendingOperation::operation).toList()));
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("Bulk request failed: {} items", operations.size(), e);
+            return operations;
+        }
+
+        if (!response.errors()) {
+            return List.of();
+        }
+
+        List<PendingOperation> retry = new ArrayList<>();
+        Set<String> retryDocIds = new HashSet<>();
+        int rejected = 0;
+        List<BulkResponseItem> items = response.items();
+
+        for (int i = 0; i < items.size(); i++) {
+            PendingOperation operation = operations.get(i);
+            BulkResponseItem item = items.get(i);
+
+            // 앞선 작업이 재시도 대상이면 같은 문서의 뒤 작업도 순서대로 다시 적용
+            if (retryDocIds.contains(operation.docId())) {
+                retry.add(operation);
+                continue;
+            }
+            if (item.error() == null) {
+                continue;
+            }
+
+            if (isRetryable(item.status())) {
+                retryDocIds.add(operation.docId());
+                retry.add(operation);
+            } else if ("document_missing_exception".equals(item.error().type())) {
+                log.warn("Document not yet indexed, skipping {}: id={}", item.operationType(), operation.docId());
+            } else {
+                rejected++;
+                log.error("Bulk item rejected: {} id={}, status={}, type={}, reason={}",
+                        item.operationType(), operation.docId(), item.status(), item.error().type(), item.error().reason());
+            }
+        }
+
+        if (rejected > 0) {
+            throw new SearchOperationException("Bulk indexing rejected " + rejected + " items");
+        }
+        return retry;
+    }
+
+    private boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchOperationException("Interrupted while retrying bulk indexing", e);
+        }
+    }
+
+    private record PendingOperation(String docId, BulkOperation operation, int estimatedBytes) {
+    }
+}
@@ -1,9 +1,11 @@
 package org.example.deuknetinfrastructure.external.search.adapter;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
 import org.example.deuknetapplication.projection.post.PostDetailProjection;
 import org.example.deuknetinfrastructure.external.search.document.PostDetailDocument;
 import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
@@ -11,40 +13,60 @@ import org.example.deuknetinfrastructure.external.search.mapper.PostDetailDocume
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PostDetail 색인 어댑터
+ * <br>
+ * CDC에서 호출되는 색인/부분 업데이트/삭제는 ElasticsearchBulkIndexer로 제출됩니다.
+ * CDC 배치 처리 중이면 _bulk 요청으로 묶이고, 그 외에는 즉시 전송됩니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class PostProjectionCommandAdapter implements PostProjectionCommandPort {
 
     private static final String INDEX_NAME = "posts-detail";
+    private static final int INDEX_BASE_ESTIMATED_BYTES = 512;
+    private static final int UPDATE_ESTIMATED_BYTES = 256;
+    private static final int DELETE_ESTIMATED_BYTES = 128;
+
     private final ElasticsearchClient elasticsearchClient;
     private final PostDetailDocumentMapper mapper;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final PostScoreCalculator scoreCalculator;
 
     /**
      * PostDetailProjection을 Elasticsearch에 인덱싱
      * Debezium에서 호출됩니다.
      */
-    public void indexPostDetail(String payloadJson) {
+    public void indexPostDetail(PostDetailProjection projection) {
         try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            objectMapper.findAndRegisterModules();
-
-            PostDetailProjection projection = objectMapper.readValue(payloadJson, PostDetailProjection.class);
-
-            save(projection);
+            PostDetailDocument document = mapper.toDocument(projection);
+            scoreCalculator.applyScores(document, System.currentTimeMillis());
+            String postId = document.getIdAsString();
+
+            bulkIndexer.submit(postId, BulkOperation.of(b -> b
+                    .index(i -> i
+                            .index(INDEX_NAME)
+                            .id(postId)
+                            .document(document)
+                    )
+            ), estimateBytes(projection));
         } catch (Exception e) {
             throw new SearchOperationException("Failed to index PostDetail", e);
         }
     }
 
     /**
-     * PostCountProjection으로 Elasticsearch 업데이트
+     * PostCountProjection으로 Elasticsearch 부분 업데이트
+     * 페이로드에 포함된 카운터 필드만 갱신하고 정렬 점수를 다시 계산합니다 (문서당 update 스크립트 1회).
      * Debezium에서 호출됩니다.
      */
-    public void updatePostCounts(String payloadJson) {
+    public void updatePostCounts(PostCountProjection projection) {
         try {
-            updatePostCountsInternal(payloadJson);
+            updatePostCountsInternal(projection);
         } catch (Exception e) {
             throw new SearchOperationException("Failed to update post counts", e);
         }
@@ -52,89 +74,68 @@ public class PostProjectionCommandAdapter implements PostProjectionCommandPort {
 
     public void deletePost(String postId) {
         try {
-            elasticsearchClient.delete(d -> d
-                    .index(INDEX_NAME)
-                    .id(postId)
-            );
+            bulkIndexer.submit(postId, BulkOperation.of(b -> b
+                    .delete(d -> d
+                            .index(INDEX_NAME)
+                            .id(postId)
+                    )
+            ), DELETE_ESTIMATED_BYTES);
         } catch (Exception e) {
             throw new SearchOperationException("Failed to delete post: " + postId, e);
         }
     }
 
-    private void updatePostCountsInternal(String payloadJson) throws Exception {
-        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-        com.fasterxml.jackson.databind.JsonNode payload = mapper.readTree(payloadJson);
+    private void updatePostCountsInternal(PostCountProjection projection) throws Exception {
+        String postId = projection.getId().toString();
 
-        String postId = payload.get("id").asText();
+        Map<String, Object> counts = new HashMap<>();
+        putIfPresent(counts, "commentCount", projection.getCommentCount());
+        putIfPresent(counts, "likeCount", projection.getLikeCount());
+        putIfPresent(counts, "dislikeCount", projection.getDislikeCount());
+        putIfPresent(counts, "viewCount", projection.getViewCount());
 
-        // Partial update를 위한 스크립트 구성
-        StringBuilder scriptBuilder = new StringBuilder();
-        com.fasterxml.jackson.databind.node.ObjectNode params = mapper.createObjectNode();
-
-        if (payload.has("viewCount")) {
-            scriptBuilder.append("ctx._source.viewCount = params.viewCount; ");
-            params.put("viewCount", payload.get("viewCount").asLong());
-        }
-        if (payload.has("likeCount")) {
-            scriptBuilder.append("ctx._source.likeCount = params.likeCount; ");
-            params.put("likeCount", payload.get("likeCount").asLong());
-        }
-        if (payload.has("dislikeCount")) {
-            scriptBuilder.append("ctx._source.dislikeCount = params.dislikeCount; ");
-            params.put("dislikeCount", payload.get("dislikeCount").asLong());
-        }
-        if (payload.has("commentCount")) {
-            scriptBuilder.append("ctx._source.commentCount = params.commentCount; ");
-            params.put("commentCount", payload.get("commentCount").asLong());
+        if (counts.isEmpty()) {
+            return;
         }
 
-        if (!scriptBuilder.isEmpty()) {
-            String script = scriptBuilder.toString();
-            java.util.Map<String, co.elastic.clients.json.JsonData> paramsMap = new java.util.HashMap<>();
-
-            if (payload.has("viewCount")) {
-                paramsMap.put("viewCount", co.elastic.clients.json.JsonData.of(payload.get("viewCount").asLong()));
-            }
-            if (payload.has("likeCount")) {
-                paramsMap.put("likeCount", co.elastic.clients.json.JsonData.of(payload.get("likeCount").asLong()));
-            }
-            if (payload.has("dislikeCount")) {
-                paramsMap.put("dislikeCount", co.elastic.clients.json.JsonData.of(payload.get("dislikeCount").asLong()));
-            }
-            if (payload.has("commentCount")) {
-                paramsMap.put("commentCount", co.elastic.clients.json.JsonData.of(payload.get("commentCount").asLong()));
-            }
-
-            try {
-                elasticsearchClient.update(u -> u
-                                .index(INDEX_NAME)
-                                .id(postId)
-                                .script(s -> s
-                                        .inline(i -> i
-                                                .source(script)
-                                                .params(paramsMap)
-                                        )
-                                ),
-                        PostDetailDocument.class
-                );
-            } catch (co.elastic.clients.elasticsearch._types.ElasticsearchException e) {
-                if (e.getMessage() != null && e.getMessage().contains("document_missing_exception")) {
-                    log.warn("Post document not yet indexed in Elasticsearch, skipping count update for postId: {}", postId);
-                    return;
-                }
-                throw e;
-            }
+        // 아직 색인되지 않은 문서(document_missing)는 ElasticsearchBulkIndexer가 건너뜁니다
+        bulkIndexer.submit(postId, BulkOperation.of(b -> b
+                .update(u -> u
+                        .index(INDEX_NAME)
+                        .id(postId)
+                        .action(a -> a.script(scoreCalculator.updateScript(counts, System.currentTimeMillis())))
+                )
+        ), UPDATE_ESTIMATED_BYTES);
+    }
+
+    /**
+     * _bulk 요청 크기 추정치 (본문과 제목이 대부분을 차지)
+     */
+    private int estimateBytes(PostDetailProjection projection) {
+        return INDEX_BASE_ESTIMATED_BYTES
+                + length(projection.getTitle())
+                + length(projection.getContent());
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private void putIfPresent(Map<String, Object> counts, String field, Long value) {
+        if (value != null) {
+            counts.put(field, value);
         }
     }
 
     /**
      * Document 저장 (테스트용)
      * Elasticsearch Client를 사용하여 Document를 저장합니다.
-     * 테스트 환경에서 인덱스가 없으면 자동으로 생성합니다.
+     * 저장 직후 검색할 수 있도록 refresh합니다 (CDC 경로에서는 사용하지 않음).
      */
     @Override
     public void save(PostDetailProjection projection) {
         PostDetailDocument document = mapper.toDocument(projection);
+        scoreCalculator.applyScores(document, System.currentTimeMillis());
 
         try {
             saveInternal(document);
@@ -0,0 +1,105 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.json.JsonData;
+import org.example.deuknetinfrastructure.external.search.document.PostDetailDocument;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * 게시글 정렬 점수 계산기
+ * <br>
+ * 인기순/실시간 정렬에 쓰는 점수를 색인 시점에 계산해 문서 필드(popularityScore, trendingScore)로 저장합니다.
+ * 검색 요청은 이 필드로 정렬만 하므로 hit마다 스크립트를 실행하지 않습니다.
+ * <br>
+ * 점수 공식:
+ * - popularityScore = (likeCount * 3 + viewCount) * (작성 30일 초과 시 0.75)
+ * - trendingScore = (viewCount * 0.3 + likeCount * 0.7) / (1 + (hoursOld / 24)^2)
+ * <br>
+ * 같은 공식을 Java(전체 색인)와 painless update 스크립트(카운터 부분 업데이트, 주기적 재계산)로 제공합니다.
+ * 시간 감쇠는 PostScoreRescoreScheduler가 주기적으로 반영합니다.
+ */
+@Component
+public class PostScoreCalculator {
+
+    private static final long HOUR_MS = 60L * 60 * 1000;
+    private static final long DAY_MS = 24 * HOUR_MS;
+    private static final long POPULARITY_DECAY_DAYS = 30;
+
+    /**
+     * 카운터를 반영하고 점수를 다시 계산하는 update 스크립트
+     * params.counts: 덮어쓸 카운터 필드 (없으면 점수만 재계산), params.now: 기준 시각 (epoch ms)
+     */
+    private static final String UPDATE_SCRIPT = """
+            if (params.counts != null) {
+                for (def entry : params.counts.entrySet()) {
+                    ctx._source[entry.getKey()] = entry.getValue();
+                }
+            }
+            if (ctx._source.createdAt == null) {
+                return;
+            }
+            long created = LocalDateTime.parse(ctx._source.createdAt).toInstant(ZoneOffset.UTC).toEpochMilli();
+            def likeCount = ctx._source.likeCount;
+            def viewCount = ctx._source.viewCount;
+            double likes = likeCount == null ? 0.0 : ((Number) likeCount).doubleValue();
+            double views = viewCount == null ? 0.0 : ((Number) viewCount).doubleValue();
+            long ageMs = params.now - created;
+            double timeDecay = (ageMs / 86400000L) > 30 ? 0.75 : 1.0;
+            ctx._source.popularityScore = (likes * 3 + views) * timeDecay;
+            double hoursOld = ageMs / 3600000.0;
+            ctx._source.trendingScore = (views * 0.3 + likes * 0.7) / (1.0 + Math.pow(hoursOld / 24.0, 2));
+            """;
+
+    /**
+     * 문서의 카운터와 작성 시각으로 점수를 계산해 설정
+     */
+    public void applyScores(PostDetailDocument document, long nowMillis) {
+        if (document.getCreatedAt() == null) {
+            return;
+        }
+
+        double likes = valueOf(document.getLikeCount());
+        double views = valueOf(document.getViewCount());
+        long ageMs = nowMillis - document.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        document.setPopularityScore(popularityScore(likes, views, ageMs));
+        document.setTrendingScore(trendingScore(likes, views, ageMs));
+    }
+
+    /**
+     * 카운터 부분 업데이트 + 점수 재계산 스크립트
+     */
+    public Script updateScript(Map<String, Object> counts, long nowMillis) {
+        return Script.of(s -> s
+                .inline(inline -> inline
+                        .source(UPDATE_SCRIPT)
+                        .params("counts", JsonData.of(counts))
+                        .params("now", JsonData.of(nowMillis))
+                )
+        );
+    }
+
+    /**
+     * 점수만 재계산하는 스크립트 (시간 감쇠 반영용)
+     */
+    public Script rescoreScript(long nowMillis) {
+        return updateScript(Map.of(), nowMillis);
+    }
+
+    private double popularityScore(double likes, double views, long ageMs) {
+        double timeDecay = ageMs / DAY_MS > POPULARITY_DECAY_DAYS ? 0.75 : 1.0;
+        return (likes * 3 + views) * timeDecay;
+    }
+
+    private double trendingScore(double likes, double views, long ageMs) {
+        double hoursOld = ageMs / (double) HOUR_MS;
+        return (views * 0.3 + likes * 0.7) / (1.0 + Math.pow(hoursOld / 24.0, 2));
+    }
+
+    private double valueOf(Long count) {
+        return count != null ? count : 0.0;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정렬 점수 재계산 스케줄러
+ * <br>
+ * 시간 감쇠 때문에 카운터 변경이 없어도 점수가 바뀌는 문서만 update_by_query로 다시 계산합니다.
+ * - 최근 24시간 글: trendingScore 감쇠 (실시간 인기 대상)
+ * - 작성 30~31일 글: popularityScore 감쇠 경계
+ * - 점수 필드가 없는 기존 문서: 최초 계산 (백필)
+ * <br>
+ * CDC 쓰기와 충돌하면 해당 문서는 건너뜁니다 (CDC 업데이트가 점수를 함께 계산하므로).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostScoreRescoreScheduler {
+
+    private static final String INDEX_NAME = "posts-detail";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final PostScoreCalculator scoreCalculator;
+    private final SearchProperties searchProperties;
+
+    @Scheduled(
+            fixedDelayString = "${elasticsearch.search.rescore-interval-ms:300000}",
+            initialDelayString = "${elasticsearch.search.rescore-interval-ms:300000}"
+    )
+    public void rescore() {
+        if (!searchProperties.isRescoreEnabled()) {
+            return;
+        }
+
+        Query query = Query.of(q -> q
+                .bool(b -> b
+                        .should(s -> s.range(r -> r.field("createdAt").gte(JsonData.of("now-24h"))))
+                        .should(s -> s.range(r -> r.field("createdAt")
+                                .gte(JsonData.of("now-31d"))
+                                .lte(JsonData.of("now-30d"))))
+                        .should(s -> s.bool(nb -> nb.mustNot(m -> m.exists(e -> e.field("popularityScore")))))
+                        .minimumShouldMatch("1")
+                )
+        );
+
+        try {
+            UpdateByQueryResponse response = elasticsearchClient.updateByQuery(u -> u
+                    .index(INDEX_NAME)
+                    .query(query)
+                    .script(scoreCalculator.rescoreScript(System.currentTimeMillis()))
+                    .conflicts(Conflicts.Proceed)
+            );
+            log.debug("Post scores rescored: updated={}, conflicts={}", response.updated(), response.versionConflicts());
+        } catch (Exception e) {
+            log.warn("Failed to rescore post scores", e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.example.deuknetinfrastructure.external.search.adapter;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
@@ -10,6 +12,8 @@ import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.common.exception.InvalidCursorException;
 import org.example.deuknetapplication.port.in.post.PageResponse;
 import org.example.deuknetapplication.port.in.post.PostSearchRequest;
 import org.example.deuknetapplication.port.in.post.PostSearchResponse;
@@ -26,7 +30,11 @@ import java.util.stream.Collectors;
 /**
  * 게시글 검색 Adapter (Elasticsearch)
  * PostSearchPort 구현 (out port)
+ * <br>
+ * 목록 검색은 from/size(page)와 search_after(cursor)를 모두 지원합니다.
+ * 모든 정렬에 createdAt, id 타이브레이커를 붙여 커서가 안정적으로 동작합니다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostSearchAdapter implements PostSearchPort {
@@ -34,6 +42,8 @@ public class PostSearchAdapter implements PostSearchPort {
     private static final String INDEX_NAME = "posts-detail";
     private final ElasticsearchClient elasticsearchClient;
     private final PostDetailDocumentMapper mapper;
+    private final SearchCursorCodec cursorCodec;
+    private final SearchProperties searchProperties;
 
     /**
      * 검색 설정 (가중치, 스코어 임계값 등)
@@ -122,28 +132,29 @@ public class PostSearchAdapter implements PostSearchPort {
 
     /**
      * 최신순 검색
-     * - 정렬: 작성일 기준 내림차순 (최신 글이 위로)
+     * - 정렬: 작성일 기준 내림차순 (최신 글이 위로), 동률은 id로 구분
      * - 검색어: 필터 역할 (가중치 낮음)
      * - 용도: 전체 게시물 최신 순으로 탐색
      */
     @Override
-    public PageResponse<PostSearchResponse> searchByRecent(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous) {
+    public PageResponse<PostSearchResponse> searchByRecent(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
         Query query = buildSearchQuery(keyword, authorId, categoryId, includeAnonymous,
                 SearchConfig.RECENT_TITLE_BOOST, SearchConfig.RECENT_CONTENT_BOOST);
-        return executeSearch(query, page, size, "createdAt", SortOrder.Desc);
+        return executeSearch(query, page, size, cursor);
     }
 
     /**
      * 인기순 검색
      * - 정렬: 인기도 점수 기준 (좋아요 * 3 + 조회수 * 1, 30일 이상 시 감쇠)
+     * - 점수는 색인 시 popularityScore 필드로 계산됨 (PostScoreCalculator)
      * - 검색어: 필터 + 부스트 (가중치 중간)
      * - 용도: 인기 있는 게시물 탐색
      */
     @Override
-    public PageResponse<PostSearchResponse> searchByPopular(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous) {
+    public PageResponse<PostSearchResponse> searchByPopular(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
         Query query = buildSearchQuery(keyword, authorId, categoryId, includeAnonymous,
                 SearchConfig.POPULAR_TITLE_BOOST, SearchConfig.POPULAR_CONTENT_BOOST);
-        return executePopularSearch(query, page, size);
+        return executePopularSearch(query, page, size, cursor);
     }
 
     /**
@@ -154,10 +165,10 @@ public class PostSearchAdapter implements PostSearchPort {
      * - 최소 스코어: 2.0 이상만 반환
      */
     @Override
-    public PageResponse<PostSearchResponse> searchByRelevance(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous) {
+    public PageResponse<PostSearchResponse> searchByRelevance(String keyword, UUID authorId, UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
         Query query = buildSearchQuery(keyword, authorId, categoryId, includeAnonymous,
                 SearchConfig.RELEVANCE_TITLE_BOOST, SearchConfig.RELEVANCE_CONTENT_BOOST);
-        return executeSearchByRelevance(query, page, size);
+        return executeSearchByRelevance(query, page, size, cursor);
     }
 
     @Override
@@ -208,7 +219,7 @@ public class PostSearchAdapter implements PostSearchPort {
     }
 
     @Override
-    public PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, boolean includeAnonymous) {
+    public PageResponse<PostSearchResponse> findFeaturedPosts(UUID categoryId, int page, int size, boolean includeAnonymous, String cursor) {
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
 
         addPublicStatusFilter(boolQueryBuilder);
@@ -217,30 +228,15 @@ public class PostSearchAdapter implements PostSearchPort {
 
         Query query = Query.of(q -> q.bool(boolQueryBuilder.build()));
 
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index(INDEX_NAME)
-                    .query(query)
-                    .from(page * size)
-                    .size(Math.min(size, 20))
-                    .sort(sort -> sort
-                            .field(f -> f
-                                    .field("likeCount")
-                                    .order(SortOrder.Desc)
-                            )
-                    )
-            );
-
-            return executeSearchRequest(searchRequest, page, size);
+        List<SortOptions> sort = withTiebreaker(SortOptions.of(so -> so
+                .field(f -> f
+                        .field("likeCount")
+                        .order(SortOrder.Desc)
+                )
+        ));
 
-        } catch (ElasticsearchException e) {
-            if (isIndexNotFoundOrShardFailed(e)) {
-                return new PageResponse<>(List.of(), 0, page, size);
-            }
-            throw new SearchOperationException("Failed to find featured posts", e);
-        } catch (IOException e) {
-            throw new SearchOperationException("Failed to find featured posts", e);
-        }
+        return executeSearch(query, sort, null, page, Math.min(size, 20), cursor,
+                "Failed to find featured posts");
     }
 
     @Override
@@ -261,24 +257,7 @@ public class PostSearchAdapter implements PostSearchPort {
                     )
                     .size(size)
                     .source(src -> src.filter(f -> f.excludes("content")))
-                    .sort(sort -> sort
-                            .script(script -> script
-                                    .type(co.elastic.clients.elasticsearch._types.ScriptSortType.Number)
-                                    .script(sc -> sc
-                                            .inline(inline -> inline
-                                                    .source("""
-                                    long now = new Date().getTime();
-                                    long created = doc['createdAt'].value.toInstant().toEpochMilli();
-                                    double hoursOld = (now - created) / (1000.0 * 60 * 60);
-                                    double ageDecay = 1.0 + Math.pow(hoursOld / 24.0, 2);
-                                    double rawScore = (doc['viewCount'].value * 0.3) + (doc['likeCount'].value * 0.7);
-                                    return rawScore / ageDecay;
-                                """)
-                                            )
-                                    )
-                                    .order(SortOrder.Desc)
-                            )
-                    )
+                    .sort(scoreSort("trendingScore"))
             );
 
             SearchResponse<PostDetailDocument> response = elasticsearchClient.search(
@@ -412,131 +391,170 @@ public class PostSearchAdapter implements PostSearchPort {
     // ==================== Search Execution ====================
 
     /**
-     * 인기 게시물 검색 (Script 정렬)
+     * 인기 게시물 검색 (popularityScore 필드 정렬)
      */
-    private PageResponse<PostSearchResponse> executePopularSearch(Query query, int page, int size) {
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index(INDEX_NAME)
-                    .query(query)
-                    .from(page * size)
-                    .size(size)
-                    .sort(sort -> sort
-                            .script(script -> script
-                                    .type(co.elastic.clients.elasticsearch._types.ScriptSortType.Number)
-                                    .script(sc -> sc
-                                            .inline(inline -> inline
-                                                    .source("""
-                                    long now = new Date().getTime();
-                                    long created = doc['createdAt'].value.toInstant().toEpochMilli();
-                                    long daysDiff = (now - created) / (1000L * 60 * 60 * 24);
-                                    double timeDecay = daysDiff > 30 ? 0.75 : 1.0;
-                                    double popularity = (doc['likeCount'].value * 3) + (doc['viewCount'].value * 1);
-                                    return popularity * timeDecay;
-                                """)
-                                            )
-                                    )
-                                    .order(SortOrder.Desc)
-                            )
-                    )
-            );
-
-            return executeSearchRequest(searchRequest, page, size);
+    private PageResponse<PostSearchResponse> executePopularSearch(Query query, int page, int size, String cursor) {
+        List<SortOptions> sort = withTiebreaker(scoreSort("popularityScore"));
 
-        } catch (ElasticsearchException e) {
-            if (isIndexNotFoundOrShardFailed(e)) {
-                return new PageResponse<>(List.of(), 0, page, size);
-            }
-            throw new SearchOperationException("Failed to execute popular search", e);
-        } catch (IOException e) {
-            throw new SearchOperationException("Failed to execute popular search", e);
-        }
+        return executeSearch(query, sort, null, page, size, cursor, "Failed to execute popular search");
     }
 
     /**
      * 관련성 검색 (_score 기준)
      */
-    private PageResponse<PostSearchResponse> executeSearchByRelevance(Query query, int page, int size) {
-        try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index(INDEX_NAME)
-                    .query(query)
-                    .from(page * size)
-                    .size(size)
-                    .minScore(SearchConfig.RELEVANCE_MIN_SCORE)
-            );
+    private PageResponse<PostSearchResponse> executeSearchByRelevance(Query query, int page, int size, String cursor) {
+        List<SortOptions> sort = withTiebreaker(SortOptions.of(so -> so
+                .score(sc -> sc.order(SortOrder.Desc))
+        ));
 
-            return executeSearchRequest(searchRequest, page, size);
+        return executeSearch(query, sort, SearchConfig.RELEVANCE_MIN_SCORE, page, size, cursor,
+                "Failed to execute search by relevance");
+    }
 
-        } catch (ElasticsearchException e) {
-            if (isIndexNotFoundOrShardFailed(e)) {
-                return new PageResponse<>(List.of(), 0, page, size);
-            }
-            throw new SearchOperationException("Failed to execute search by relevance", e);
-        } catch (IOException e) {
-            throw new SearchOperationException("Failed to execute search by relevance", e);
-        }
+    /**
+     * 최신순 검색 (createdAt 정렬)
+     */
+    private PageResponse<PostSearchResponse> executeSearch(Query query, int page, int size, String cursor) {
+        return executeSearch(query, withTiebreaker(), null, page, size, cursor, "Failed to execute search");
     }
 
     /**
-     * 일반 검색 (필드 정렬)
+     * 색인 시 계산된 점수 필드 정렬 (점수가 아직 없는 문서는 뒤로)
      */
-    private PageResponse<PostSearchResponse> executeSearch(Query query, int page, int size,
-                                                            String sortField, SortOrder sortOrder) {
+    private SortOptions scoreSort(String field) {
+        return SortOptions.of(so -> so
+                .field(f -> f
+                        .field(field)
+                        .order(SortOrder.Desc)
+                        .missing("_last")
+                        .unmappedType(FieldType.Double)
+                )
+        );
+    }
+
+    /**
+     * 주 정렬 뒤에 안정적인 타이브레이커(createdAt, id)를 붙입니다.
+     * search_after는 정렬 값이 문서마다 유일해야 페이지 경계에서 누락/중복이 없습니다.
+     */
+    private List<SortOptions> withTiebreaker(SortOptions... primary) {
+        List<SortOptions> sort = new ArrayList<>(Arrays.asList(primary));
+        sort.add(SortOptions.of(so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc))));
+        sort.add(SortOptions.of(so -> so.field(f -> f.field("id").order(SortOrder.Desc))));
+        return sort;
+    }
+
+    /**
+     * 검색 실행 (content 필드 제외)
+     * <br>
+     * cursor가 없으면 from/size로 page를 조회하고, 있으면 search_after로 커서 다음부터 조회합니다.
+     * 응답에는 항상 마지막 hit 기준의 nextCursor를 담아 첫 페이지부터 커서 조회로 이어갈 수 있습니다.
+     * <br>
+     * point-in-time을 쓰면 첫 페이지에서 열어 이후 커서로 이어가고, 마지막 페이지(nextCursor 없음)를 반환할 때 닫습니다.
+     */
+    private PageResponse<PostSearchResponse> executeSearch(Query query, List<SortOptions> sort, Double minScore,
+                                                            int page, int size, String cursor, String errorMessage) {
+        String fingerprint = cursorCodec.fingerprint(query, sort, minScore);
+        SearchCursorCodec.SearchCursor decoded = cursorCodec.decode(cursor, fingerprint);
+        int currentPage = decoded != null ? decoded.page() : page;
+        String pitId = null;
+
         try {
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index(INDEX_NAME)
-                    .query(query)
-                    .from(page * size)
-                    .size(size)
-                    .sort(sort -> sort
-                            .field(f -> f
-                                    .field(sortField)
-                                    .order(sortOrder)
-                            )
-                    )
+            pitId = resolvePointInTime(decoded);
+            String searchPitId = pitId;
+
+            SearchRequest searchRequest = SearchRequest.of(s -> {
+                s.query(query)
+                        .size(size)
+                        .sort(sort)
+                        .minScore(minScore)
+                        .source(src -> src.filter(f -> f.excludes("content")));
+
+                if (searchPitId != null) {
+                    s.pit(pit -> pit.id(searchPitId).keepAlive(k -> k.time(searchProperties.getPointInTimeKeepAlive())));
+                } else {
+                    s.index(INDEX_NAME);
+                }
+
+                if (decoded != null) {
+                    s.searchAfter(decoded.searchAfter());
+                } else {
+                    s.from(page * size);
+                }
+                return s;
+            });
+
+            SearchResponse<PostDetailDocument> response = elasticsearchClient.search(
+                    searchRequest,
+                    PostDetailDocument.class
             );
 
-            return executeSearchRequest(searchRequest, page, size);
+            List<Hit<PostDetailDocument>> hits = response.hits().hits();
+            List<PostSearchResponse> results = hits.stream()
+                    .map(Hit::source)
+                    .map(doc -> mapper.toProjection(doc, null, null, null))
+                    .map(PostSearchResponse::fromProjection)
+                    .collect(Collectors.toList());
+
+            if (response.pitId() != null) {
+                pitId = response.pitId();
+            }
+
+            String nextCursor = null;
+            if (hits.size() == size && !hits.get(hits.size() - 1).sort().isEmpty()) {
+                nextCursor = cursorCodec.encode(new SearchCursorCodec.SearchCursor(
+                        hits.get(hits.size() - 1).sort(), currentPage + 1, pitId, fingerprint));
+            } else {
+                closePointInTime(pitId);
+            }
+
+            long totalElements = response.hits().total() != null ? response.hits().total().value() : 0;
+            return new PageResponse<>(results, totalElements, currentPage, size, nextCursor);
 
         } catch (ElasticsearchException e) {
+            if (decoded != null && isSearchContextMissing(e)) {
+                throw new InvalidCursorException("Cursor expired");
+            }
+            closePointInTime(pitId);
             if (isIndexNotFoundOrShardFailed(e)) {
-                return new PageResponse<>(List.of(), 0, page, size);
+                return new PageResponse<>(List.of(), 0, currentPage, size);
             }
-            throw new SearchOperationException("Failed to execute search", e);
+            throw new SearchOperationException(errorMessage, e);
         } catch (IOException e) {
-            throw new SearchOperationException("Failed to execute search", e);
+            closePointInTime(pitId);
+            throw new SearchOperationException(errorMessage, e);
         }
     }
 
     /**
-     * SearchRequest 실행 (content 필드 제외)
+     * 조회에 사용할 point-in-time ID
+     * 첫 페이지(커서 없음)에서 PIT를 열어 첫 페이지부터 검색 시점을 고정하고, 이후 페이지는 커서의 PIT를 이어 씁니다.
+     * PIT 없이 발급된 커서는 PIT 없이 이어서 조회합니다 (중간에 열면 이전 페이지와 시점이 달라 의미가 없음).
      */
-    private PageResponse<PostSearchResponse> executeSearchRequest(SearchRequest searchRequest,
-                                                                   int page, int size) throws IOException {
-        SearchRequest modifiedRequest = SearchRequest.of(s -> s
-                .index(searchRequest.index())
-                .query(searchRequest.query())
-                .from(searchRequest.from())
-                .size(searchRequest.size())
-                .sort(searchRequest.sort())
-                .minScore(searchRequest.minScore())
-                .source(src -> src.filter(f -> f.excludes("content")))
-        );
-
-        SearchResponse<PostDetailDocument> response = elasticsearchClient.search(
-                modifiedRequest,
-                PostDetailDocument.class
-        );
-
-        List<PostSearchResponse> results = response.hits().hits().stream()
-                .map(Hit::source)
-                .map(doc -> mapper.toProjection(doc, null, null, null))
-                .map(PostSearchResponse::fromProjection)
-                .collect(Collectors.toList());
+    private String resolvePointInTime(SearchCursorCodec.SearchCursor cursor) throws IOException {
+        if (!searchProperties.isPointInTimeEnabled()) {
+            return null;
+        }
+        if (cursor != null) {
+            return cursor.pitId();
+        }
+        return elasticsearchClient.openPointInTime(o -> o
+                .index(INDEX_NAME)
+                .keepAlive(k -> k.time(searchProperties.getPointInTimeKeepAlive()))
+        ).id();
+    }
 
-        long totalElements = response.hits().total() != null ? response.hits().total().value() : 0;
-        return new PageResponse<>(results, totalElements, page, size);
+    /**
+     * 더 이어갈 페이지가 없는 point-in-time 닫기 (실패해도 keep-alive 후 만료되므로 로그만 남김)
+     */
+    private void closePointInTime(String pitId) {
+        if (pitId == null) {
+            return;
+        }
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("Failed to close point-in-time", e);
+        }
     }
 
     // ==================== Utility Methods ====================
@@ -548,6 +566,13 @@ public class PostSearchAdapter implements PostSearchPort {
         return e.getMessage() != null && e.getMessage().contains("index_not_found_exception");
     }
 
+    /**
+     * 만료된 point-in-time 예외 체크
+     */
+    private boolean isSearchContextMissing(ElasticsearchException e) {
+        return e.getMessage() != null && e.getMessage().contains("search_context_missing_exception");
+    }
+
     /**
      * 인덱스 없음 또는 샤드 실패 예외 체크
      */
@@ -0,0 +1,285 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.port.in.post.PageResponse;
+import org.example.deuknetapplication.port.in.post.PostSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색 결과 캐시
+ * <br>
+ * 같은 조건(정렬, 검색어, 카테고리, 페이지 등)의 목록 검색 결과를 크기/TTL 제한으로 캐싱합니다.
+ * 캐시된 결과는 사용자별 필드가 덧씌워지기 전 상태이며, 조회할 때마다 복사본을 반환합니다.
+ * <br>
+ * 무효화 (CDC 핸들러에서 호출):
+ * - 게시글 생성/수정/발행: 해당 카테고리 + 전체 카테고리 조회 결과, 그리고 그 게시글을 포함한 결과
+ * - 게시글 삭제: 그 게시글을 포함한 결과
+ * - 카운터 변경: 카운터로 정렬하는 결과(POPULAR, FEATURED, TRENDING) 중 그 게시글을 포함한 결과
+ * <br>
+ * 캐시 전체를 훑지 않도록 게시글 ID → 키, 카테고리 → 키 보조 인덱스로 영향받는 항목만 찾아 무효화합니다.
+ * <br>
+ * Elasticsearch는 _bulk 반영과 refresh 이후에야 검색에 보이므로,
+ * 즉시 한 번 무효화하고 invalidationDelayMs 뒤에 한 번 더 무효화합니다.
+ * 지연 무효화는 그 사이에 들어온 이벤트를 모아 한 번에 처리합니다 (이벤트마다 작업을 예약하지 않음).
+ * <br>
+ * 메트릭: cache.gets{cache=post.search, result=hit|miss} 등 Caffeine 통계
+ */
+@Slf4j
+@Component
+public class PostSearchCache {
+
+    public static final String RECENT = "RECENT";
+    public static final String RELEVANCE = "RELEVANCE";
+    public static final String POPULAR = "POPULAR";
+    public static final String FEATURED = "FEATURED";
+    public static final String TRENDING = "TRENDING";
+
+    private static final Set<String> COUNT_SORTED = Set.of(POPULAR, FEATURED, TRENDING);
+
+    private final SearchProperties.Cache properties;
+    private final boolean pointInTimeEnabled;
+    private final Cache<SearchKey, Object> cache;
+    private final ScheduledExecutorService invalidationScheduler;
+
+    // 보조 인덱스 (실제 캐시보다 많이 가질 수는 있어도 적게 가지지는 않음)
+    private final Map<UUID, Set<SearchKey>> keysByPost = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<SearchKey>> keysByCategory = new ConcurrentHashMap<>();
+    private final Set<SearchKey> allCategoryKeys = ConcurrentHashMap.newKeySet();
+
+    // 지연 무효화 대기 목록
+    private final Set<UUID> pendingPosts = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingCountPosts = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingCategories = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingAllCategories = new AtomicBoolean();
+    private final AtomicBoolean reinvalidationScheduled = new AtomicBoolean();
+
+    public PostSearchCache(SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.properties = searchProperties.getCache();
+        this.pointInTimeEnabled = searchProperties.isPointInTimeEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .executor(Runnable::run)
+                .removalListener(this::unindex)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.search");
+
+        this.invalidationScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-search-cache-invalidator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        invalidationScheduler.shutdownNow();
+    }
+
+    /**
+     * 페이지 검색 결과 조회 (없으면 loader로 조회 후 저장)
+     * point-in-time을 쓰면 nextCursor마다 조회 세션 전용 PIT가 담기므로 캐싱하지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public PageResponse<PostSearchResponse> getPage(SearchKey key, Supplier<PageResponse<PostSearchResponse>> loader) {
+        if (!properties.isEnabled() || pointInTimeEnabled) {
+            return loader.get();
+        }
+        PageResponse<PostSearchResponse> page = (PageResponse<PostSearchResponse>) cache.get(key, k -> index(k, loader.get()));
+        return new PageResponse<>(copy(page.getContent()), page.getTotalElements(),
+                page.getCurrentPage(), page.getPageSize(), page.getNextCursor());
+    }
+
+    /**
+     * 목록 검색 결과 조회 (없으면 loader로 조회 후 저장)
+     */
+    @SuppressWarnings("unchecked")
+    public List<PostSearchResponse> getList(SearchKey key, Supplier<List<PostSearchResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return copy((List<PostSearchResponse>) cache.get(key, k -> index(k, List.copyOf(loader.get()))));
+    }
+
+    /**
+     * 게시글 생성/수정/발행 시 무효화
+     */
+    public void invalidatePostChanged(UUID postId, UUID categoryId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        invalidateAll(keysOf(keysByPost, postId));
+        invalidateAll(keysOf(keysByCategory, categoryId));
+        invalidateAll(allCategoryKeys);
+
+        pendingPosts.add(postId);
+        if (categoryId != null) {
+            pendingCategories.add(categoryId);
+        }
+        pendingAllCategories.set(true);
+        scheduleReinvalidation();
+    }
+
+    /**
+     * 게시글 삭제 시 무효화
+     */
+    public void invalidatePostDeleted(UUID postId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        invalidateAll(keysOf(keysByPost, postId));
+
+        pendingPosts.add(postId);
+        scheduleReinvalidation();
+    }
+
+    /**
+     * 카운터 변경 시 무효화 (카운터 기준 정렬 결과만)
+     */
+    public void invalidateCountsChanged(UUID postId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        invalidateCountSorted(postId);
+
+        pendingCountPosts.add(postId);
+        scheduleReinvalidation();
+    }
+
+    private void invalidateCountSorted(UUID postId) {
+        cache.invalidateAll(keysOf(keysByPost, postId).stream()
+                .filter(key -> COUNT_SORTED.contains(key.sortType()))
+                .toList());
+    }
+
+    private void invalidateAll(Set<SearchKey> keys) {
+        if (!keys.isEmpty()) {
+            cache.invalidateAll(List.copyOf(keys));
+        }
+    }
+
+    /**
+     * 지연 무효화 예약 (이미 예약되어 있으면 그 작업이 함께 처리)
+     */
+    private void scheduleReinvalidation() {
+        if (reinvalidationScheduled.compareAndSet(false, true)) {
+            invalidationScheduler.schedule(this::reinvalidate,
+                    properties.getInvalidationDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reinvalidate() {
+        // 처리 중에 들어온 이벤트는 다음 예약으로 넘어가도록 먼저 해제
+        reinvalidationScheduled.set(false);
+        if (pendingAllCategories.getAndSet(false)) {
+            invalidateAll(allCategoryKeys);
+        }
+        drain(pendingCategories, categoryId -> invalidateAll(keysOf(keysByCategory, categoryId)));
+        drain(pendingPosts, postId -> invalidateAll(keysOf(keysByPost, postId)));
+        drain(pendingCountPosts, this::invalidateCountSorted);
+    }
+
+    private void drain(Set<UUID> pending, Consumer<UUID> action) {
+        for (Iterator<UUID> iterator = pending.iterator(); iterator.hasNext(); ) {
+            UUID id = iterator.next();
+            iterator.remove();
+            action.accept(id);
+        }
+    }
+
+    /**
+     * 캐시에 저장할 결과를 보조 인덱스에 등록 (캐시에 보이기 전에 등록)
+     */
+    private <T> T index(SearchKey key, T value) {
+        for (PostSearchResponse post : contentOf(value)) {
+            add(keysByPost, post.getId(), key);
+        }
+        if (key.categoryId() == null) {
+            allCategoryKeys.add(key);
+        } else {
+            add(keysByCategory, key.categoryId(), key);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시에서 제거된 항목을 보조 인덱스에서 제거
+     * 같은 키가 이미 다시 적재되었으면 새 항목의 인덱스를 지우지 않도록 건너뜁니다.
+     */
+    private void unindex(SearchKey key, Object value, RemovalCause cause) {
+        if (key == null || value == null || cache.asMap().containsKey(key)) {
+            return;
+        }
+        for (PostSearchResponse post : contentOf(value)) {
+            remove(keysByPost, post.getId(), key);
+        }
+        if (key.categoryId() == null) {
+            allCategoryKeys.remove(key);
+        } else {
+            remove(keysByCategory, key.categoryId(), key);
+        }
+    }
+
+    private void add(Map<UUID, Set<SearchKey>> index, UUID id, SearchKey key) {
+        if (id == null) {
+            return;
+        }
+        index.compute(id, (k, keys) -> {
+            Set<SearchKey> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            result.add(key);
+            return result;
+        });
+    }
+
+    private void remove(Map<UUID, Set<SearchKey>> index, UUID id, SearchKey key) {
+        if (id == null) {
+            return;
+        }
+        index.computeIfPresent(id, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private Set<SearchKey> keysOf(Map<UUID, Set<SearchKey>> index, UUID id) {
+        return id == null ? Set.of() : index.getOrDefault(id, Set.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PostSearchResponse> contentOf(Object value) {
+        return value instanceof PageResponse<?> page
+                ? (List<PostSearchResponse>) page.getContent()
+                : (List<PostSearchResponse>) value;
+    }
+
+    private List<PostSearchResponse> copy(List<PostSearchResponse> posts) {
+        return posts.stream().map(PostSearchResponse::copy).toList();
+    }
+
+    /**
+     * 캐시 키 (검색 조건 전체)
+     */
+    public record SearchKey(String sortType, String keyword, UUID authorId, UUID categoryId,
+                            int page, int size, boolean includeAnonymous, String cursor) {
+    }
+}
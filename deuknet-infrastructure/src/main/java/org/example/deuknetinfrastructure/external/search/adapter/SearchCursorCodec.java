@@ -0,0 +1,137 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.example.deuknetapplication.common.exception.InvalidCursorException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 검색 커서 인코더/디코더
+ * <br>
+ * 마지막 hit의 sort 값(search_after), 다음 페이지 번호, point-in-time ID를
+ * Base64URL JSON으로 묶어 클라이언트에는 불투명한 토큰으로 전달합니다.
+ * <br>
+ * 커서를 발급한 검색 조건(쿼리, 정렬)의 지문도 함께 담아, 다른 정렬/검색어로 재사용하면
+ * Elasticsearch에 맞지 않는 search_after 값을 보내기 전에 InvalidCursorException으로 거부합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchCursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(SearchCursor cursor) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("p", cursor.page());
+        node.put("q", cursor.fingerprint());
+        ArrayNode sortValues = node.putArray("s");
+        for (FieldValue value : cursor.searchAfter()) {
+            switch (value._kind()) {
+                case Long -> sortValues.add(value.longValue());
+                case Double -> sortValues.add(value.doubleValue());
+                case Boolean -> sortValues.add(value.booleanValue());
+                case String -> sortValues.add(value.stringValue());
+                default -> sortValues.addNull();
+            }
+        }
+        if (cursor.pitId() != null) {
+            node.put("pit", cursor.pitId());
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(node);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    /**
+     * @param fingerprint 현재 검색 조건의 지문 ({@link #fingerprint})
+     * @return 커서가 비어 있으면 null
+     * @throws InvalidCursorException 형식이 잘못되었거나 다른 검색 조건으로 발급된 경우
+     */
+    public SearchCursor decode(String token, String fingerprint) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+
+            List<FieldValue> searchAfter = new ArrayList<>();
+            for (JsonNode value : node.withArray("s")) {
+                searchAfter.add(toFieldValue(value));
+            }
+            if (searchAfter.isEmpty()) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            if (!node.path("q").asText().equals(fingerprint)) {
+                throw new InvalidCursorException("Cursor does not match search conditions");
+            }
+
+            JsonNode pit = node.get("pit");
+            return new SearchCursor(searchAfter, node.path("p").asInt(0), pit != null ? pit.asText() : null, fingerprint);
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    /**
+     * 검색 조건 지문 (쿼리/정렬 등의 JSON 표현을 SHA-256으로 요약)
+     */
+    public String fingerprint(Object... conditions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object condition : conditions) {
+                digest.update(String.valueOf(condition).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private FieldValue toFieldValue(JsonNode value) {
+        if (value.isIntegralNumber()) {
+            return FieldValue.of(value.longValue());
+        }
+        if (value.isNumber()) {
+            return FieldValue.of(value.doubleValue());
+        }
+        if (value.isBoolean()) {
+            return FieldValue.of(value.booleanValue());
+        }
+        if (value.isNull()) {
+            return FieldValue.NULL;
+        }
+        return FieldValue.of(value.asText());
+    }
+
+    /**
+     * 디코딩된 커서
+     *
+     * @param searchAfter 이전 페이지 마지막 hit의 sort 값
+     * @param page 이 커서로 조회할 페이지 번호 (응답의 currentPage 용도)
+     * @param pitId point-in-time ID (사용하지 않으면 null)
+     * @param fingerprint 커서를 발급한 검색 조건의 지문
+     */
+    public record SearchCursor(List<FieldValue> searchAfter, int page, String pitId, String fingerprint) {
+    }
+}
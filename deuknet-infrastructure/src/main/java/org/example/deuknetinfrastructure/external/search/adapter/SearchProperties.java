@@ -0,0 +1,53 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 검색 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "elasticsearch.search")
+public class SearchProperties {
+
+    /**
+     * 커서 기반 조회 시 point-in-time으로 검색 시점을 고정할지 여부
+     * 켜면 스크롤 중 새 글이 색인되어도 페이지 경계가 흔들리지 않습니다.
+     */
+    private boolean pointInTimeEnabled = false;
+
+    /**
+     * point-in-time 유지 시간 (다음 페이지 요청마다 연장)
+     */
+    private String pointInTimeKeepAlive = "1m";
+
+    /**
+     * 정렬 점수 시간 감쇠 재계산 사용 여부
+     */
+    private boolean rescoreEnabled = true;
+
+    /**
+     * 정렬 점수 재계산 주기 (ms)
+     */
+    private long rescoreIntervalMs = 300000;
+
+    private Cache cache = new Cache();
+
+    /**
+     * 검색 결과 캐시 설정 (PostSearchCache)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maxEntries = 2000;
+        private Duration ttl = Duration.ofSeconds(30);
+        private long invalidationDelayMs = 2000;   // 색인 반영(_bulk flush + refresh) 이후 다시 무효화하기까지의 지연
+    }
+}
@@ -28,6 +28,7 @@ import java.util.UUID;
  * - 작성자 정보: 필터링 및 검색
  * - 카테고리: 필터링
  * - 통계: 정렬 및 집계
+ * - 정렬 점수: 인기순/실시간 정렬용 (색인 시 계산)
  */
 @Getter
 @Setter
@@ -114,6 +115,18 @@ public class PostDetailDocument extends BaseDocument {
     @Field(type = FieldType.Long)
     private Long dislikeCount;
 
+    /**
+     * 인기순 정렬 점수 (색인 시 계산, PostScoreCalculator)
+     */
+    @Field(type = FieldType.Double)
+    private Double popularityScore;
+
+    /**
+     * 실시간 인기 정렬 점수 (색인 시 계산, 주기적으로 시간 감쇠 재계산)
+     */
+    @Field(type = FieldType.Double)
+    private Double trendingScore;
+
     protected PostDetailDocument() {
         super();
     }
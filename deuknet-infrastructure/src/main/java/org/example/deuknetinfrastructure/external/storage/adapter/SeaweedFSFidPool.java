@@ -0,0 +1,216 @@
+package org.example.deuknetinfrastructure.external.storage.adapter;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SeaweedFS 업로드용 fid 풀
+ * <br>
+ * master의 /dir/assign?count=N 으로 fid를 미리 받아두고 업로드마다 하나씩 꺼내 씁니다.
+ * count=N으로 받은 fid는 fid, fid_1, ..., fid_(N-1) 의 N개를 같은 volume에 쓸 수 있습니다.
+ * <br>
+ * 남은 fid가 low-watermark 아래로 내려가면 백그라운드 스레드가 다시 채우고,
+ * 풀이 비어 있을 때만 업로드 요청 스레드가 직접 /dir/assign을 호출합니다.
+ * 오래된 fid(max-age 초과)는 volume이 가득 찼을 수 있으므로 버립니다.
+ * <br>
+ * 메트릭: seaweedfs.fid.pool.refill (보충 지연), seaweedfs.fid.pool.requests{result=hit|miss}, seaweedfs.fid.pool.size
+ */
+@Slf4j
+@Component
+public class SeaweedFSFidPool {
+
+    private final RestTemplate restTemplate;
+    private final String masterUrl;
+    private final SeaweedFSProperties.FidPool properties;
+    private final Queue<AssignedFid> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService refillExecutor;
+    private final Timer refillTimer;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SeaweedFSFidPool(
+            @Qualifier("seaweedFSRestTemplate") RestTemplate restTemplate,
+            @Qualifier("seaweedFSMasterUrl") String masterUrl,
+            SeaweedFSProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.masterUrl = masterUrl;
+        this.properties = properties.getFidPool();
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seaweedfs-fid-pool-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refillTimer = Timer.builder("seaweedfs.fid.pool.refill")
+                .description("SeaweedFS fid 풀 보충(/dir/assign?count=N) 지연 시간")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("seaweedfs.fid.pool.requests")
+                .description("업로드 fid 요청 수 (hit: 풀에서 사용, miss: 직접 할당)")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("seaweedfs.fid.pool.requests")
+                .description("업로드 fid 요청 수 (hit: 풀에서 사용, miss: 직접 할당)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("seaweedfs.fid.pool.size", size, AtomicInteger::get)
+                .description("SeaweedFS fid 풀에 남은 fid 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+    }
+
+    /**
+     * 업로드에 사용할 fid
+     * 풀이 비어 있으면 master에서 직접 할당받습니다.
+     */
+    public AssignedFid acquire() {
+        if (!properties.isEnabled()) {
+            return assign(1).get(0);
+        }
+
+        AssignedFid pooled = pollFresh();
+        refillIfLow();
+        if (pooled != null) {
+            hitCounter.increment();
+            return pooled;
+        }
+        missCounter.increment();
+        return assign(1).get(0);
+    }
+
+    /**
+     * 해당 volume 서버로 할당된 fid 제거 (업로드 실패 시)
+     * volume이 가득 찼거나 서버가 내려갔으면 같은 배치의 나머지 fid도 실패하므로 버리고 다시 채웁니다.
+     */
+    public void discard(String publicUrl) {
+        int removed = 0;
+        for (Iterator<AssignedFid> iterator = pool.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().publicUrl().equals(publicUrl)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            size.addAndGet(-removed);
+            log.warn("Discarded pooled SeaweedFS fids: publicUrl={}, count={}", publicUrl, removed);
+        }
+    }
+
+    /**
+     * 풀에 남은 fid 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * max-age 안에 할당된 fid를 꺼냄 (오래된 fid는 버림)
+     */
+    private AssignedFid pollFresh() {
+        long oldest = System.currentTimeMillis() - properties.getMaxAge().toMillis();
+        AssignedFid fid;
+        while ((fid = pool.poll()) != null) {
+            size.decrementAndGet();
+            if (fid.assignedAt() >= oldest) {
+                return fid;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * low-watermark 아래이면 백그라운드 보충 (동시에 하나만 실행)
+     */
+    private void refillIfLow() {
+        if (size.get() >= properties.getLowWatermark() || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    List<AssignedFid> fids = refillTimer.record(() -> assign(properties.getBatchSize()));
+                    pool.addAll(fids);
+                    size.addAndGet(fids.size());
+                    log.debug("SeaweedFS fid pool refilled: added={}, size={}", fids.size(), size.get());
+                } catch (Exception e) {
+                    log.warn("Failed to refill SeaweedFS fid pool", e);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (Exception e) {
+            refilling.set(false);
+            log.warn("Failed to schedule SeaweedFS fid pool refill", e);
+        }
+    }
+
+    /**
+     * master에서 fid count개 할당
+     * 응답의 fid와 fid_1 ... fid_(count-1) 을 펼쳐서 반환합니다.
+     */
+    private List<AssignedFid> assign(int count) {
+        AssignResponse response;
+        try {
+            response = restTemplate.getForObject(masterUrl + "/dir/assign?count=" + count, AssignResponse.class);
+        } catch (Exception e) {
+            log.error("Failed to assign file ID from SeaweedFS master", e);
+            throw new RuntimeException("Failed to assign file ID", e);
+        }
+        if (response == null || response.getFid() == null) {
+            throw new RuntimeException("Failed to assign file ID from SeaweedFS");
+        }
+
+        // master가 요청보다 적게 할당할 수 있으므로 응답의 count를 따름
+        int granted = Math.max(1, Math.min(count, response.getCount()));
+        long assignedAt = System.currentTimeMillis();
+        List<AssignedFid> fids = new ArrayList<>(granted);
+        fids.add(new AssignedFid(response.getFid(), response.getPublicUrl(), assignedAt));
+        for (int i = 1; i < granted; i++) {
+            fids.add(new AssignedFid(response.getFid() + "_" + i, response.getPublicUrl(), assignedAt));
+        }
+        return fids;
+    }
+
+    /**
+     * 할당받은 fid와 업로드할 volume 서버 주소 (host:port)
+     */
+    public record AssignedFid(String fid, String publicUrl, long assignedAt) {
+    }
+
+    /**
+     * SeaweedFS Assign API 응답
+     */
+    @Data
+    private static class AssignResponse {
+        private String fid;
+        private String url;
+        @JsonProperty("publicUrl")
+        private String publicUrl;
+        private int count;
+    }
+}
@@ -1,21 +1,28 @@
 package org.example.deuknetinfrastructure.external.storage.adapter;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.example.deuknetapplication.common.exception.FileRangeNotSatisfiableException;
 import org.example.deuknetapplication.common.exception.InvalidFileException;
+import org.example.deuknetapplication.port.out.external.storage.FileContent;
+import org.example.deuknetapplication.port.out.external.storage.FileRedirect;
 import org.example.deuknetapplication.port.out.external.storage.FileStoragePort;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -62,17 +69,26 @@ public class SeaweedFSFileStorageAdapter implements FileStoragePort {
             "audio/mpeg", "audio/wav", "audio/webm", "audio/ogg"
     );
 
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String UNSATISFIED_RANGE_PREFIX = "bytes */";
+
     private final RestTemplate restTemplate;
-    private final String masterUrl;
+    private final SeaweedFSVolumeLocator volumeLocator;
+    private final SeaweedFSRedirectResolver redirectResolver;
+    private final SeaweedFSFidPool fidPool;
     private final String externalUrl;
 
     public SeaweedFSFileStorageAdapter(
-            RestTemplate restTemplate,
-            @Qualifier("seaweedFSMasterUrl") String masterUrl,
+            @Qualifier("seaweedFSRestTemplate") RestTemplate restTemplate,
+            SeaweedFSVolumeLocator volumeLocator,
+            SeaweedFSRedirectResolver redirectResolver,
+            SeaweedFSFidPool fidPool,
             @Qualifier("seaweedFSExternalUrl") String externalUrl
     ) {
         this.restTemplate = restTemplate;
-        this.masterUrl = masterUrl;
+        this.volumeLocator = volumeLocator;
+        this.redirectResolver = redirectResolver;
+        this.fidPool = fidPool;
         this.externalUrl = externalUrl;
     }
 
@@ -88,15 +104,12 @@ public class SeaweedFSFileStorageAdapter implements FileStoragePort {
         String extension = getFileExtension(fileName);
         validateExtension(extension, fileName);
 
+        SeaweedFSFidPool.AssignedFid assigned = null;
         try {
-            // 1. Master에서 업로드 위치 할당 받기
-            AssignResponse assignResponse = assignFileId();
-            if (assignResponse == null || assignResponse.getFid() == null) {
-                throw new RuntimeException("Failed to assign file ID from SeaweedFS");
-            }
-
-            String fid = assignResponse.getFid();
-            String uploadUrl = "http://" + assignResponse.getPublicUrl() + "/" + fid;
+            // 1. 업로드 위치 할당 (미리 받아둔 fid 풀, 비어 있으면 master에 직접 요청)
+            assigned = fidPool.acquire();
+            String fid = assigned.fid();
+            String uploadUrl = "http://" + assigned.publicUrl() + "/" + fid;
 
             log.info("SeaweedFS assigned fid: {}, uploadUrl: {}", fid, uploadUrl);
 
@@ -136,33 +149,14 @@ public class SeaweedFSFileStorageAdapter implements FileStoragePort {
             return fid;
 
         } catch (Exception e) {
+            if (assigned != null) {
+                fidPool.discard(assigned.publicUrl());
+            }
             log.error("Failed to upload file to SeaweedFS: {}", fileName, e);
             throw new RuntimeException("Failed to upload file", e);
         }
     }
 
-    /**
-     * SeaweedFS Master에서 파일 ID 할당받기
-     */
-    private AssignResponse assignFileId() {
-        try {
-            String assignUrl = masterUrl + "/dir/assign";
-            ResponseEntity<AssignResponse> response = restTemplate.getForEntity(
-                    assignUrl,
-                    AssignResponse.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return response.getBody();
-            }
-
-            throw new RuntimeException("Failed to assign file ID: " + response.getStatusCode());
-        } catch (Exception e) {
-            log.error("Failed to assign file ID from SeaweedFS master", e);
-            throw new RuntimeException("Failed to assign file ID", e);
-        }
-    }
-
     /**
      * 파일명 검증 (경로 탐색 공격 방지)
      */
@@ -222,14 +216,13 @@ public class SeaweedFSFileStorageAdapter implements FileStoragePort {
     @Override
     public void deleteFile(String fid) {
         try {
-            // SeaweedFS의 파일 위치 조회
-            LookupResponse lookupResponse = lookupFileLocation(fid);
-            if (lookupResponse == null || lookupResponse.getLocations() == null || lookupResponse.getLocations().isEmpty()) {
+            // SeaweedFS의 파일 위치 조회 (캐시)
+            String volumeUrl = volumeLocator.locate(fid);
+            if (volumeUrl == null) {
                 log.warn("File not found for deletion: {}", fid);
                 return;
             }
 
-            String volumeUrl = lookupResponse.getLocations().get(0).getPublicUrl();
             String deleteUrl = "http://" + volumeUrl + "/" + fid;
 
             restTemplate.delete(deleteUrl);
@@ -240,127 +233,139 @@ public class SeaweedFSFileStorageAdapter implements FileStoragePort {
         }
     }
 
+    @Override
+    public String getFileUrl(String fid) {
+        // SeaweedFS 외부 접근 URL
+        return externalUrl + "/" + fid;
+    }
+
+    @Override
+    public Optional<FileRedirect> findRedirect(String fid) {
+        return redirectResolver.resolve(fid);
+    }
+
     /**
-     * SeaweedFS에서 파일 위치 조회
+     * 파일 다운로드 (GET 한 번으로 Content-Type과 본문을 함께 받음)
+     * 캐시된 위치로 요청이 실패하면 위치를 다시 조회해 다른 replica로 한 번 재시도합니다.
      */
-    private LookupResponse lookupFileLocation(String fid) {
+    @Override
+    public FileContent downloadFile(String fid, String range) {
         try {
-            String lookupUrl = masterUrl + "/dir/lookup?volumeId=" + extractVolumeId(fid);
-            ResponseEntity<LookupResponse> response = restTemplate.getForEntity(
-                    lookupUrl,
-                    LookupResponse.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return response.getBody();
+            String volumeUrl = requireLocation(fid, null);
+            ClientHttpResponse response;
+            try {
+                response = openVolumeResponse(volumeUrl, fid, range);
+            } catch (IOException | StaleLocationException e) {
+                log.warn("SeaweedFS volume request failed, refreshing location: fid={}, volume={}", fid, volumeUrl, e);
+                volumeLocator.invalidate(fid);
+                response = openVolumeResponse(requireLocation(fid, volumeUrl), fid, range);
             }
-
-            throw new RuntimeException("Failed to lookup file location: " + response.getStatusCode());
+            return toFileContent(fid, range, response);
+        } catch (FileRangeNotSatisfiableException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to lookup file location for fid: {}", fid, e);
-            throw new RuntimeException("Failed to lookup file location", e);
+            log.error("Failed to download file from SeaweedFS: {}", fid, e);
+            throw new RuntimeException("Failed to download file", e);
         }
     }
 
+    private String requireLocation(String fid, String exclude) {
+        String volumeUrl = volumeLocator.locate(fid, exclude);
+        if (volumeUrl == null) {
+            throw new RuntimeException("File not found: " + fid);
+        }
+        return volumeUrl;
+    }
+
     /**
-     * fid에서 volumeId 추출
-     * 예: "3,01637037d6" -> "3"
+     * volume 서버에 GET 요청
+     * RestTemplate은 응답을 닫은 뒤 반환하므로, 본문을 흘려보내기 위해 요청을 직접 실행합니다.
+     * 404/5xx는 위치가 바뀌었거나 서버 장애일 수 있으므로 StaleLocationException으로 알립니다.
      */
-    private String extractVolumeId(String fid) {
-        if (fid.contains(",")) {
-            return fid.split(",")[0];
+    private ClientHttpResponse openVolumeResponse(String volumeUrl, String fid, String range) throws IOException {
+        URI downloadUri = URI.create("http://" + volumeUrl + "/" + fid);
+        ClientHttpRequest request = restTemplate.getRequestFactory().createRequest(downloadUri, HttpMethod.GET);
+        if (range != null) {
+            request.getHeaders().set(HttpHeaders.RANGE, range);
         }
-        return fid;
-    }
+        ClientHttpResponse response = request.execute();
 
-    @Override
-    public String getFileUrl(String fid) {
-        // SeaweedFS 외부 접근 URL
-        return externalUrl + "/" + fid;
+        HttpStatusCode status = response.getStatusCode();
+        if (status.isSameCodeAs(HttpStatus.NOT_FOUND) || status.is5xxServerError()) {
+            response.close();
+            throw new StaleLocationException(volumeUrl, status);
+        }
+        return response;
     }
 
-    @Override
-    public InputStream downloadFile(String fid) {
+    private FileContent toFileContent(String fid, String range, ClientHttpResponse response) throws IOException {
         try {
-            // 파일 위치 조회
-            LookupResponse lookupResponse = lookupFileLocation(fid);
-            if (lookupResponse == null || lookupResponse.getLocations() == null || lookupResponse.getLocations().isEmpty()) {
-                throw new RuntimeException("File not found: " + fid);
+            HttpStatusCode status = response.getStatusCode();
+            if (status.isSameCodeAs(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)) {
+                throw new FileRangeNotSatisfiableException(fid, range,
+                        unsatisfiedRangeLength(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)));
             }
-
-            String volumeUrl = lookupResponse.getLocations().get(0).getPublicUrl();
-            String downloadUrl = "http://" + volumeUrl + "/" + fid;
-
-            ResponseEntity<byte[]> response = restTemplate.getForEntity(downloadUrl, byte[].class);
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return new java.io.ByteArrayInputStream(response.getBody());
+            if (!status.isSameCodeAs(HttpStatus.OK) && !status.isSameCodeAs(HttpStatus.PARTIAL_CONTENT)) {
+                throw new RuntimeException("Failed to download file: " + status);
             }
 
-            throw new RuntimeException("Failed to download file");
-        } catch (Exception e) {
-            log.error("Failed to download file from SeaweedFS: {}", fid, e);
-            throw new RuntimeException("Failed to download file", e);
+            HttpHeaders headers = response.getHeaders();
+            MediaType contentType = headers.getContentType();
+            String contentRange = status.isSameCodeAs(HttpStatus.PARTIAL_CONTENT)
+                    ? headers.getFirst(HttpHeaders.CONTENT_RANGE)
+                    : null;
+            return new FileContent(
+                    new ResponseBodyInputStream(response),
+                    contentType != null ? contentType.toString() : DEFAULT_CONTENT_TYPE,
+                    headers.getContentLength(),
+                    contentRange
+            );
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
         }
     }
 
-    @Override
-    public String getContentType(String fid) {
+    /**
+     * 416 응답의 Content-Range 헤더에서 전체 파일 길이 추출 (없거나 형식이 다르면 -1)
+     */
+    private static long unsatisfiedRangeLength(String contentRange) {
+        if (contentRange == null || !contentRange.startsWith(UNSATISFIED_RANGE_PREFIX)) {
+            return -1;
+        }
         try {
-            // 파일 위치 조회
-            LookupResponse lookupResponse = lookupFileLocation(fid);
-            if (lookupResponse == null || lookupResponse.getLocations() == null || lookupResponse.getLocations().isEmpty()) {
-                throw new RuntimeException("File not found: " + fid);
-            }
-
-            String volumeUrl = lookupResponse.getLocations().get(0).getPublicUrl();
-            String headUrl = "http://" + volumeUrl + "/" + fid;
-
-            ResponseEntity<Void> response = restTemplate.exchange(
-                    headUrl,
-                    HttpMethod.HEAD,
-                    null,
-                    Void.class
-            );
-
-            HttpHeaders headers = response.getHeaders();
-            MediaType contentType = headers.getContentType();
-            if (contentType != null) {
-                return contentType.toString();
-            }
-
-            // Content-Type을 찾을 수 없으면 기본값 반환
-            return "application/octet-stream";
-        } catch (Exception e) {
-            log.error("Failed to get content type from SeaweedFS: {}", fid, e);
-            return "application/octet-stream";
+            return Long.parseLong(contentRange.substring(UNSATISFIED_RANGE_PREFIX.length()).trim());
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
     /**
-     * SeaweedFS Assign API 응답
+     * 캐시된 volume 위치로 요청이 실패함 (위치 재조회 후 재시도 대상)
      */
-    @Data
-    private static class AssignResponse {
-        private String fid;
-        private String url;
-        @JsonProperty("publicUrl")
-        private String publicUrl;
-        private int count;
+    private static class StaleLocationException extends RuntimeException {
+
+        private StaleLocationException(String volumeUrl, HttpStatusCode status) {
+            super("SeaweedFS volume " + volumeUrl + " responded " + status);
+        }
     }
 
     /**
-     * SeaweedFS Lookup API 응답
+     * volume 서버 응답 본문 스트림
+     * 닫으면 응답도 닫혀 커넥션이 풀로 돌아갑니다.
      */
-    @Data
-    private static class LookupResponse {
-        private String volumeId;
-        private List<Location> locations;
-
-        @Data
-        public static class Location {
-            private String url;
-            @JsonProperty("publicUrl")
-            private String publicUrl;
+    private static class ResponseBodyInputStream extends FilterInputStream {
+
+        private final ClientHttpResponse response;
+
+        private ResponseBodyInputStream(ClientHttpResponse response) throws IOException {
+            super(response.getBody());
+            this.response = response;
+        }
+
+        @Override
+        public void close() {
+            response.close();
         }
     }
 }
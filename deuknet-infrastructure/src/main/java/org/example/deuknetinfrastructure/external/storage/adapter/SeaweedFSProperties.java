@@ -0,0 +1,72 @@
+package org.example.deuknetinfrastructure.external.storage.adapter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * SeaweedFS 연동 설정 프로퍼티
+ * (master-url, external-url은 SeaweedFSConfig에서 주입)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "seaweedfs")
+public class SeaweedFSProperties {
+
+    private LocationCache locationCache = new LocationCache();
+
+    private Serving serving = new Serving();
+
+    private FidPool fidPool = new FidPool();
+
+    public enum ServingMode {
+        /**
+         * 앱이 volume 서버 응답을 받아 그대로 전달 (기본값)
+         */
+        PROXY,
+
+        /**
+         * volume 서버의 공개 URL로 302 리다이렉트 (앱은 파일 대역폭을 쓰지 않음)
+         */
+        REDIRECT
+    }
+
+    /**
+     * volumeId → volume 서버 위치 캐시 설정 (SeaweedFSVolumeLocator)
+     */
+    @Getter
+    @Setter
+    public static class LocationCache {
+        private long maxEntries = 10000;
+        private Duration ttl = Duration.ofMinutes(1);   // volume 이동/복제 변경 반영 최대 지연 (요청 실패 시에는 즉시 재조회)
+    }
+
+    /**
+     * 파일 다운로드 제공 방식 (SeaweedFSRedirectResolver)
+     */
+    @Getter
+    @Setter
+    public static class Serving {
+        private ServingMode mode = ServingMode.PROXY;
+        private String redirectBaseUrl = "";                     // REDIRECT 모드 필수, {publicUrl}은 조회한 volume 서버 주소로 치환 (예: https://{publicUrl})
+        private Duration redirectMaxAge = Duration.ofHours(1);   // 302 응답 캐시 시간 (서명 URL은 만료 전까지로 제한)
+        private String readSigningKey = "";                      // SeaweedFS security.toml의 jwt.signing.read.key (32바이트 이상), 비우면 서명하지 않음
+        private Duration signedUrlTtl = Duration.ofMinutes(10);  // 서명 URL 유효 시간
+    }
+
+    /**
+     * 업로드용 fid 사전 할당 풀 설정 (SeaweedFSFidPool)
+     */
+    @Getter
+    @Setter
+    public static class FidPool {
+        private boolean enabled = true;
+        private int batchSize = 100;                      // 한 번에 할당받을 fid 수 (/dir/assign?count=N)
+        private int lowWatermark = 20;                    // 남은 fid가 이보다 적으면 백그라운드 보충
+        private Duration maxAge = Duration.ofMinutes(5);  // 이보다 오래된 fid는 버림 (volume이 가득 찼을 수 있음)
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.deuknetinfrastructure.external.storage.adapter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.deuknetapplication.port.out.external.storage.FileRedirect;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 다운로드 리다이렉트 URL 생성기 (serving.mode=REDIRECT)
+ * <br>
+ * redirect-base-url 뒤에 fid를 붙여 302 응답할 URL을 만듭니다.
+ * redirect-base-url에 {publicUrl}이 있으면 조회한 volume 서버의 publicUrl(host:port)로 치환합니다 (예: https://{publicUrl}).
+ * 스킴을 추측하지 않도록 REDIRECT 모드에서는 redirect-base-url이 필수이며, 비어 있으면 기동 시 실패합니다.
+ * readSigningKey가 있으면 SeaweedFS volume 서버가 검증하는 읽기 JWT(fid, exp 클레임)를 ?jwt= 로 붙입니다.
+ * <br>
+ * 만료 시각은 1분 단위로 올림하므로, 같은 파일의 URL은 1분 동안 동일하여 브라우저/CDN 캐시가 재사용됩니다.
+ */
+@Component
+public class SeaweedFSRedirectResolver {
+
+    private static final long EXPIRY_STEP_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final String PUBLIC_URL_PLACEHOLDER = "{publicUrl}";
+
+    private final SeaweedFSVolumeLocator volumeLocator;
+    private final SeaweedFSProperties.Serving properties;
+    private final SecretKey readSigningKey;
+
+    public SeaweedFSRedirectResolver(SeaweedFSVolumeLocator volumeLocator, SeaweedFSProperties properties) {
+        this.volumeLocator = volumeLocator;
+        this.properties = properties.getServing();
+        if (this.properties.getMode() == SeaweedFSProperties.ServingMode.REDIRECT
+                && (this.properties.getRedirectBaseUrl() == null || this.properties.getRedirectBaseUrl().isBlank())) {
+            throw new IllegalStateException("seaweedfs.serving.redirect-base-url is required when seaweedfs.serving.mode=REDIRECT");
+        }
+        String key = this.properties.getReadSigningKey();
+        this.readSigningKey = key == null || key.isBlank()
+                ? null
+                : Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 리다이렉트 URL 조회
+     *
+     * @return PROXY 모드이면 빈 값
+     */
+    public Optional<FileRedirect> resolve(String fid) {
+        if (properties.getMode() != SeaweedFSProperties.ServingMode.REDIRECT) {
+            return Optional.empty();
+        }
+
+        String url = baseUrl(fid) + "/" + fid;
+        long maxAgeSeconds = properties.getRedirectMaxAge().toSeconds();
+        if (readSigningKey == null) {
+            return Optional.of(new FileRedirect(url, maxAgeSeconds));
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = alignUp(now + properties.getSignedUrlTtl().toMillis());
+        String token = Jwts.builder()
+                .claim("fid", fid)
+                .setExpiration(new Date(expiresAt))
+                .signWith(readSigningKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        // 캐시된 302가 만료된 서명 URL을 가리키지 않도록 남은 유효 시간의 절반까지만 캐싱
+        long remainingSeconds = (expiresAt - now) / 1000;
+        return Optional.of(new FileRedirect(url + "?jwt=" + token, Math.min(maxAgeSeconds, remainingSeconds / 2)));
+    }
+
+    private String baseUrl(String fid) {
+        String redirectBaseUrl = properties.getRedirectBaseUrl();
+        if (!redirectBaseUrl.contains(PUBLIC_URL_PLACEHOLDER)) {
+            return redirectBaseUrl;
+        }
+        String volumeUrl = volumeLocator.locate(fid);
+        if (volumeUrl == null) {
+            throw new RuntimeException("File not found: " + fid);
+        }
+        return redirectBaseUrl.replace(PUBLIC_URL_PLACEHOLDER, volumeUrl);
+    }
+
+    private long alignUp(long millis) {
+        return (millis + EXPIRY_STEP_MILLIS - 1) / EXPIRY_STEP_MILLIS * EXPIRY_STEP_MILLIS;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.deuknetinfrastructure.external.storage.adapter;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SeaweedFS volume 위치 조회기
+ * <br>
+ * master의 /dir/lookup 결과를 volumeId 단위로 크기/TTL 제한 캐싱합니다.
+ * 같은 volume의 파일은 모두 같은 서버에 있으므로, 자주 받는 파일은 master를 거의 조회하지 않습니다.
+ * volume에 replica가 여러 개면 요청마다 돌아가며 선택합니다 (round-robin).
+ * <br>
+ * 캐시된 위치로 요청이 실패하면 호출자가 {@link #invalidate}로 지우고 다시 조회합니다.
+ * <br>
+ * 메트릭: cache.gets{cache=seaweedfs.volume.locations}, seaweedfs.master.lookups
+ */
+@Slf4j
+@Component
+public class SeaweedFSVolumeLocator {
+
+    private final RestTemplate restTemplate;
+    private final String masterUrl;
+    private final Cache<String, VolumeLocations> cache;
+    private final Counter lookupCounter;
+
+    public SeaweedFSVolumeLocator(
+            @Qualifier("seaweedFSRestTemplate") RestTemplate restTemplate,
+            @Qualifier("seaweedFSMasterUrl") String masterUrl,
+            SeaweedFSProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.masterUrl = masterUrl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocationCache().getMaxEntries())
+                .expireAfterWrite(properties.getLocationCache().getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "seaweedfs.volume.locations");
+        this.lookupCounter = Counter.builder("seaweedfs.master.lookups")
+                .description("SeaweedFS master /dir/lookup 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * fid가 있는 volume 서버 주소 (host:port)
+     *
+     * @return 위치를 찾을 수 없으면 null
+     */
+    public String locate(String fid) {
+        return locate(fid, null);
+    }
+
+    /**
+     * fid가 있는 volume 서버 주소 (host:port)
+     * 재시도 시 방금 실패한 서버는 다른 replica가 있으면 피합니다.
+     *
+     * @param exclude 가능하면 제외할 서버 주소
+     * @return 위치를 찾을 수 없으면 null
+     */
+    public String locate(String fid, String exclude) {
+        VolumeLocations locations = cache.get(extractVolumeId(fid), this::lookup);
+        return locations == null ? null : locations.next(exclude);
+    }
+
+    /**
+     * 캐시된 volume 위치 제거 (요청 실패 시)
+     */
+    public void invalidate(String fid) {
+        cache.invalidate(extractVolumeId(fid));
+    }
+
+    /**
+     * master에서 volume 위치 조회
+     * 찾지 못하면 null을 반환하며, 이 경우 캐시에 저장되지 않습니다.
+     */
+    private VolumeLocations lookup(String volumeId) {
+        lookupCounter.increment();
+        try {
+            LookupResponse response = restTemplate.getForObject(
+                    masterUrl + "/dir/lookup?volumeId=" + volumeId,
+                    LookupResponse.class
+            );
+            if (response == null || response.getLocations() == null || response.getLocations().isEmpty()) {
+                return null;
+            }
+            List<String> urls = response.getLocations().stream()
+                    .map(LookupResponse.Location::getPublicUrl)
+                    .toList();
+            log.debug("SeaweedFS volume located: volumeId={}, locations={}", volumeId, urls);
+            return new VolumeLocations(urls);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        } catch (Exception e) {
+            log.error("Failed to lookup volume location: volumeId={}", volumeId, e);
+            throw new RuntimeException("Failed to lookup file location", e);
+        }
+    }
+
+    /**
+     * fid에서 volumeId 추출
+     * 예: "3,01637037d6" -> "3"
+     */
+    private String extractVolumeId(String fid) {
+        int comma = fid.indexOf(',');
+        return comma < 0 ? fid : fid.substring(0, comma);
+    }
+
+    /**
+     * volume 하나의 replica 목록과 round-robin 위치
+     */
+    private static final class VolumeLocations {
+
+        private final List<String> urls;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private VolumeLocations(List<String> urls) {
+            this.urls = urls;
+        }
+
+        private String next(String exclude) {
+            int start = cursor.getAndIncrement();
+            for (int i = 0; i < urls.size(); i++) {
+                String url = urls.get(Math.floorMod(start + i, urls.size()));
+                if (!url.equals(exclude)) {
+                    return url;
+                }
+            }
+            return urls.get(Math.floorMod(start, urls.size()));
+        }
+    }
+
+    /**
+     * SeaweedFS Lookup API 응답
+     */
+    @Data
+    private static class LookupResponse {
+        private String volumeId;
+        private List<Location> locations;
+
+        @Data
+        public static class Location {
+            private String url;
+            @JsonProperty("publicUrl")
+            private String publicUrl;
+        }
+    }
+}
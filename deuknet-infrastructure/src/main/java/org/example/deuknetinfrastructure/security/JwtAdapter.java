@@ -1,90 +1,190 @@
 package org.example.deuknetinfrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.example.deuknetapplication.port.out.security.AccessTokenClaims;
 import org.example.deuknetapplication.port.out.security.JwtPort;
 import org.example.deuknetdomain.domain.auth.TokenPair;
 import org.example.deuknetdomain.domain.auth.exception.InvalidTokenException;
+import org.example.deuknetdomain.domain.user.User;
+import org.example.deuknetdomain.domain.user.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 발급/검증 Adapter
+ * <br>
+ * 검증기(JwtParser)는 불변이므로 하나만 만들어 공유합니다.
+ * 검증에 성공한 토큰은 SHA-256 해시를 키로 만료 시각(exp)까지 캐싱하여,
+ * 같은 세션의 반복 요청에서는 서명 검증과 claim JSON 파싱을 건너뜁니다.
+ * 토큰 폐기는 토큰 버전으로 별도 확인하므로 캐싱해도 안전합니다.
+ */
 @Component
 public class JwtAdapter implements JwtPort {
 
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
 
     private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ANONYMOUS_ACCESS_CLAIM = "anon";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
     private static final String ACCESS_TOKEN_TYPE = "access";
     private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     public JwtAdapter(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity-ms:3600000}") long accessTokenValidityMs,
-            @Value("${jwt.refresh-token-validity-ms:604800000}") long refreshTokenValidityMs
+            @Value("${jwt.refresh-token-validity-ms:604800000}") long refreshTokenValidityMs,
+            @Value("${jwt.verified-token-cache.max-entries:20000}") int verifiedTokenCacheMaxEntries
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = verifiedTokenCacheMaxEntries > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedTokenCacheMaxEntries)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
     }
 
     @Override
-    public String generateAccessToken(UUID userId) {
-        return generateToken(userId, accessTokenValidityMs, ACCESS_TOKEN_TYPE);
+    public String generateAccessToken(User user) {
+        return tokenBuilder(user.getId(), accessTokenValidityMs, ACCESS_TOKEN_TYPE)
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .claim(ANONYMOUS_ACCESS_CLAIM, user.isCanAccessAnonymous())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                .compact();
     }
 
     @Override
     public String generateRefreshToken(UUID userId) {
-        return generateToken(userId, refreshTokenValidityMs, REFRESH_TOKEN_TYPE);
+        return tokenBuilder(userId, refreshTokenValidityMs, REFRESH_TOKEN_TYPE).compact();
     }
 
     @Override
     public UUID validateToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return UUID.fromString(claims.getSubject());
-        } catch (Exception e) {
+        return verify(token).userId();
+    }
+
+    @Override
+    public AccessTokenClaims parseAccessToken(String token) {
+        AccessTokenClaims claims = verify(token).accessClaims();
+        if (claims == null) {
+            // refresh token 또는 권한 claim이 없는 이전 형식 → 재발급 유도
             throw new InvalidTokenException();
         }
+        return claims;
     }
 
     @Override
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
-        } catch (Exception e) {
+            return REFRESH_TOKEN_TYPE.equals(verify(token).type());
+        } catch (InvalidTokenException e) {
             return false;
         }
     }
 
     @Override
-    public TokenPair createTokenPair(UUID userId) {
-        String accessToken = generateAccessToken(userId);
-        String refreshToken = generateRefreshToken(userId);
+    public TokenPair createTokenPair(User user) {
+        String accessToken = generateAccessToken(user);
+        String refreshToken = generateRefreshToken(user.getId());
 
         return new TokenPair(accessToken, refreshToken);
     }
 
-    private String generateToken(UUID userId, long validityMs, String tokenType) {
+    /**
+     * 토큰 검증 (캐시 → 서명 검증 및 파싱)
+     * 검증에 실패한 토큰은 캐싱하지 않습니다.
+     */
+    private VerifiedToken verify(String token) {
+        if (token == null) {
+            throw new InvalidTokenException();
+        }
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        ByteBuffer key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            UUID userId = UUID.fromString(claims.getSubject());
+            String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+
+            return new VerifiedToken(
+                    userId,
+                    type,
+                    toAccessClaims(userId, type, claims),
+                    claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L
+            );
+        } catch (Exception e) {
+            throw new InvalidTokenException();
+        }
+    }
+
+    /**
+     * 권한 claim이 모두 있는 access token만 AccessTokenClaims로 변환 (그 외 null)
+     */
+    private AccessTokenClaims toAccessClaims(UUID userId, String type, Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        if (!ACCESS_TOKEN_TYPE.equals(type) || role == null || tokenVersion == null) {
+            return null;
+        }
+
+        return new AccessTokenClaims(
+                userId,
+                UserRole.valueOf(role),
+                Boolean.TRUE.equals(claims.get(ANONYMOUS_ACCESS_CLAIM, Boolean.class)),
+                tokenVersion.longValue()
+        );
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private JwtBuilder tokenBuilder(UUID userId, long validityMs, String tokenType) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityMs);
 
@@ -93,7 +193,36 @@ public class JwtAdapter implements JwtPort {
                 .claim(TOKEN_TYPE_CLAIM, tokenType)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(secretKey, SignatureAlgorithm.HS256);
+    }
+
+    /**
+     * 검증된 토큰 정보
+     *
+     * @param accessClaims 권한 claim이 있는 access token이면 claim, 아니면 null
+     */
+    private record VerifiedToken(UUID userId, String type, AccessTokenClaims accessClaims, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시 엔트리를 토큰 만료 시각까지만 유지
+     */
+    private static class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
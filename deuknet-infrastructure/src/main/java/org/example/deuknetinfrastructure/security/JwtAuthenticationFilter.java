@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.deuknetapplication.port.out.repository.UserRepository;
+import org.example.deuknetapplication.port.out.security.AccessTokenClaims;
 import org.example.deuknetapplication.port.out.security.JwtPort;
 import org.example.deuknetpresentation.security.UserPrincipal;
 import org.slf4j.Logger;
@@ -18,7 +19,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -52,22 +52,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = authHeader.substring(7);
-            UUID userId = jwtPort.validateToken(token);
+            AccessTokenClaims claims = jwtPort.parseAccessToken(token);
+            UUID userId = claims.userId();
 
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // User 조회하여 role 기반 권한 설정
-                List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-                userRepository.findById(userId).ifPresent(user -> {
-                    authorities.add(new SimpleGrantedAuthority(user.getRole().name()));
-                    log.debug("User authenticated - role: {}, id: {}", user.getRole().name(), userId);
-                });
+                // 권한 변경 이후(버전 증가) 발급 전 토큰은 거부 - 버전은 캐시에서 조회
+                // (SecurityContext만 설정하지 않고 아래의 필터 체인으로 진행)
+                long currentVersion = userRepository.findTokenVersion(userId).orElse(Long.MAX_VALUE);
+                if (claims.tokenVersion() < currentVersion) {
+                    log.debug("Revoked token for URI: {}, userId: {}", requestURI, userId);
+                } else {
+                    // 토큰의 role claim으로 권한 설정 (User 조회 없음)
+                    List<SimpleGrantedAuthority> authorities =
+                            List.of(new SimpleGrantedAuthority(claims.role().name()));
+                    log.debug("User authenticated - role: {}, id: {}", claims.role().name(), userId);
 
-                UserPrincipal principal = new UserPrincipal(userId);
-                UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, null, authorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    UserPrincipal principal = new UserPrincipal(userId, claims.canAccessAnonymous());
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             // JWT 검증 실패 - SecurityContext를 설정하지 않고 필터 체인 계속 진행
@@ -7,24 +7,53 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 현재 사용자 조회
+ * <br>
+ * JwtAuthenticationFilter가 요청당 한 번 토큰에서 만든 UserPrincipal을 SecurityContext(요청 스레드 범위)에 두고,
+ * 이후 모든 조회는 DB나 토큰 재검증 없이 그 값을 읽습니다.
+ */
 @Component
 public class SecurityUtil implements CurrentUserPort {
 
     @Override
     public UUID getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
+
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new ForbiddenException("User is not authenticated");
         }
-        
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof UserPrincipal) {
-            return ((UserPrincipal) principal).userId();
+
+        return findPrincipal()
+                .map(UserPrincipal::userId)
+                .orElseThrow(() -> new ForbiddenException("Invalid authentication principal"));
+    }
+
+    @Override
+    public Optional<UUID> findCurrentUserId() {
+        return findPrincipal().map(UserPrincipal::userId);
+    }
+
+    @Override
+    public boolean canCurrentUserAccessAnonymous() {
+        return findPrincipal()
+                .map(UserPrincipal::canAccessAnonymous)
+                .orElse(false);
+    }
+
+    /**
+     * 인증된 요청이면 UserPrincipal, 비인증(anonymousUser 포함)이면 empty
+     */
+    private Optional<UserPrincipal> findPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return Optional.of(principal);
         }
-        
-        throw new ForbiddenException("Invalid authentication principal");
+        return Optional.empty();
     }
 }
@@ -0,0 +1,18 @@
+-- V14: 조회수를 reactions VIEW 행 대신 posts.view_count로 관리
+-- 기존 VIEW 행 개수를 view_count로 옮긴 뒤 더 이상 쓰지 않는 VIEW 행을 삭제합니다.
+
+-- 1. 기존 VIEW 리액션 집계를 posts.view_count에 반영
+UPDATE posts p
+SET view_count = v.view_count
+FROM (
+    SELECT target_id, COUNT(*) AS view_count
+    FROM reactions
+    WHERE reaction_type = 'VIEW'
+    GROUP BY target_id
+) v
+WHERE p.id = v.target_id;
+
+-- 2. VIEW 리액션 행 삭제 (조회수는 애플리케이션이 posts.view_count에 일괄 반영)
+DELETE FROM reactions WHERE reaction_type = 'VIEW';
+
+COMMENT ON COLUMN posts.view_count IS '조회수 - 애플리케이션이 주기적으로 증분 반영 (write-behind)';
@@ -0,0 +1,28 @@
+-- V15: 게시글 통계 테이블 (post_stats)
+-- 댓글/좋아요/싫어요/조회수를 증분(UPSERT)으로 유지하여 reactions, comments 집계 쿼리를 대체합니다.
+
+-- 1. 테이블 생성
+CREATE TABLE post_stats (
+    post_id UUID PRIMARY KEY,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    dislike_count BIGINT NOT NULL DEFAULT 0,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- 2. 기존 데이터로 초기화
+INSERT INTO post_stats (post_id, comment_count, like_count, dislike_count, view_count, updated_at)
+SELECT p.id,
+       (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id),
+       (SELECT COUNT(*) FROM reactions r WHERE r.target_id = p.id AND r.reaction_type = 'LIKE'),
+       (SELECT COUNT(*) FROM reactions r WHERE r.target_id = p.id AND r.reaction_type = 'DISLIKE'),
+       p.view_count,
+       now()
+FROM posts p;
+
+-- 3. 조회수는 post_stats로 이전
+ALTER TABLE posts DROP COLUMN view_count;
+
+COMMENT ON TABLE post_stats IS '게시글 통계 - 댓글/리액션 쓰기와 같은 트랜잭션에서 증분 갱신';
+COMMENT ON COLUMN post_stats.view_count IS '조회수 - 애플리케이션이 주기적으로 증분 반영 (write-behind)';
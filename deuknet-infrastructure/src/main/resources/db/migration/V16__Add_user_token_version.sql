@@ -0,0 +1,7 @@
+-- V16: Add per-user token version
+-- 권한 변경 시 이전에 발급된 access token을 무효화하기 위한 버전 컬럼
+
+ALTER TABLE users
+ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.token_version IS 'access token 버전 - 권한 변경 시 증가, 토큰의 ver claim보다 크면 토큰 거부';
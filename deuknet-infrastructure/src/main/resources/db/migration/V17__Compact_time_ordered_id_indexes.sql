@@ -0,0 +1,11 @@
+-- V17: Compact primary key indexes for time-ordered (UUIDv7) IDs
+-- 새 ID는 모두 UUIDv7이므로 PK 인덱스에는 항상 오른쪽 끝에만 추가됨
+-- 중간 삽입이 없으므로 리프 페이지를 꽉 채워도 분할이 생기지 않음 (기본 fillfactor 90 -> 100)
+-- 기존 UUIDv4 키로 조각난 페이지는 REINDEX로 한 번 정리
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 이 마이그레이션은 비트랜잭션으로 실행 (V17__...sql.conf)
+-- 재빌드 동안 reactions 쓰기를 막지 않도록 CONCURRENTLY 사용
+-- outbox PK의 fillfactor는 V19의 파티션 테이블(outbox_event_log)에서 지정함
+
+ALTER INDEX reactions_pkey SET (fillfactor = 100);
+
+REINDEX INDEX CONCURRENTLY reactions_pkey;
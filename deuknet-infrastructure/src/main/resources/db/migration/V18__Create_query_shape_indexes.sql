@@ -0,0 +1,35 @@
+-- V18: 실제 조회 패턴에 맞춘 복합/커버링/부분 인덱스
+-- CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로
+-- V18__Create_query_shape_indexes.sql.conf 에서 executeInTransaction=false 로 실행합니다.
+-- 실패 시 INVALID 인덱스가 남을 수 있으므로 DROP 후 다시 실행해야 합니다.
+
+-- Reactions: 게시글별 LIKE/DISLIKE 집계 (countByTargetIdAndReactionType)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reactions_target_id_type
+    ON reactions (target_id, reaction_type);
+
+-- Reactions: 사용자의 특정 게시글 반응 존재 여부/조회 (findFirst/existsByTargetIdAndUserIdAndReactionType)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reactions_target_user_type
+    ON reactions (target_id, user_id, reaction_type);
+
+-- Reactions: 사용자가 좋아요한 게시글 목록(최신순), 개수, 사용자 반응 상태 조회
+-- target_id, id를 포함하여 reactions 테이블 접근 없이 index-only scan
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reactions_user_type_target_created
+    ON reactions (user_id, reaction_type, target_type, created_at DESC)
+    INCLUDE (target_id, id);
+
+-- Comments: 게시글의 댓글 목록 (작성 순)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_post_id_created_at
+    ON comments (post_id, created_at);
+
+-- Posts: 목록 화면은 공개 게시글만 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_public_created_at
+    ON posts (created_at DESC)
+    WHERE status = 'PUBLIC';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_public_category_created_at
+    ON posts (category_id, created_at DESC)
+    WHERE status = 'PUBLIC';
+
+-- 새 인덱스가 앞부분(prefix)을 포함하므로 중복 인덱스 제거
+DROP INDEX CONCURRENTLY IF EXISTS idx_reactions_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_comments_post_id;
@@ -0,0 +1,52 @@
+-- V19: 일 단위 파티션 outbox 테이블 (outbox_event_log) 추가
+-- 롤링 배포 중에는 이전 버전 인스턴스가 계속 outbox_events에 쓰므로 기존 테이블은 그대로 둠
+-- 새 버전은 outbox_event_log에만 쓰고, Debezium은 전환 기간 동안 두 테이블을 모두 읽음 (table-include-list)
+-- 모든 인스턴스가 전환된 다음 릴리스에서 outbox_events를 DROP하고 table-include-list에서 제외
+-- 기존 행은 옮기지 않음 (다시 INSERT하면 CDC로 중복 발행됨)
+
+-- Debezium Outbox Event Router가 사용하는 컬럼만 유지
+-- 파티션 테이블의 PK에는 파티션 키가 포함되어야 함
+-- PK는 UUIDv7 id가 앞에 오므로 오른쪽 끝에만 추가됨 (fillfactor 100, 파티션 인덱스에도 적용)
+CREATE TABLE outbox_event_log (
+    id UUID NOT NULL,
+    aggregatetype VARCHAR(255) NOT NULL,
+    aggregateid VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    payload TEXT,
+    timestamp BIGINT NOT NULL,
+    PRIMARY KEY (id, timestamp) WITH (fillfactor = 100)
+) PARTITION BY RANGE (timestamp);
+
+-- 스케줄러가 파티션을 만들기 전에 들어온 행을 받는 기본 파티션
+CREATE TABLE outbox_event_log_default PARTITION OF outbox_event_log DEFAULT;
+
+-- 오늘부터 3일치 파티션 (이후는 OutboxPartitionMaintainer가 생성, UTC 기준)
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR i IN 0..2 LOOP
+        day := (now() AT TIME ZONE 'UTC')::date + i;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox_event_log FOR VALUES FROM (%s) TO (%s)',
+            'outbox_event_log_p' || to_char(day, 'YYYYMMDD'),
+            (extract(epoch FROM day::timestamp) * 1000)::bigint,
+            (extract(epoch FROM (day + 1)::timestamp) * 1000)::bigint
+        );
+    END LOOP;
+END $$;
+
+-- 파티션 행의 변경을 부모 테이블(public.outbox_event_log) 이름으로 발행
+-- 테이블 단위 publication이면 새 테이블을 추가 (outbox_events는 전환 기간 동안 유지)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'deuknet_outbox_publication') THEN
+        ALTER PUBLICATION deuknet_outbox_publication SET (publish_via_partition_root = true);
+        IF NOT (SELECT puballtables FROM pg_publication WHERE pubname = 'deuknet_outbox_publication') THEN
+            ALTER PUBLICATION deuknet_outbox_publication ADD TABLE outbox_event_log;
+        END IF;
+    END IF;
+END $$;
+
+COMMENT ON TABLE outbox_event_log IS 'Debezium Outbox - timestamp(epoch millis) 기준 일 단위 파티션, 발행 확정 후 파티션 DROP';
+COMMENT ON TABLE outbox_events IS 'Deprecated - 이전 버전 인스턴스 전용, 모든 인스턴스가 outbox_event_log로 전환된 뒤 DROP 예정';
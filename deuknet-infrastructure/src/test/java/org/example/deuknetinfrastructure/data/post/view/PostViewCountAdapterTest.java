@@ -0,0 +1,93 @@
+package org.example.deuknetinfrastructure.data.post.view;
+
+import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.port.out.repository.PostStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostViewCountAdapter 단위 테스트
+ *
+ * 사용자별 중복 제거와 게시글별 증분 배치 반영을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCountAdapter Unit Test")
+class PostViewCountAdapterTest {
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    @Mock
+    private PostProjectionCommandPort postProjectionCommandPort;
+
+    private PostViewCountAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PostViewCountAdapter(
+                postStatsRepository, postProjectionCommandPort, new ViewCountProperties());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 재조회는 한 번만 집계하고, 게시글별 증분을 한 번의 배치로 반영한다")
+    @SuppressWarnings("unchecked")
+    void shouldDeduplicateAndFlushDeltasInBatch() {
+        // Given
+        UUID postA = UUID.randomUUID();
+        UUID postB = UUID.randomUUID();
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+
+        adapter.recordView(postA, user1);
+        adapter.recordView(postA, user1);
+        adapter.recordView(postA, user2);
+        adapter.recordView(postB, user1);
+
+        // When
+        adapter.flush();
+
+        // Then
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(postStatsRepository).incrementViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(postA, 2L, postB, 1L));
+
+        // 반영 후에는 누적값이 비어 있어야 한다
+        adapter.flush();
+        verify(postStatsRepository, times(1)).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 누적값을 유지하고 다음 flush에서 재시도한다")
+    @SuppressWarnings("unchecked")
+    void shouldRetainDeltasWhenFlushFails() {
+        // Given
+        UUID postId = UUID.randomUUID();
+        adapter.recordView(postId, UUID.randomUUID());
+
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .doNothing()
+                .when(postStatsRepository).incrementViewCounts(anyMap());
+
+        // When
+        adapter.flush();
+        adapter.flush();
+
+        // Then
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(postStatsRepository, times(2)).incrementViewCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactlyEntriesOf(Map.of(postId, 1L));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.deuknetinfrastructure.data.reaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetapplication.port.out.repository.ReactionRepository.UserReaction;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserReactionCache 단위 테스트
+ */
+@DisplayName("UserReactionCache Unit Test")
+class UserReactionCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UserReactionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReactionCacheProperties properties = new ReactionCacheProperties();
+        properties.setTtl(TTL);
+        cache = new UserReactionCache(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("만료 직전의 조회와 반응 반영은 만료 시각을 연장하지 않는다")
+    void shouldExpireAtLoadedDeadlineDespiteUpdates() {
+        // Given
+        cache.get(userId, this::load);
+
+        // When: 만료 직전에 조회하고 이 인스턴스의 변경을 반영
+        advance(TTL.minusSeconds(1));
+        cache.get(userId, this::load);
+        cache.applyAdded(userId, new UserReaction(UUID.randomUUID(), UUID.randomUUID(), ReactionType.LIKE));
+        cache.applyRemoved(userId, UUID.randomUUID());
+
+        // Then: 적재 시점 기준 ttl이 지나면 다시 적재
+        advance(Duration.ofSeconds(2));
+        cache.get(userId, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("반영한 변경은 만료 전까지 조회 결과에 보인다")
+    void shouldApplyLocalChangesUntilExpiry() {
+        // Given
+        cache.get(userId, this::load);
+        UUID postId = UUID.randomUUID();
+
+        // When
+        cache.applyAdded(userId, new UserReaction(UUID.randomUUID(), postId, ReactionType.LIKE));
+
+        // Then
+        assertThat(cache.get(userId, this::load).find(List.of(postId))).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    private UserReactionSet load(UUID id) {
+        loads.incrementAndGet();
+        return UserReactionSet.of(List.of());
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
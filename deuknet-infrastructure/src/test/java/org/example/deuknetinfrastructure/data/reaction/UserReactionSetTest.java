@@ -0,0 +1,56 @@
+package org.example.deuknetinfrastructure.data.reaction;
+
+import org.example.deuknetapplication.port.out.repository.ReactionRepository.UserReaction;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserReactionSet 단위 테스트
+ */
+@DisplayName("UserReactionSet Unit Test")
+class UserReactionSetTest {
+
+    @Test
+    @DisplayName("요청한 게시글의 반응만 찾는다")
+    void shouldFindReactionsOfRequestedPosts() {
+        // Given
+        List<UserReaction> reactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            reactions.add(new UserReaction(UUID.randomUUID(), UUID.randomUUID(),
+                    i % 2 == 0 ? ReactionType.LIKE : ReactionType.DISLIKE));
+        }
+        UserReactionSet set = UserReactionSet.of(reactions);
+
+        // When
+        List<UserReaction> found = set.find(List.of(
+                reactions.get(3).targetId(), reactions.get(42).targetId(), UUID.randomUUID()));
+
+        // Then
+        assertThat(found).containsExactlyInAnyOrder(reactions.get(3), reactions.get(42));
+    }
+
+    @Test
+    @DisplayName("추가와 삭제는 새 집합을 반환하며 같은 변경을 다시 적용해도 결과가 같다")
+    void shouldApplyChangesIdempotently() {
+        // Given
+        UUID postId = UUID.randomUUID();
+        UserReaction like = new UserReaction(UUID.randomUUID(), postId, ReactionType.LIKE);
+        UserReactionSet empty = UserReactionSet.of(List.of());
+
+        // When
+        UserReactionSet added = empty.with(like).with(like);
+        UserReactionSet removed = added.without(like.id()).without(like.id());
+
+        // Then
+        assertThat(empty.find(List.of(postId))).isEmpty();
+        assertThat(added.find(List.of(postId))).containsExactly(like);
+        assertThat(removed.size()).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetapplication.messaging.EventType;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CDCEventCoalescer 단위 테스트
+ *
+ * 배치 내 같은 게시물의 이벤트가 최신 상태로 병합되는지 검증합니다.
+ */
+@DisplayName("CDCEventCoalescer Unit Test")
+class CDCEventCoalescerTest {
+
+    private static final String POST_A = "post-a";
+    private static final String POST_B = "post-b";
+
+    private ObjectMapper objectMapper;
+    private DebeziumProperties properties;
+    private CDCEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        properties = new DebeziumProperties();
+        coalescer = new CDCEventCoalescer(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 게시물의 카운터 이벤트는 필드 단위로 합쳐 하나만 남긴다")
+    void shouldMergeCountEventsPerPost() throws Exception {
+        // Given: 좋아요 200건 + 댓글 1건
+        List<CDCEventMessage> messages = new ArrayList<>();
+        for (long likes = 1; likes <= 200; likes++) {
+            messages.add(counts(POST_A, "{\"id\":\"" + POST_A + "\",\"likeCount\":" + likes + ",\"dislikeCount\":0}"));
+        }
+        messages.add(counts(POST_A, "{\"id\":\"" + POST_A + "\",\"commentCount\":3}"));
+
+        // When
+        List<CDCEventMessage> result = coalescer.coalesce(messages);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).payload())
+                .isEqualTo(objectMapper.readTree(
+                        "{\"id\":\"" + POST_A + "\",\"likeCount\":200,\"dislikeCount\":0,\"commentCount\":3}"));
+    }
+
+    @Test
+    @DisplayName("전체 상태 이벤트는 앞선 이벤트를 대체하고, 뒤의 카운터 이벤트는 그 다음에 적용된다")
+    void shouldKeepLatestStateThenCounts() {
+        // Given
+        CDCEventMessage earlyCounts = counts(POST_A, "{\"likeCount\":1}");
+        CDCEventMessage created = message(EventType.POST_CREATED, POST_A, "{\"v\":1}");
+        CDCEventMessage otherPost = message(EventType.POST_UPDATED, POST_B, "{\"v\":1}");
+        CDCEventMessage updated = message(EventType.POST_UPDATED, POST_A, "{\"v\":2}");
+        CDCEventMessage lateCounts = counts(POST_A, "{\"likeCount\":2}");
+
+        // When
+        List<CDCEventMessage> result = coalescer.coalesce(
+                List.of(earlyCounts, created, otherPost, updated, lateCounts));
+
+        // Then
+        assertThat(result).containsExactly(updated, lateCounts, otherPost);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물의 이후 카운터 이벤트는 버린다")
+    void shouldDropCountsAfterDelete() {
+        // Given
+        CDCEventMessage deleted = message(EventType.POST_DELETED, POST_A, "{}");
+
+        // When
+        List<CDCEventMessage> result = coalescer.coalesce(
+                List.of(counts(POST_A, "{\"likeCount\":1}"), deleted, counts(POST_A, "{\"likeCount\":2}")));
+
+        // Then
+        assertThat(result).containsExactly(deleted);
+    }
+
+    @Test
+    @DisplayName("병합이 비활성화되면 이벤트를 그대로 전달한다")
+    void shouldPassThroughWhenDisabled() {
+        // Given
+        properties.getCoalesce().setEnabled(false);
+        List<CDCEventMessage> messages = List.of(
+                counts(POST_A, "{\"likeCount\":1}"),
+                counts(POST_A, "{\"likeCount\":2}"));
+
+        // When & Then
+        assertThat(coalescer.coalesce(messages)).isEqualTo(messages);
+    }
+
+    private CDCEventMessage counts(String postId, String payloadJson) {
+        return message(EventType.POST_COUNTS_CHANGED, postId, payloadJson);
+    }
+
+    private CDCEventMessage message(EventType eventType, String postId, String payloadJson) {
+        try {
+            return new CDCEventMessage(eventType, postId, objectMapper.readTree(payloadJson));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
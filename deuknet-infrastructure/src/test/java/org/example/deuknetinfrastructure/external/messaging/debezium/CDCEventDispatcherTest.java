@@ -0,0 +1,115 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetapplication.messaging.EventType;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.example.deuknetinfrastructure.external.search.adapter.ElasticsearchBulkIndexer;
+import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CDCEventDispatcher 단위 테스트
+ *
+ * 같은 aggregateId의 이벤트 순서 보장과 flush 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CDCEventDispatcher Unit Test")
+class CDCEventDispatcherTest {
+
+    @Mock
+    private DebeziumEventHandler eventHandler;
+
+    @Mock
+    private ElasticsearchBulkIndexer bulkIndexer;
+
+    private DebeziumProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CDCEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DebeziumProperties();
+        properties.getDispatch().setWorkers(4);
+        properties.getDispatch().setQueueCapacity(16);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    /**
+     * 워커 스레드가 mock을 호출하므로 stubbing을 마친 뒤 생성합니다.
+     */
+    private void startDispatcher() {
+        dispatcher = new CDCEventDispatcher(eventHandler, bulkIndexer, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 aggregateId의 이벤트는 순서대로 처리되고 flush 시 모든 워커가 반영한다")
+    void shouldPreserveOrderPerAggregate() throws Exception {
+        // Given
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            CDCEventMessage message = invocation.getArgument(0);
+            handled.add(message.aggregateId() + ":" + message.payloadJson());
+            return null;
+        }).when(eventHandler).handle(any());
+        startDispatcher();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(new CDCEventMessage(EventType.POST_COUNTS_CHANGED, "post-a", IntNode.valueOf(i)));
+            dispatcher.dispatch(new CDCEventMessage(EventType.POST_COUNTS_CHANGED, "post-b", IntNode.valueOf(i)));
+        }
+        dispatcher.flush();
+
+        // Then
+        assertThat(handled).hasSize(100);
+        assertThat(handled.stream().filter(e -> e.startsWith("post-a:")).toList())
+                .containsExactlyElementsOf(expectedSequence("post-a"));
+        assertThat(handled.stream().filter(e -> e.startsWith("post-b:")).toList())
+                .containsExactlyElementsOf(expectedSequence("post-b"));
+        verify(bulkIndexer, times(4)).flush();
+        assertThat(meterRegistry.find("cdc.dispatch.queue.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("워커의 _bulk 반영이 실패하면 flush가 예외를 던진다")
+    void shouldFailFlushWhenBulkFails() {
+        // Given
+        doThrow(new SearchOperationException("bulk failed")).when(bulkIndexer).flush();
+        startDispatcher();
+
+        // When & Then
+        assertThatThrownBy(() -> dispatcher.flush())
+                .isInstanceOf(SearchOperationException.class);
+    }
+
+    private List<String> expectedSequence(String aggregateId) {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(aggregateId + ":" + i);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetEntity;
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * DatabaseOffsetBackingStore 단위 테스트
+ *
+ * 바뀐 offset만 한 번의 UPSERT로 저장하고, 변경이 없으면 DB에 접근하지 않는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseOffsetBackingStore Unit Test")
+class DatabaseOffsetBackingStoreTest {
+
+    @Mock
+    private DebeziumOffsetJpaRepository offsetRepository;
+
+    private DatabaseOffsetBackingStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(offsetRepository.findAll()).thenReturn(List.of());
+        DatabaseOffsetBackingStore.setOffsetRepository(offsetRepository);
+        store = new DatabaseOffsetBackingStore();
+        store.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.stop();
+    }
+
+    @Test
+    @DisplayName("변경된 offset만 한 번에 저장하고 같은 값은 다시 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertOnlyChangedOffsets() throws Exception {
+        // Given
+        store.set(Map.of(bytes("key-1"), bytes("{\"lsn\":1}"), bytes("key-2"), bytes("{\"lsn\":1}")), null).get();
+
+        // When: key-1만 변경
+        store.set(Map.of(bytes("key-1"), bytes("{\"lsn\":2}"), bytes("key-2"), bytes("{\"lsn\":1}")), null).get();
+        // When: 변경 없음
+        store.set(Map.of(bytes("key-1"), bytes("{\"lsn\":2}"), bytes("key-2"), bytes("{\"lsn\":1}")), null).get();
+
+        // Then
+        ArgumentCaptor<List<DebeziumOffsetEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(offsetRepository, times(2)).upsertAll(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        assertThat(captor.getAllValues().get(1))
+                .singleElement()
+                .satisfies(offset -> {
+                    assertThat(offset.getOffsetKey()).isEqualTo("key-1");
+                    assertThat(offset.getOffsetValue()).isEqualTo("{\"lsn\":2}");
+                });
+        verify(offsetRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("DB에서 불러온 offset과 같은 값은 저장하지 않는다")
+    void shouldSkipOffsetsLoadedFromDatabase() throws Exception {
+        // Given
+        store.stop();
+        when(offsetRepository.findAll()).thenReturn(List.of(new DebeziumOffsetEntity("id-1", "key-1", "{\"lsn\":1}")));
+        store = new DatabaseOffsetBackingStore();
+        store.start();
+
+        // When
+        store.set(Map.of(bytes("key-1"), bytes("{\"lsn\":1}")), null).get();
+
+        // Then
+        verify(offsetRepository, never()).upsertAll(anyList());
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.deuknetinfrastructure.external.messaging.debezium;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import org.example.deuknetapplication.messaging.EventType;
+import org.example.deuknetinfrastructure.external.messaging.handler.CDCEventMessage;
+import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DebeziumBatchChangeConsumer 단위 테스트
+ *
+ * 배치의 이벤트를 디스패처로 넘기고, 반영이 끝난 뒤에만 오프셋을 커밋하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DebeziumBatchChangeConsumer Unit Test")
+class DebeziumBatchChangeConsumerTest {
+
+    @Mock
+    private DebeziumEventHandler eventHandler;
+
+    @Mock
+    private CDCEventCoalescer coalescer;
+
+    @Mock
+    private CDCEventDispatcher dispatcher;
+
+    @Mock
+    private DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> committer;
+
+    private DebeziumBatchChangeConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new DebeziumBatchChangeConsumer(eventHandler, coalescer, dispatcher);
+    }
+
+    @Test
+    @DisplayName("배치의 이벤트를 디스패치하고 반영 완료 후 오프셋을 커밋한다")
+    void shouldCommitOffsetsAfterFlush() throws Exception {
+        // Given
+        ChangeEvent<String, String> first = record("key-1", "value-1");
+        ChangeEvent<String, String> tombstone = record("key-2", null);
+        CDCEventMessage message = new CDCEventMessage(EventType.POST_CREATED, "post-1", JsonNodeFactory.instance.objectNode());
+        when(eventHandler.parse("key-1", "value-1")).thenReturn(Optional.of(message));
+        when(coalescer.coalesce(List.of(message))).thenReturn(List.of(message));
+
+        // When
+        consumer.handleBatch(List.of(first, tombstone), committer);
+
+        // Then
+        InOrder inOrder = inOrder(dispatcher, committer);
+        inOrder.verify(dispatcher).dispatch(message);
+        inOrder.verify(dispatcher).flush();
+        inOrder.verify(committer).markProcessed(first);
+        inOrder.verify(committer).markProcessed(tombstone);
+        inOrder.verify(committer).markBatchFinished();
+        verify(eventHandler, never()).parse("key-2", null);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 오프셋을 커밋하지 않는다")
+    void shouldNotCommitOffsetsWhenFlushFails() throws Exception {
+        // Given
+        ChangeEvent<String, String> first = record("key-1", "value-1");
+        when(eventHandler.parse("key-1", "value-1")).thenReturn(Optional.empty());
+        when(coalescer.coalesce(List.of())).thenReturn(List.of());
+        doThrow(new SearchOperationException("bulk failed")).when(dispatcher).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.handleBatch(List.of(first), committer))
+                .isInstanceOf(SearchOperationException.class);
+
+        verify(dispatcher, never()).dispatch(any());
+        verify(committer, never()).markProcessed(any());
+        verify(committer, never()).markBatchFinished();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeEvent<String, String> record(String key, String value) {
+        ChangeEvent<String, String> record = mock(ChangeEvent.class);
+        lenient().when(record.key()).thenReturn(key);
+        when(record.value()).thenReturn(value);
+        return record;
+    }
+}
@@ -3,6 +3,8 @@ package org.example.deuknetinfrastructure.external.messaging.handler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.deuknetapplication.messaging.EventType;
 import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.projection.post.PostDetailProjection;
+import org.example.deuknetinfrastructure.external.search.adapter.PostSearchCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -29,13 +31,17 @@ class PostCDCEventHandlerTest {
     @Mock
     private PostProjectionCommandPort mockPostProjectionCommandPort;
 
+    @Mock
+    private PostSearchCache mockPostSearchCache;
+
     private PostCDCEventHandler postEventHandler;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        objectMapper = new ObjectMapper();
-        postEventHandler = new PostCDCEventHandler(mockPostProjectionCommandPort, objectMapper);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        postEventHandler = new PostCDCEventHandler(
+                mockPostProjectionCommandPort, new CDCPayloadReader(objectMapper), mockPostSearchCache);
     }
 
     @Test
@@ -63,7 +69,7 @@ class PostCDCEventHandlerTest {
               "id": "123e4567-e89b-12d3-a456-426614174000",
               "title": "Test Post",
               "content": "Test Content",
-              "authorId": "author-123",
+              "authorId": "123e4567-e89b-12d3-a456-426614174001",
               "status": "DRAFT",
               "viewCount": 0,
               "likeCount": 0,
@@ -74,7 +80,7 @@ class PostCDCEventHandlerTest {
 
         // When: POST_CREATED 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_CREATED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         postDetailPayload
@@ -82,11 +88,11 @@ class PostCDCEventHandlerTest {
         );
 
         // Then: indexPostDetail이 호출되어야 함
-        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<PostDetailProjection> payloadCaptor = ArgumentCaptor.forClass(PostDetailProjection.class);
         verify(mockPostProjectionCommandPort).indexPostDetail(payloadCaptor.capture());
         verify(mockPostProjectionCommandPort, never()).updatePostCounts(any());
 
-        assertThat(payloadCaptor.getValue()).contains("Test Post");
+        assertThat(payloadCaptor.getValue().getTitle()).isEqualTo("Test Post");
     }
 
     @Test
@@ -106,7 +112,7 @@ class PostCDCEventHandlerTest {
 
         // When: REACTION_ADDED 이벤트 처리 (EventType은 무관, payload 구조로 판단)
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_CREATED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         postCountPayload
@@ -114,7 +120,7 @@ class PostCDCEventHandlerTest {
         );
 
         // Then: updatePostCounts가 호출되어야 함
-        verify(mockPostProjectionCommandPort).updatePostCounts(postCountPayload);
+        verify(mockPostProjectionCommandPort).updatePostCounts(any());
         verify(mockPostProjectionCommandPort, never()).indexPostDetail(any());
     }
 
@@ -126,7 +132,7 @@ class PostCDCEventHandlerTest {
 
         // When: POST_DELETED 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_DELETED,
                         aggregateId,
                         "{}" // payload는 사용되지 않음
@@ -155,7 +161,7 @@ class PostCDCEventHandlerTest {
 
         // When: POST_PUBLISHED 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_PUBLISHED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         postDetailPayload
@@ -184,7 +190,7 @@ class PostCDCEventHandlerTest {
 
         // When: POST_PUBLISHED 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_PUBLISHED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         postCountPayload
@@ -212,7 +218,7 @@ class PostCDCEventHandlerTest {
 
         // When: 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_CREATED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         payload
@@ -238,7 +244,7 @@ class PostCDCEventHandlerTest {
 
         // When: 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_CREATED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         payload
@@ -265,7 +271,7 @@ class PostCDCEventHandlerTest {
 
         // When: POST_UPDATED 이벤트 처리
         postEventHandler.handle(
-                new CDCEventMessage(
+                message(
                         EventType.POST_UPDATED,
                         "123e4567-e89b-12d3-a456-426614174000",
                         payload
@@ -273,9 +279,13 @@ class PostCDCEventHandlerTest {
         );
 
         // Then: indexPostDetail이 호출되어야 함
-        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<PostDetailProjection> payloadCaptor = ArgumentCaptor.forClass(PostDetailProjection.class);
         verify(mockPostProjectionCommandPort).indexPostDetail(payloadCaptor.capture());
 
-        assertThat(payloadCaptor.getValue()).contains("Updated Title");
+        assertThat(payloadCaptor.getValue().getTitle()).isEqualTo("Updated Title");
+    }
+
+    private CDCEventMessage message(EventType eventType, String aggregateId, String payloadJson) throws Exception {
+        return new CDCEventMessage(eventType, aggregateId, objectMapper.readTree(payloadJson));
     }
 }
@@ -0,0 +1,75 @@
+package org.example.deuknetinfrastructure.external.messaging.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.deuknetapplication.messaging.EventType;
+import org.example.deuknetapplication.port.out.external.search.PostProjectionCommandPort;
+import org.example.deuknetapplication.projection.post.PostCountProjection;
+import org.example.deuknetinfrastructure.external.search.adapter.PostSearchCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReactionCDCEventHandler 단위 테스트
+ *
+ * 카운터 이벤트는 부분 업데이트로, 이전 형식의 Reaction 이벤트는 전체 재색인으로 처리하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactionCDCEventHandler Unit Test")
+class ReactionCDCEventHandlerTest {
+
+    @Mock
+    private PostProjectionCommandPort mockPostProjectionCommandPort;
+
+    @Mock
+    private PostSearchCache mockPostSearchCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReactionCDCEventHandler reactionEventHandler;
+
+    @BeforeEach
+    void setUp() {
+        reactionEventHandler = new ReactionCDCEventHandler(
+                mockPostProjectionCommandPort, new CDCPayloadReader(objectMapper), mockPostSearchCache);
+    }
+
+    @Test
+    @DisplayName("POST_COUNTS_CHANGED, REACTION_ADDED, REACTION_REMOVED 이벤트를 처리할 수 있다")
+    void shouldHandleCountAndReactionEvents() {
+        assertThat(reactionEventHandler.canHandle(EventType.POST_COUNTS_CHANGED)).isTrue();
+        assertThat(reactionEventHandler.canHandle(EventType.REACTION_ADDED)).isTrue();
+        assertThat(reactionEventHandler.canHandle(EventType.REACTION_REMOVED)).isTrue();
+        assertThat(reactionEventHandler.canHandle(EventType.POST_UPDATED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("POST_COUNTS_CHANGED 이벤트는 updatePostCounts만 호출한다")
+    void shouldUpdateCountsOnlyForCountEvent() throws Exception {
+        // Given
+        String payload = """
+            {"id": "123e4567-e89b-12d3-a456-426614174000", "likeCount": 3, "dislikeCount": 1}
+            """;
+        CDCEventMessage message = new CDCEventMessage(
+                EventType.POST_COUNTS_CHANGED, "123e4567-e89b-12d3-a456-426614174000", objectMapper.readTree(payload));
+
+        // When
+        reactionEventHandler.handle(message);
+
+        // Then
+        ArgumentCaptor<PostCountProjection> captor = ArgumentCaptor.forClass(PostCountProjection.class);
+        verify(mockPostProjectionCommandPort).updatePostCounts(captor.capture());
+        verify(mockPostProjectionCommandPort, never()).indexPostDetail(any());
+        assertThat(captor.getValue().getLikeCount()).isEqualTo(3L);
+        assertThat(captor.getValue().getDislikeCount()).isEqualTo(1L);
+        assertThat(captor.getValue().getViewCount()).isNull();
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.deuknetinfrastructure.external.messaging.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetEntity;
+import org.example.deuknetinfrastructure.data.debezium.DebeziumOffsetJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxPartitionMaintainer 단위 테스트
+ *
+ * DEFAULT 파티션에 쌓인 행 때문에 파티션을 만들지 못할 때의 처리를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPartitionMaintainer Unit Test")
+class OutboxPartitionMaintainerTest {
+
+    private static final String PURGE_SQL = "DELETE FROM outbox_event_log_default WHERE timestamp < ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DebeziumOffsetJpaRepository offsetRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxPartitionMaintainer maintainer;
+    private String todayPartition;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.getPartition().setPrecreateDays(1);
+        meterRegistry = new SimpleMeterRegistry();
+        maintainer = new OutboxPartitionMaintainer(jdbcTemplate, offsetRepository, properties, new ObjectMapper(), meterRegistry);
+        todayPartition = "outbox_event_log_p" + LocalDate.now(ZoneOffset.UTC).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("outbox_event_log"))).thenReturn(true);
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("outbox_event_log"))).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("DEFAULT 파티션의 확정된 행이 파티션 생성을 막으면 지우고 다시 생성한다")
+    void shouldPurgeConfirmedDefaultRowsAndRetryBlockedPartition() {
+        // Given
+        long confirmedMillis = System.currentTimeMillis();
+        givenConfirmedOffset(confirmedMillis);
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .doNothing()
+                .when(jdbcTemplate).execute(contains(todayPartition));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(3L);
+        when(jdbcTemplate.update(PURGE_SQL, confirmedMillis)).thenReturn(3);
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute(contains(todayPartition));
+        inOrder.verify(jdbcTemplate).update(PURGE_SQL, confirmedMillis);
+        inOrder.verify(jdbcTemplate).execute(contains(todayPartition));
+        assertThat(defaultRowsGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("확정 offset이 없으면 DEFAULT 파티션을 지우지 않고 남은 행 수를 게이지로 알린다")
+    void shouldReportDefaultRowsWithoutConfirmedOffset() {
+        // Given
+        when(offsetRepository.findAll()).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(jdbcTemplate).execute(contains(todayPartition));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(3L);
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).update(eq(PURGE_SQL), anyLong());
+        verify(jdbcTemplate, times(1)).execute(contains(todayPartition));
+        assertThat(defaultRowsGauge()).isEqualTo(3);
+    }
+
+    private void givenConfirmedOffset(long confirmedMillis) {
+        String offset = "{\"lsn\":1,\"ts_usec\":" + confirmedMillis * 1000 + "}";
+        when(offsetRepository.findAll()).thenReturn(List.of(new DebeziumOffsetEntity("id", "key", offset)));
+    }
+
+    private double defaultRowsGauge() {
+        return meterRegistry.get("outbox.partition.default.rows").gauge().value();
+    }
+}
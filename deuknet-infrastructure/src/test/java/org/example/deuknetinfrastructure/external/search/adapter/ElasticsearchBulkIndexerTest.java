@@ -0,0 +1,91 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import org.example.deuknetinfrastructure.external.search.exception.SearchOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ElasticsearchBulkIndexer 단위 테스트
+ */
+@DisplayName("ElasticsearchBulkIndexer Unit Test")
+class ElasticsearchBulkIndexerTest {
+
+    private ElasticsearchClient client;
+    private ElasticsearchBulkIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ElasticsearchClient.class);
+        indexer = new ElasticsearchBulkIndexer(client, new BulkIndexProperties());
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 항목 거부(mapper_parsing_exception)는 배치를 실패시킨다")
+    void shouldFailBatchOnRejectedItem() throws IOException {
+        // Given
+        givenBulkResponse(failedItem(400, "mapper_parsing_exception"));
+
+        // When & Then
+        indexer.begin();
+        try {
+            indexer.submit("post-1", indexOperation("post-1"), 100);
+            assertThatThrownBy(indexer::flush).isInstanceOf(SearchOperationException.class);
+        } finally {
+            indexer.end();
+        }
+    }
+
+    @Test
+    @DisplayName("아직 색인되지 않은 문서의 부분 갱신(document_missing_exception)은 건너뛴다")
+    void shouldSkipDocumentMissing() throws IOException {
+        // Given
+        givenBulkResponse(failedItem(404, "document_missing_exception"));
+
+        // When & Then
+        indexer.begin();
+        try {
+            indexer.submit("post-1", indexOperation("post-1"), 100);
+            assertThatCode(indexer::flush).doesNotThrowAnyException();
+        } finally {
+            indexer.end();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBulkResponse(BulkResponseItem item) throws IOException {
+        BulkResponse response = BulkResponse.of(b -> b.errors(true).took(1).items(item));
+        when(client.bulk(any(Function.class))).thenReturn(response);
+        when(client.bulk(any(BulkRequest.class))).thenReturn(response);
+    }
+
+    private BulkResponseItem failedItem(int status, String type) {
+        return BulkResponseItem.of(i -> i
+                .operationType(OperationType.Index)
+                .index("posts")
+                .id("post-1")
+                .status(status)
+                .error(ErrorCause.of(e -> e.type(type).reason(type))));
+    }
+
+    private BulkOperation indexOperation(String id) {
+        return BulkOperation.of(b -> b.index(i -> i.index("posts").id(id).document(Map.of("id", id))));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import org.example.deuknetinfrastructure.external.search.document.PostDetailDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * PostScoreCalculator 단위 테스트
+ */
+@DisplayName("PostScoreCalculator Unit Test")
+class PostScoreCalculatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 31, 12, 0);
+    private static final long NOW_MILLIS = NOW.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private final PostScoreCalculator calculator = new PostScoreCalculator();
+
+    @Test
+    @DisplayName("새 글은 감쇠 없이 인기도를, 경과 시간에 따라 실시간 점수를 계산한다")
+    void shouldCalculateScoresForRecentPost() {
+        // Given: 24시간 전 작성, 좋아요 10, 조회수 100
+        PostDetailDocument document = document(NOW.minusHours(24), 10L, 100L);
+
+        // When
+        calculator.applyScores(document, NOW_MILLIS);
+
+        // Then
+        assertThat(document.getPopularityScore()).isEqualTo(130.0);
+        assertThat(document.getTrendingScore()).isCloseTo((100 * 0.3 + 10 * 0.7) / 2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("30일이 지난 글은 인기도에 0.75 감쇠를 적용한다")
+    void shouldDecayPopularityAfter30Days() {
+        // Given
+        PostDetailDocument document = document(NOW.minusDays(31), 10L, 100L);
+
+        // When
+        calculator.applyScores(document, NOW_MILLIS);
+
+        // Then
+        assertThat(document.getPopularityScore()).isEqualTo(130.0 * 0.75);
+    }
+
+    private PostDetailDocument document(LocalDateTime createdAt, Long likeCount, Long viewCount) {
+        return PostDetailDocument.create(UUID.randomUUID(), "title", "content", UUID.randomUUID(), "REAL",
+                "PUBLIC", null, null, viewCount, 0L, likeCount, 0L, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetapplication.port.in.post.PageResponse;
+import org.example.deuknetapplication.port.in.post.PostSearchResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostSearchCache 단위 테스트
+ */
+@DisplayName("PostSearchCache Unit Test")
+class PostSearchCacheTest {
+
+    private final UUID postId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PostSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.getCache().setInvalidationDelayMs(50);
+        cache = new PostSearchCache(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 조건은 한 번만 조회하고, 반환된 복사본을 수정해도 캐시는 바뀌지 않는다")
+    void shouldCacheAndReturnCopies() {
+        // Given
+        PostSearchCache.SearchKey key = key(PostSearchCache.RECENT, categoryId);
+
+        // When
+        PageResponse<PostSearchResponse> first = cache.getPage(key, this::load);
+        first.getContent().get(0).setIsAuthor(true);
+        PageResponse<PostSearchResponse> second = cache.getPage(key, this::load);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second.getContent().get(0).getIsAuthor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 변경 시 해당 카테고리와 전체 카테고리 결과만 무효화한다")
+    void shouldInvalidateMatchingCategory() {
+        // Given
+        PostSearchCache.SearchKey sameCategory = key(PostSearchCache.RECENT, categoryId);
+        PostSearchCache.SearchKey allCategories = key(PostSearchCache.RECENT, null);
+        PostSearchCache.SearchKey otherCategory = key(PostSearchCache.RECENT, UUID.randomUUID());
+        cache.getPage(sameCategory, this::emptyPage);
+        cache.getPage(allCategories, this::emptyPage);
+        cache.getPage(otherCategory, this::emptyPage);
+
+        // When
+        cache.invalidatePostChanged(UUID.randomUUID(), categoryId);
+        cache.getPage(sameCategory, this::emptyPage);
+        cache.getPage(allCategories, this::emptyPage);
+        cache.getPage(otherCategory, this::emptyPage);
+
+        // Then
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("카운터 변경은 카운터 기준 정렬 결과만 무효화한다")
+    void shouldInvalidateOnlyCountSortedOnCountChange() {
+        // Given
+        PostSearchCache.SearchKey recent = key(PostSearchCache.RECENT, categoryId);
+        PostSearchCache.SearchKey popular = key(PostSearchCache.POPULAR, categoryId);
+        cache.getPage(recent, this::load);
+        cache.getPage(popular, this::load);
+
+        // When
+        cache.invalidateCountsChanged(postId);
+        cache.getPage(recent, this::load);
+        cache.getPage(popular, this::load);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제는 그 게시글을 포함한 결과만 무효화한다")
+    void shouldInvalidateOnlyPagesContainingDeletedPost() {
+        // Given
+        PostSearchCache.SearchKey containing = key(PostSearchCache.RECENT, categoryId);
+        PostSearchCache.SearchKey empty = key(PostSearchCache.RECENT, UUID.randomUUID());
+        cache.getPage(containing, this::load);
+        cache.getPage(empty, this::emptyPage);
+
+        // When
+        cache.invalidatePostDeleted(postId);
+        cache.getPage(containing, this::load);
+        cache.getPage(empty, this::emptyPage);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("지연 시간 뒤에 모아둔 이벤트로 한 번 더 무효화한다")
+    void shouldReinvalidateAfterDelay() throws InterruptedException {
+        // Given: 무효화 직후 색인 반영 전의 결과가 다시 적재됨
+        PostSearchCache.SearchKey popular = key(PostSearchCache.POPULAR, categoryId);
+        cache.getPage(popular, this::load);
+        for (int i = 0; i < 100; i++) {
+            cache.invalidateCountsChanged(postId);
+        }
+        cache.getPage(popular, this::load);
+
+        // When
+        Thread.sleep(300);
+        cache.getPage(popular, this::load);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    private PostSearchCache.SearchKey key(String sortType, UUID categoryId) {
+        return new PostSearchCache.SearchKey(sortType, null, null, categoryId, 0, 20, false, null);
+    }
+
+    private PageResponse<PostSearchResponse> load() {
+        loads.incrementAndGet();
+        PostSearchResponse post = new PostSearchResponse();
+        post.setId(postId);
+        post.setCategoryId(categoryId);
+        return new PageResponse<>(List.of(post), 1, 0, 20);
+    }
+
+    private PageResponse<PostSearchResponse> emptyPage() {
+        loads.incrementAndGet();
+        return new PageResponse<>(List.of(), 0, 0, 20);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.deuknetinfrastructure.external.search.adapter;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.deuknetapplication.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SearchCursorCodec 단위 테스트
+ */
+@DisplayName("SearchCursorCodec Unit Test")
+class SearchCursorCodecTest {
+
+    private final SearchCursorCodec codec = new SearchCursorCodec(new ObjectMapper());
+    private final String fingerprint = codec.fingerprint("RECENT", "keyword");
+
+    @Test
+    @DisplayName("sort 값, 페이지, PIT ID를 인코딩한 커서를 그대로 복원한다")
+    void shouldRoundTripCursor() {
+        // Given
+        SearchCursorCodec.SearchCursor cursor = new SearchCursorCodec.SearchCursor(
+                List.of(FieldValue.of(12.5), FieldValue.of(1730000000000L), FieldValue.of("0192-post-id")),
+                3,
+                "pit-id",
+                fingerprint
+        );
+
+        // When
+        String token = codec.encode(cursor);
+        SearchCursorCodec.SearchCursor decoded = codec.decode(token, fingerprint);
+
+        // Then
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(decoded.page()).isEqualTo(3);
+        assertThat(decoded.pitId()).isEqualTo("pit-id");
+        assertThat(decoded.searchAfter()).extracting(FieldValue::_get)
+                .containsExactly(12.5, 1730000000000L, "0192-post-id");
+    }
+
+    @Test
+    @DisplayName("빈 커서는 null로 처리한다")
+    void shouldReturnNullForBlankCursor() {
+        assertThat(codec.decode(null, fingerprint)).isNull();
+        assertThat(codec.decode(" ", fingerprint)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 InvalidCursorException을 던진다")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> codec.decode("not-a-cursor", fingerprint))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("다른 정렬/검색어로 발급된 커서는 InvalidCursorException을 던진다")
+    void shouldRejectCursorFromOtherSearchConditions() {
+        // Given
+        String token = codec.encode(new SearchCursorCodec.SearchCursor(
+                List.of(FieldValue.of(1730000000000L), FieldValue.of("0192-post-id")), 1, null, fingerprint));
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(token, codec.fingerprint("POPULAR", "keyword")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode(token, codec.fingerprint("RECENT", "other")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,352 @@
+package org.example.deuknetinfrastructure.external.storage.adapter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.deuknetapplication.common.exception.FileRangeNotSatisfiableException;
+import org.example.deuknetapplication.port.out.external.storage.FileContent;
+import org.example.deuknetapplication.port.out.external.storage.FileRedirect;
+import org.example.deuknetinfrastructure.config.HttpClientProperties;
+import org.example.deuknetinfrastructure.config.RestTemplateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SeaweedFSFileStorageAdapter 단위 테스트
+ *
+ * 로컬 HttpServer를 master/volume 서버 대역으로 사용합니다.
+ */
+@DisplayName("SeaweedFSFileStorageAdapter Unit Test")
+class SeaweedFSFileStorageAdapterTest {
+
+    private static final String FID = "3,01637037d6";
+    private static final String ASSIGNED_FID = "7,02a1b2c3d4";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final byte[] file = new byte[100_000];
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final List<String> assignCounts = new CopyOnWriteArrayList<>();
+
+    private HttpServer master;
+    private VolumeServer primary;
+    private VolumeServer replica;
+    private final SeaweedFSProperties properties = new SeaweedFSProperties();
+
+    private RestTemplateConfig restTemplateConfig;
+    private RestTemplate restTemplate;
+    private SeaweedFSVolumeLocator locator;
+    private SeaweedFSFidPool fidPool;
+    private String masterUrl;
+    private SeaweedFSFileStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Arrays.fill(file, (byte) 7);
+        primary = new VolumeServer();
+        replica = new VolumeServer();
+
+        master = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        master.createContext("/dir/lookup", exchange -> {
+            lookups.incrementAndGet();
+            respond(exchange, 200, "application/json", ("{\"volumeId\":\"3\",\"locations\":["
+                    + location(primary.address()) + "," + location(replica.address()) + "]}")
+                    .getBytes(StandardCharsets.UTF_8));
+        });
+        master.createContext("/dir/assign", exchange -> {
+            String count = exchange.getRequestURI().getQuery().replace("count=", "");
+            assignCounts.add(count);
+            respond(exchange, 200, "application/json", ("{\"fid\":\"" + ASSIGNED_FID + "\",\"url\":\"" + primary.address()
+                    + "\",\"publicUrl\":\"" + primary.address() + "\",\"count\":" + count + "}")
+                    .getBytes(StandardCharsets.UTF_8));
+        });
+        master.start();
+
+        restTemplateConfig = new RestTemplateConfig(new HttpClientProperties(), new SimpleMeterRegistry());
+        restTemplate = restTemplateConfig.seaweedFSRestTemplate();
+        masterUrl = "http://127.0.0.1:" + master.getAddress().getPort();
+        locator = new SeaweedFSVolumeLocator(restTemplate, masterUrl, properties, new SimpleMeterRegistry());
+        properties.getFidPool().setBatchSize(10);
+        properties.getFidPool().setLowWatermark(2);
+        fidPool = new SeaweedFSFidPool(restTemplate, masterUrl, properties, new SimpleMeterRegistry());
+        adapter = createAdapter();
+    }
+
+    private SeaweedFSFileStorageAdapter createAdapter() {
+        return new SeaweedFSFileStorageAdapter(restTemplate, locator,
+                new SeaweedFSRedirectResolver(locator, properties), fidPool, "http://cdn.example");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fidPool.shutdown();
+        restTemplateConfig.close();
+        master.stop(0);
+        primary.stop();
+        replica.stop();
+    }
+
+    @Test
+    @DisplayName("전체 파일을 스트림으로 내려준다")
+    void shouldStreamWholeFile() throws IOException {
+        // When
+        FileContent content = adapter.downloadFile(FID, null);
+
+        // Then
+        try (InputStream in = content.inputStream()) {
+            assertThat(content.isPartial()).isFalse();
+            assertThat(content.contentLength()).isEqualTo(file.length);
+            assertThat(in.readAllBytes()).isEqualTo(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Range 요청은 volume 서버의 206 응답을 그대로 전달한다")
+    void shouldPassThroughRange() throws IOException {
+        // When
+        FileContent content = adapter.downloadFile(FID, "bytes=10-19");
+
+        // Then
+        try (InputStream in = content.inputStream()) {
+            assertThat(content.contentRange()).isEqualTo("bytes 10-19/" + file.length);
+            assertThat(content.contentLength()).isEqualTo(10);
+            assertThat(in.readAllBytes()).hasSize(10);
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range는 전체 파일 길이를 담은 FileRangeNotSatisfiableException을 던진다")
+    void shouldRejectUnsatisfiableRange() {
+        assertThatThrownBy(() -> adapter.downloadFile(FID, "bytes=200000-200010"))
+                .isInstanceOf(FileRangeNotSatisfiableException.class)
+                .hasFieldOrPropertyWithValue("totalLength", (long) file.length);
+    }
+
+    @Test
+    @DisplayName("volume 위치는 캐싱되어 반복 다운로드에도 master를 한 번만 조회하고, replica를 번갈아 사용한다")
+    void shouldCacheLocationsAndRoundRobinReplicas() throws IOException {
+        // When
+        for (int i = 0; i < 10; i++) {
+            try (InputStream in = adapter.downloadFile(FID, null).inputStream()) {
+                in.readAllBytes();
+            }
+        }
+
+        // Then
+        assertThat(lookups).hasValue(1);
+        assertThat(primary.hits).hasValue(5);
+        assertThat(replica.hits).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("한 번의 GET으로 Content-Type과 본문을 함께 받는다")
+    void shouldReadContentTypeFromSameResponse() throws IOException {
+        // When
+        FileContent content = adapter.downloadFile(FID, null);
+        content.inputStream().close();
+
+        // Then
+        assertThat(content.contentType()).isEqualTo("image/png");
+        assertThat(primary.hits.get() + replica.hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 위치가 실패하면 위치를 다시 조회해 다른 replica로 재시도한다")
+    void shouldRefreshLocationAndRetryOnFailure() throws IOException {
+        // Given: 위치 캐싱 후 primary 장애
+        adapter.downloadFile(FID, null).inputStream().close();
+        primary.failing = true;
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            try (InputStream in = adapter.downloadFile(FID, null).inputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(file);
+            }
+        }
+
+        // Then
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("PROXY 모드에서는 리다이렉트 URL을 반환하지 않는다")
+    void shouldNotRedirectInProxyMode() {
+        assertThat(adapter.findRedirect(FID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("REDIRECT 모드에서는 volume 서버 URL에 fid 읽기 JWT를 붙여 반환하고, 본문은 요청하지 않는다")
+    void shouldRedirectToSignedVolumeUrl() {
+        // Given
+        String signingKey = "seaweedfs-read-signing-key-0123456789abcdef";
+        properties.getServing().setMode(SeaweedFSProperties.ServingMode.REDIRECT);
+        properties.getServing().setRedirectBaseUrl("http://{publicUrl}");
+        properties.getServing().setReadSigningKey(signingKey);
+        adapter = createAdapter();
+
+        // When
+        FileRedirect redirect = adapter.findRedirect(FID).orElseThrow();
+
+        // Then
+        assertThat(redirect.url()).startsWith("http://" + primary.address() + "/" + FID + "?jwt=");
+        String token = redirect.url().substring(redirect.url().indexOf("?jwt=") + 5);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(signingKey.getBytes(StandardCharsets.UTF_8))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        assertThat(claims.get("fid")).isEqualTo(FID);
+        assertThat(claims.getExpiration()).isAfter(new Date());
+        assertThat(redirect.maxAgeSeconds()).isPositive().isLessThan(properties.getServing().getSignedUrlTtl().toSeconds());
+        assertThat(primary.hits.get() + replica.hits.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("REDIRECT 모드에서 redirect-base-url이 없으면 기동 시 실패한다")
+    void shouldRequireRedirectBaseUrlInRedirectMode() {
+        // Given
+        properties.getServing().setMode(SeaweedFSProperties.ServingMode.REDIRECT);
+
+        // When & Then
+        assertThatThrownBy(() -> new SeaweedFSRedirectResolver(locator, properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("redirect-base-url");
+    }
+
+    @Test
+    @DisplayName("풀이 비어 있을 때만 직접 할당하고, 이후에는 count=N으로 받은 fid와 접미사 fid를 사용한다")
+    void shouldUploadWithPooledFids() throws InterruptedException {
+        // Given: 첫 업로드는 풀이 비어 있어 직접 할당하고, 백그라운드 보충을 시작
+        assertThat(upload()).isEqualTo(ASSIGNED_FID);
+        awaitPoolFilled();
+
+        // When
+        String first = upload();
+        String second = upload();
+        String third = upload();
+
+        // Then
+        assertThat(List.of(first, second, third))
+                .containsExactly(ASSIGNED_FID, ASSIGNED_FID + "_1", ASSIGNED_FID + "_2");
+        assertThat(assignCounts).containsExactlyInAnyOrder("1", "10");
+        assertThat(primary.uploads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("업로드가 실패하면 같은 volume 서버로 할당된 fid를 풀에서 버린다")
+    void shouldDiscardPooledFidsOnUploadFailure() throws InterruptedException {
+        // Given
+        upload();
+        awaitPoolFilled();
+        primary.failing = true;
+
+        // When & Then
+        assertThatThrownBy(this::upload).isInstanceOf(RuntimeException.class);
+        assertThat(fidPool.size()).isZero();
+    }
+
+    private String upload() {
+        byte[] bytes = "png".getBytes(StandardCharsets.UTF_8);
+        return adapter.uploadFile("image.png", new ByteArrayInputStream(bytes), "image/png", bytes.length);
+    }
+
+    private void awaitPoolFilled() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (fidPool.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(fidPool.size()).isPositive();
+    }
+
+    private String location(String address) {
+        return "{\"url\":\"" + address + "\",\"publicUrl\":\"" + address + "\"}";
+    }
+
+    /**
+     * Range를 지원하는 volume 서버 대역
+     */
+    private final class VolumeServer {
+
+        private final HttpServer server;
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger uploads = new AtomicInteger();
+        private volatile boolean failing;
+
+        private VolumeServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/" + FID, this::serveFile);
+            server.createContext("/" + ASSIGNED_FID, this::storeFile);
+            server.start();
+        }
+
+        private String address() {
+            return "127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+
+        private void storeFile(HttpExchange exchange) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            uploads.incrementAndGet();
+            if (failing) {
+                respond(exchange, 500, "text/plain", new byte[0]);
+                return;
+            }
+            respond(exchange, 201, "application/json", "{\"size\":3}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void serveFile(HttpExchange exchange) throws IOException {
+            hits.incrementAndGet();
+            if (failing) {
+                respond(exchange, 500, "text/plain", new byte[0]);
+                return;
+            }
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            if (range == null) {
+                respond(exchange, 200, "image/png", file);
+                return;
+            }
+            Matcher matcher = RANGE.matcher(range);
+            if (!matcher.matches() || Integer.parseInt(matcher.group(1)) >= file.length) {
+                exchange.getResponseHeaders().set("Content-Range", "bytes */" + file.length);
+                respond(exchange, 416, "text/plain", new byte[0]);
+                return;
+            }
+            int start = Integer.parseInt(matcher.group(1));
+            int end = Math.min(Integer.parseInt(matcher.group(2)), file.length - 1);
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + file.length);
+            respond(exchange, 206, "image/png", Arrays.copyOfRange(file, start, end + 1));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
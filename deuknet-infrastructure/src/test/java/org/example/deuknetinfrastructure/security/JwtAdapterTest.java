@@ -0,0 +1,87 @@
+package org.example.deuknetinfrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.deuknetapplication.port.out.security.AccessTokenClaims;
+import org.example.deuknetdomain.domain.auth.exception.InvalidTokenException;
+import org.example.deuknetdomain.domain.user.User;
+import org.example.deuknetdomain.domain.user.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtAdapter 단위 테스트
+ */
+@DisplayName("JwtAdapter Unit Test")
+class JwtAdapterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-adapter-unit-test-0123456789";
+
+    private final JwtAdapter jwtAdapter = new JwtAdapter(SECRET, 60_000, 600_000, 100);
+
+    private final User user = User.restore(
+            UUID.randomUUID(), UUID.randomUUID(), "tester", "Tester", null, null,
+            UserRole.ADMIN, true, 3L
+    );
+
+    @Test
+    @DisplayName("access token에 담긴 역할, 익명 접근 권한, 토큰 버전을 그대로 복원한다")
+    void shouldRoundTripAccessTokenClaims() {
+        // When
+        AccessTokenClaims claims = jwtAdapter.parseAccessToken(jwtAdapter.generateAccessToken(user));
+
+        // Then
+        assertThat(claims.userId()).isEqualTo(user.getId());
+        assertThat(claims.role()).isEqualTo(UserRole.ADMIN);
+        assertThat(claims.canAccessAnonymous()).isTrue();
+        assertThat(claims.tokenVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("refresh token은 access token으로 사용할 수 없다")
+    void shouldRejectRefreshTokenAsAccessToken() {
+        String refreshToken = jwtAdapter.generateRefreshToken(user.getId());
+
+        assertThatThrownBy(() -> jwtAdapter.parseAccessToken(refreshToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("권한 claim이 없는 이전 형식의 access token은 거부한다")
+    void shouldRejectLegacyAccessToken() {
+        // Given
+        String legacyToken = Jwts.builder()
+                .setSubject(user.getId().toString())
+                .claim("type", "access")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> jwtAdapter.parseAccessToken(legacyToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰을 캐싱한 뒤에도 서명이 변조된 토큰은 거부한다")
+    void shouldRejectTamperedTokenAfterCaching() {
+        // Given
+        String token = jwtAdapter.generateAccessToken(user);
+        jwtAdapter.parseAccessToken(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThat(jwtAdapter.parseAccessToken(token).userId()).isEqualTo(user.getId());
+        assertThatThrownBy(() -> jwtAdapter.parseAccessToken(tampered))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.deuknetinfrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.deuknetapplication.port.out.repository.UserRepository;
+import org.example.deuknetapplication.port.out.security.AccessTokenClaims;
+import org.example.deuknetapplication.port.out.security.JwtPort;
+import org.example.deuknetdomain.domain.user.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthenticationFilter 단위 테스트
+ */
+@DisplayName("JwtAuthenticationFilter Unit Test")
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "access-token";
+
+    private final UUID userId = UUID.randomUUID();
+    private final JwtPort jwtPort = mock(JwtPort.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final FilterChain filterChain = mock(FilterChain.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtPort, userRepository);
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        response = new MockHttpServletResponse();
+        when(jwtPort.parseAccessToken(TOKEN)).thenReturn(new AccessTokenClaims(userId, UserRole.USER, false, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 인증하지 않고 필터 체인을 한 번만 진행한다")
+    void shouldContinueChainOnceForRevokedToken() throws Exception {
+        // Given
+        when(userRepository.findTokenVersion(userId)).thenReturn(Optional.of(2L));
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 요청의 하위 체인 예외는 삼키지 않고 그대로 전파한다")
+    void shouldPropagateDownstreamExceptionForRevokedToken() throws Exception {
+        // Given
+        when(userRepository.findTokenVersion(userId)).thenReturn(Optional.of(2L));
+        doThrow(new ServletException("downstream")).when(filterChain).doFilter(any(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> filter.doFilter(request, response, filterChain))
+                .isInstanceOf(ServletException.class)
+                .hasMessage("downstream");
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 인증 정보를 설정하고 필터 체인을 진행한다")
+    void shouldAuthenticateValidToken() throws Exception {
+        // Given
+        when(userRepository.findTokenVersion(userId)).thenReturn(Optional.of(1L));
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+}
@@ -1,17 +1,22 @@
 package org.example.deuknetpresentation.controller.file;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.deuknetapplication.port.in.file.DownloadFileUseCase;
 import org.example.deuknetapplication.port.in.file.UploadFileUseCase;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.CacheControl;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -23,6 +28,10 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class FileController {
 
+    private static final int DOWNLOAD_BUFFER_SIZE = 16 * 1024;
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+
     private final UploadFileUseCase uploadFileUseCase;
     private final DownloadFileUseCase downloadFileUseCase;
 
@@ -50,16 +59,97 @@ public class FileController {
     }
 
     /**
-     * 파일 다운로드 (캐싱 지원)
+     * 파일 다운로드 (스트리밍, Range 지원)
+     * <br>
+     * fid는 내용이 바뀌지 않으므로 fid 자체를 strong ETag로 쓰고 immutable로 캐싱합니다.
+     * If-None-Match가 일치하면 저장소를 조회하지 않고 304를 반환합니다.
+     * 본문은 힙에 모으지 않고 고정 크기 버퍼로 volume 서버 응답을 그대로 흘려보냅니다.
+     * 리다이렉트 제공 방식이면 volume 서버 URL로 캐싱 가능한 302를 반환합니다.
      */
     @GetMapping("/{fileName}")
-    public ResponseEntity<InputStreamResource> downloadFile(@PathVariable String fileName) {
-        DownloadFileUseCase.FileDownloadResponse response = downloadFileUseCase.downloadFile(fileName);
+    public void downloadFile(
+            @PathVariable String fileName,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response
+    ) throws IOException {
+        String etag = "\"" + fileName + "\"";
+        if (matchesEtag(ifNoneMatch, etag)) {
+            writeCacheHeaders(response, etag);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        Optional<DownloadFileUseCase.FileRedirectResponse> redirect = downloadFileUseCase.findRedirect(fileName);
+        if (redirect.isPresent()) {
+            // 리다이렉트 제공 방식: 본문은 volume 서버가 직접 전송
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.maxAge(redirect.get().maxAgeSeconds(), TimeUnit.SECONDS).cachePublic().getHeaderValue());
+            response.setHeader(HttpHeaders.LOCATION, redirect.get().url());
+            response.setStatus(HttpStatus.FOUND.value());
+            return;
+        }
+
+        DownloadFileUseCase.FileDownloadResponse file = downloadFileUseCase.downloadFile(fileName, singleRange(range));
+
+        try (InputStream body = file.inputStream()) {
+            writeCacheHeaders(response, etag);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setContentType(file.contentType());
+            if (file.contentLength() >= 0) {
+                response.setContentLengthLong(file.contentLength());
+            }
+            if (file.isPartial()) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, file.contentRange());
+            }
+
+            byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+            OutputStream out = response.getOutputStream();
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void writeCacheHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(response.contentType()))
-                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
-                .body(new InputStreamResource(response.inputStream()));
+    /**
+     * If-None-Match 비교 (약한 비교, "*" 및 목록 지원)
+     */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 구간 Range만 저장소로 전달
+     * 여러 구간이거나 형식이 잘못된 Range는 무시하고 전체 파일을 반환합니다 (RFC 9110 허용).
+     */
+    private String singleRange(String range) {
+        if (range == null) {
+            return null;
+        }
+        try {
+            return HttpRange.parseRanges(range).size() == 1 ? range : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     /**
@@ -117,7 +117,7 @@ public interface PostApi {
 
     @Operation(
             summary = "게시글 검색 (통합)",
-            description = "게시글을 검색합니다. sortType으로 최신순/인기순을 선택할 수 있습니다. 항상 PUBLISHED 상태만 조회됩니다. 익명 게시물은 canAccessAnonymous 권한이 있는 사용자에게만 자동으로 포함됩니다."
+            description = "게시글을 검색합니다. sortType으로 최신순/인기순을 선택할 수 있습니다. 항상 PUBLISHED 상태만 조회됩니다. 익명 게시물은 canAccessAnonymous 권한이 있는 사용자에게만 자동으로 포함됩니다. 무한 스크롤은 응답의 nextCursor를 cursor로 전달하세요."
     )
     @ApiResponses({
             @ApiResponse(
@@ -132,7 +132,8 @@ public interface PostApi {
             @Parameter(description = "작성자 ID") @RequestParam(required = false) UUID authorId,
             @Parameter(description = "정렬 타입 (RECENT: 최신순, POPULAR: 인기순)") @RequestParam(defaultValue = "RECENT") String sortType,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 
     @Operation(
@@ -166,6 +167,7 @@ public interface PostApi {
     ResponseEntity<PageResponse<PostSearchResponse>> getFeaturedPosts(
             @Parameter(description = "카테고리 ID (선택사항)") @RequestParam(required = false) UUID categoryId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기 (최대 20)") @RequestParam(defaultValue = "20") int size
+            @Parameter(description = "페이지 크기 (최대 20)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)") @RequestParam(required = false) String cursor
     );
 }
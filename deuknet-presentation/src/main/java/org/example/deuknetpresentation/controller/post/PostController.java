@@ -112,7 +112,8 @@ public class PostController implements PostApi {
             @RequestParam(required = false) UUID authorId,
             @RequestParam(defaultValue = "RECENT") String sortType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor
     ){
         // 페이지 크기 제한: 최대 100
         if (size > 100) {
@@ -137,6 +138,7 @@ public class PostController implements PostApi {
                 .sortType(sortTypeEnum)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
                 .includeAnonymous(true)  // Service에서 권한 및 authorId 기반으로 판단
                 .build();
 
@@ -180,14 +182,15 @@ public class PostController implements PostApi {
     public ResponseEntity<PageResponse<PostSearchResponse>> getFeaturedPosts(
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor
     ) {
         // 페이지 크기 제한: 최대 20
         if (size > 20) {
             size = 20;
         }
 
-        PageResponse<PostSearchResponse> results = searchPostUseCase.findFeaturedPosts(categoryId, page, size);
+        PageResponse<PostSearchResponse> results = searchPostUseCase.findFeaturedPosts(categoryId, page, size, cursor);
         return ResponseEntity.ok(results);
     }
 
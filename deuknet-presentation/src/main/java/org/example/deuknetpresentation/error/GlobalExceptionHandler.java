@@ -1,9 +1,11 @@
 package org.example.deuknetpresentation.error;
 
 import org.apache.catalina.connector.ClientAbortException;
+import org.example.deuknetapplication.common.exception.FileRangeNotSatisfiableException;
 import org.example.deuknetdomain.common.exception.DeukNetException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -45,6 +47,27 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 파일 Range 요청 실패 처리 (416)
+     * RFC 9110에 따라 전체 파일 길이를 알면 Content-Range 헤더로 함께 알립니다.
+     */
+    @ExceptionHandler(FileRangeNotSatisfiableException.class)
+    public ResponseEntity<ErrorResponse> handleFileRangeNotSatisfiableException(FileRangeNotSatisfiableException e) {
+        log.debug("Range not satisfiable: {}", e.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                e.getStatus(),
+                e.getCode(),
+                e.getMessage()
+        );
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getStatus());
+        if (e.getTotalLength() >= 0) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes */" + e.getTotalLength());
+        }
+        return builder.body(response);
+    }
+
     /**
      * Validation 실패 처리 (@Valid 어노테이션)
      */
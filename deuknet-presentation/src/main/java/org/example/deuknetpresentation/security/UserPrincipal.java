@@ -2,5 +2,11 @@ package org.example.deuknetpresentation.security;
 
 import java.util.UUID;
 
-public record UserPrincipal(UUID userId) {
+/**
+ * 인증된 사용자 정보 (access token claim에서 생성)
+ *
+ * @param userId             사용자 ID
+ * @param canAccessAnonymous 익명 접근 권한
+ */
+public record UserPrincipal(UUID userId, boolean canAccessAnonymous) {
 }
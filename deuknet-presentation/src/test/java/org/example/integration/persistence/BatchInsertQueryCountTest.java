@@ -0,0 +1,87 @@
+package org.example.integration.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.deuknetapplication.port.out.repository.ReactionRepository;
+import org.example.deuknetdomain.domain.reaction.Reaction;
+import org.example.deuknetdomain.domain.reaction.ReactionType;
+import org.example.deuknetdomain.domain.reaction.TargetType;
+import org.example.deuknetdomain.domain.user.User;
+import org.example.seedwork.AbstractTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 할당된 UUID를 가진 새 Aggregate가 merge SELECT 없이 배치 INSERT되고,
+ * 저장소에서 조회한 Aggregate는 INSERT가 아닌 UPDATE로 저장되는지 검증합니다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BatchInsertQueryCountTest extends AbstractTest {
+
+    private static final int BATCH_SIZE = 20;
+    private static final int COUNT = 50;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.flush();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("새 Reaction 저장은 SELECT 없이 batch_size 단위의 INSERT로 실행된다")
+    void newAggregatesAreBatchInsertedWithoutSelect() {
+        UUID userId = UUID.randomUUID();
+
+        for (int i = 0; i < COUNT; i++) {
+            reactionRepository.save(Reaction.create(ReactionType.LIKE, TargetType.POST, UUID.randomUUID(), userId));
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(COUNT);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // merge였다면 행마다 SELECT가 추가로 준비됨
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo((COUNT + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("저장소에서 조회한 Aggregate를 수정해 저장하면 추가 SELECT 없이 UPDATE 한 번만 실행된다")
+    void loadedAggregateIsUpdatedWithoutExtraSelect() {
+        String username = "batch-" + UUID.randomUUID().toString().substring(0, 8);
+        User created = userRepository.save(User.create(UUID.randomUUID(), username, "before", null, null));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        User loaded = userRepository.findById(created.getId()).orElseThrow();
+        userRepository.save(loaded.updateProfile("after", null, null));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        // 조회 1회(findById) 외에 merge를 위한 SELECT가 없어야 함
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
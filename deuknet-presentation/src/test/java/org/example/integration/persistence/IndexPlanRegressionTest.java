@@ -0,0 +1,165 @@
+package org.example.integration.persistence;
+
+import org.example.seedwork.TestPostgreSQLContainer;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 패턴별 인덱스 회귀 테스트
+ * <br>
+ * Flyway 마이그레이션을 그대로 적용한 별도 DB에 데이터를 채운 뒤,
+ * 주요 쿼리의 EXPLAIN 결과가 기대한 인덱스를 사용하는지 확인합니다.
+ * 애플리케이션 컨텍스트(create-drop 스키마)와 섞이지 않도록 DB를 따로 만듭니다.
+ */
+class IndexPlanRegressionTest {
+
+    private static final String DATABASE = "index_plan_test";
+
+    private static final String USER_ID = "00000000-0000-7000-8000-000000000001";
+    private static final String POST_ID = "00000000-0000-7000-8000-000000000002";
+    private static final String CATEGORY_ID = "00000000-0000-7000-8000-000000000003";
+
+    private static String jdbcUrl;
+    private static PostgreSQLContainer<?> postgres;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        postgres = TestPostgreSQLContainer.getInstance();
+        try (Connection conn = connect(postgres.getJdbcUrl());
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP DATABASE IF EXISTS " + DATABASE);
+            stmt.execute("CREATE DATABASE " + DATABASE);
+        }
+        jdbcUrl = postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/" + DATABASE);
+
+        Flyway.configure()
+                .dataSource(jdbcUrl, postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        try (Connection conn = connect(jdbcUrl);
+             Statement stmt = conn.createStatement()) {
+            // 게시글 2만 건 (1/4만 공개)
+            stmt.execute("""
+                    INSERT INTO posts (id, title, content, author_id, category_id, status, author_type, created_at, updated_at)
+                    SELECT CASE WHEN i = 1 THEN '%s'::uuid ELSE gen_random_uuid() END,
+                           'title ' || i, 'content', gen_random_uuid(),
+                           CASE WHEN i %% 10 = 0 THEN '%s'::uuid ELSE gen_random_uuid() END,
+                           CASE WHEN i %% 4 = 0 THEN 'PUBLIC' ELSE 'PRIVATE' END,
+                           'REAL', now() - (i || ' minutes')::interval, now()
+                    FROM generate_series(1, 20000) AS i
+                    """.formatted(POST_ID, CATEGORY_ID));
+            // 반응 10만 건 (사용자 1000명, 게시글 2000개)
+            stmt.execute("""
+                    INSERT INTO reactions (id, target_type, target_id, user_id, reaction_type, created_at)
+                    SELECT gen_random_uuid(), 'POST',
+                           CASE WHEN i %% 2000 = 0 THEN '%s'::uuid ELSE md5((i %% 2000)::text)::uuid END,
+                           CASE WHEN i %% 1000 = 0 THEN '%s'::uuid ELSE md5('u' || (i %% 1000))::uuid END,
+                           CASE WHEN i %% 3 = 0 THEN 'DISLIKE' ELSE 'LIKE' END,
+                           now() - (i || ' seconds')::interval
+                    FROM generate_series(1, 100000) AS i
+                    """.formatted(POST_ID, USER_ID));
+            // 댓글 5만 건 (게시글 500개)
+            stmt.execute("""
+                    INSERT INTO comments (id, post_id, author_id, content, author_type, created_at, updated_at)
+                    SELECT gen_random_uuid(),
+                           CASE WHEN i %% 500 = 0 THEN '%s'::uuid ELSE md5((i %% 500)::text)::uuid END,
+                           gen_random_uuid(), 'comment', 'REAL',
+                           now() - (i || ' seconds')::interval, now()
+                    FROM generate_series(1, 50000) AS i
+                    """.formatted(POST_ID));
+            // index-only scan은 visibility map이 채워져 있어야 선택됨
+            stmt.execute("VACUUM ANALYZE posts");
+            stmt.execute("VACUUM ANALYZE reactions");
+            stmt.execute("VACUUM ANALYZE comments");
+        }
+    }
+
+    @Test
+    @DisplayName("게시글별 반응 집계는 (target_id, reaction_type) index-only scan")
+    void countByTargetAndType() throws SQLException {
+        String plan = explain("SELECT count(*) FROM reactions WHERE target_id = '%s' AND reaction_type = 'LIKE'"
+                .formatted(POST_ID));
+
+        assertThat(plan).contains("Index Only Scan using idx_reactions_target_id_type");
+    }
+
+    @Test
+    @DisplayName("사용자의 게시글 반응 존재 여부는 (target_id, user_id, reaction_type) index-only scan")
+    void existsByTargetUserAndType() throws SQLException {
+        String plan = explain(("SELECT 1 FROM reactions WHERE target_id = '%s' AND user_id = '%s' "
+                + "AND reaction_type = 'LIKE' LIMIT 1").formatted(POST_ID, USER_ID));
+
+        assertThat(plan).contains("Index Only Scan using idx_reactions_target_user_type");
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록은 정렬 없이 커버링 인덱스 index-only scan")
+    void likedPostIdsOrderedByCreatedAt() throws SQLException {
+        String plan = explain(("SELECT target_id FROM reactions WHERE user_id = '%s' AND reaction_type = 'LIKE' "
+                + "AND target_type = 'POST' ORDER BY created_at DESC LIMIT 20").formatted(USER_ID));
+
+        assertThat(plan).contains("Index Only Scan using idx_reactions_user_type_target_created");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("사용자 반응 상태 조회는 커버링 인덱스 index-only scan")
+    void userReactionStates() throws SQLException {
+        String plan = explain(("SELECT id, target_id, reaction_type FROM reactions WHERE user_id = '%s' "
+                + "AND target_type = 'POST' AND reaction_type IN ('LIKE', 'DISLIKE')").formatted(USER_ID));
+
+        assertThat(plan).contains("Index Only Scan using idx_reactions_user_type_target_created");
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 (post_id, created_at) 인덱스로 정렬 없이 조회")
+    void commentsByPostOrderedByCreatedAt() throws SQLException {
+        String plan = explain("SELECT post_id, created_at FROM comments WHERE post_id = '%s' ORDER BY created_at"
+                .formatted(POST_ID));
+
+        assertThat(plan).contains("Index Only Scan using idx_comments_post_id_created_at");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("공개 게시글 목록은 부분 인덱스 사용")
+    void publicPostsUsePartialIndex() throws SQLException {
+        String recent = explain("SELECT created_at FROM posts WHERE status = 'PUBLIC' ORDER BY created_at DESC LIMIT 20");
+        String byCategory = explain(("SELECT category_id, created_at FROM posts WHERE status = 'PUBLIC' "
+                + "AND category_id = '%s' ORDER BY created_at DESC LIMIT 20").formatted(CATEGORY_ID));
+
+        assertThat(recent).contains("Index Only Scan using idx_posts_public_created_at");
+        assertThat(byCategory).contains("Index Only Scan using idx_posts_public_category_created_at");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection conn = connect(jdbcUrl);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+    }
+}
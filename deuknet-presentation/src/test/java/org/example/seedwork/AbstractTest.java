@@ -90,7 +90,7 @@ public abstract class AbstractTest {
      * Debezium Publication 생성 헬퍼 메서드
      *
      * CDC 테스트를 위해 PostgreSQL Publication을 생성합니다.
-     * outbox_events 테이블이 생성된 후에 호출해야 합니다.
+     * outbox_event_log 테이블이 생성된 후에 호출해야 합니다.
      */
     protected void createDebeziumPublication() {
         try (Connection conn = dataSource.getConnection();
@@ -101,7 +101,7 @@ public abstract class AbstractTest {
                 "DO $$ " +
                 "BEGIN " +
                 "   IF NOT EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'deuknet_outbox_publication') THEN " +
-                "       CREATE PUBLICATION deuknet_outbox_publication FOR TABLE outbox_events; " +
+                "       CREATE PUBLICATION deuknet_outbox_publication FOR TABLE outbox_event_log; " +
                 "   END IF; " +
                 "END $$;"
             );
@@ -5,6 +5,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @TestConfiguration
@@ -15,6 +16,21 @@ public class TestSecurityConfig {
     @Bean
     @Primary
     public CurrentUserPort testCurrentUserPort() {
-        return () -> TEST_USER_ID;
+        return new CurrentUserPort() {
+            @Override
+            public UUID getCurrentUserId() {
+                return TEST_USER_ID;
+            }
+
+            @Override
+            public Optional<UUID> findCurrentUserId() {
+                return Optional.of(TEST_USER_ID);
+            }
+
+            @Override
+            public boolean canCurrentUserAccessAnonymous() {
+                return true;
+            }
+        };
     }
 }